@@ -0,0 +1,76 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.CheckedConsumer;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link CheckedBatchExecutor} against a sequential {@code forEach} for blocking work (sleeping
+ * {@code workMicros}, like a remote call would) and for cheap CPU work, where the batch size is what keeps the
+ * scheduling overhead from dominating.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckedBatchExecutorBenchmark {
+
+    @Param({"1", "64"})
+    private int batchSize;
+
+    private List<Integer> blockingInputs;
+    private List<Integer> cpuInputs;
+    private CheckedBatchExecutor executor;
+
+    private final CheckedConsumer<Integer> blockingWork = x -> TimeUnit.MICROSECONDS.sleep(100);
+
+    @Setup
+    public void setup() {
+        blockingInputs = List.range(0, 256);
+        cpuInputs = List.range(0, 100_000);
+        executor = CheckedBatchExecutor.builder().threads(16).batchSize(batchSize).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public void blocking_sequential_forEach() {
+        blockingInputs.forEach(x -> Try.run(() -> blockingWork.accept(x)));
+    }
+
+    @Benchmark
+    public Seq<Try<Void>> blocking_batch_executor() {
+        return executor.forEach(blockingInputs, blockingWork);
+    }
+
+    @Benchmark
+    public void cpu_sequential_forEach(Blackhole blackhole) {
+        cpuInputs.forEach(x -> blackhole.consume(Try.of(() -> Integer.toHexString(x * 31))));
+    }
+
+    @Benchmark
+    public Seq<Try<String>> cpu_batch_executor() {
+        return executor.map(cpuInputs, x -> Integer.toHexString(x * 31));
+    }
+}
@@ -0,0 +1,103 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.Predicates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Evaluating random and / or / not trees of {@code depth} levels over the fields of an event, composed with
+ * {@link Predicates#allOf} and friends against the same tree compiled into a {@link CompiledPredicate}. The leaves have
+ * very different selectivities, which is what the compiled version learns to exploit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OperationsPerInvocation(CompiledPredicateBenchmark.EVENTS)
+public class CompiledPredicateBenchmark {
+
+    static final int EVENTS = 1024;
+
+    @Param({"3", "5", "7"})
+    private int depth;
+
+    private final int[][] events = new int[EVENTS][];
+    private Predicate<int[]> composed;
+    private CompiledPredicate<int[]> compiled;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = new int[]{random.nextInt(100), random.nextInt(1000), random.nextInt(10), random.nextInt(2)};
+        }
+        long seed = random.nextLong();
+        composed = vavrTree(new Random(seed), depth);
+        compiled = conditionTree(new Random(seed), depth).compile();
+    }
+
+    @Benchmark
+    public int vavr_composed_predicates() {
+        int matches = 0;
+        for (int[] event : events) {
+            if (composed.test(event)) matches++;
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int compiled_predicate() {
+        int matches = 0;
+        for (int[] event : events) {
+            if (compiled.test(event)) matches++;
+        }
+        return matches;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<int[]> vavrTree(Random random, int depth) {
+        if (depth == 0) return leaf(random);
+        switch (random.nextInt(3)) {
+            case 0:
+                return Predicates.allOf(vavrTree(random, depth - 1), vavrTree(random, depth - 1), vavrTree(random, depth - 1));
+            case 1:
+                return Predicates.anyOf(vavrTree(random, depth - 1), vavrTree(random, depth - 1), vavrTree(random, depth - 1));
+            default:
+                return Predicates.noneOf(vavrTree(random, depth - 1), vavrTree(random, depth - 1));
+        }
+    }
+
+    private static Condition<int[]> conditionTree(Random random, int depth) {
+        if (depth == 0) return Condition.of(leaf(random));
+        switch (random.nextInt(3)) {
+            case 0:
+                return Condition.allOf(conditionTree(random, depth - 1), conditionTree(random, depth - 1), conditionTree(random, depth - 1));
+            case 1:
+                return Condition.anyOf(conditionTree(random, depth - 1), conditionTree(random, depth - 1), conditionTree(random, depth - 1));
+            default:
+                return Condition.noneOf(conditionTree(random, depth - 1), conditionTree(random, depth - 1));
+        }
+    }
+
+    private static Predicate<int[]> leaf(Random random) {
+        int field = random.nextInt(4);
+        int threshold = random.nextInt(field == 1 ? 1000 : field == 0 ? 100 : field == 2 ? 10 : 2);
+        return event -> event[field] < threshold;
+    }
+}
@@ -0,0 +1,58 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Overhead per call of an {@link Instrumentation} wrapped function over the plain one, timing 1 of every 16 calls (the
+ * default) and every call. Run it with {@code -t 4} too, to see the counters under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@Threads(1)
+public class InstrumentationBenchmark {
+
+    private final Function<Integer, Integer> plain = x -> x * 31 + 7;
+
+    private Function<Integer, Integer> sampled;
+    private Function<Integer, Integer> timedEveryCall;
+    private int input;
+
+    @Setup
+    public void setup() {
+        sampled = new Instrumentation().function("sampled", plain);
+        timedEveryCall = new Instrumentation(1).function("timedEveryCall", plain);
+        input = 42;
+    }
+
+    @Benchmark
+    public Integer plain_function() {
+        return plain.apply(input);
+    }
+
+    @Benchmark
+    public Integer instrumented_function_sampled() {
+        return sampled.apply(input);
+    }
+
+    @Benchmark
+    public Integer instrumented_function_timing_every_call() {
+        return timedEveryCall.apply(input);
+    }
+}
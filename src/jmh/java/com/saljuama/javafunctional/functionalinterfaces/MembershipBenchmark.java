@@ -0,0 +1,116 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.Predicates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * {@link Predicates#isIn} against the {@link Membership} predicates, testing {@value #PROBES} values of which half are
+ * members, for {@code size} values in the set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OperationsPerInvocation(MembershipBenchmark.PROBES)
+public class MembershipBenchmark {
+
+    static final int PROBES = 1024;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int size;
+
+    private final int[] intProbes = new int[PROBES];
+    private final Integer[] boxedProbes = new Integer[PROBES];
+    private final String[] stringProbes = new String[PROBES];
+
+    private Predicate<Integer> vavrIntegers;
+    private Predicate<String> vavrStrings;
+    private IntPredicate membershipInts;
+    private Predicate<Integer> membershipIntegers;
+    private Predicate<String> membershipStrings;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        int[] values = random.ints(size).toArray();
+        Integer[] boxedValues = new Integer[size];
+        String[] stringValues = new String[size];
+        for (int i = 0; i < size; i++) {
+            boxedValues[i] = values[i];
+            stringValues[i] = "id-" + values[i];
+        }
+        for (int i = 0; i < PROBES; i++) {
+            intProbes[i] = i % 2 == 0 ? values[random.nextInt(size)] : random.nextInt();
+            boxedProbes[i] = intProbes[i];
+            stringProbes[i] = "id-" + intProbes[i];
+        }
+        vavrIntegers = Predicates.isIn(boxedValues);
+        vavrStrings = Predicates.isIn(stringValues);
+        membershipInts = Membership.intIn(values);
+        membershipIntegers = Membership.isIn(boxedValues);
+        membershipStrings = Membership.stringIn(stringValues);
+    }
+
+    @Benchmark
+    public int vavr_is_in_integers() {
+        int members = 0;
+        for (Integer probe : boxedProbes) {
+            if (vavrIntegers.test(probe)) members++;
+        }
+        return members;
+    }
+
+    @Benchmark
+    public int membership_is_in_integers() {
+        int members = 0;
+        for (Integer probe : boxedProbes) {
+            if (membershipIntegers.test(probe)) members++;
+        }
+        return members;
+    }
+
+    @Benchmark
+    public int membership_int_in() {
+        int members = 0;
+        for (int probe : intProbes) {
+            if (membershipInts.test(probe)) members++;
+        }
+        return members;
+    }
+
+    @Benchmark
+    public int vavr_is_in_strings() {
+        int members = 0;
+        for (String probe : stringProbes) {
+            if (vavrStrings.test(probe)) members++;
+        }
+        return members;
+    }
+
+    @Benchmark
+    public int membership_string_in() {
+        int members = 0;
+        for (String probe : stringProbes) {
+            if (membershipStrings.test(probe)) members++;
+        }
+        return members;
+    }
+}
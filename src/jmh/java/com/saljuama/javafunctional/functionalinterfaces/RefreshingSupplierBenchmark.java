@@ -0,0 +1,68 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.Lazy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Read throughput of a {@link RefreshingSupplier} refreshing every millisecond, so reads keep racing with background
+ * refreshes, against vavr's {@link Lazy}, which never refreshes, and against a supplier that refreshes under a lock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@Threads(Threads.MAX)
+public class RefreshingSupplierBenchmark {
+
+    private final Supplier<String> token = () -> "token-" + System.nanoTime();
+
+    private final Lazy<String> lazy = Lazy.of(token);
+
+    private final RefreshingSupplier<String> refreshing = RefreshingSupplier.<String>builder(token)
+            .refreshAfter(Duration.ofMillis(1))
+            .build();
+
+    private final Supplier<String> locking = new Supplier<String>() {
+        private String value;
+        private long loadedAt;
+
+        @Override
+        public synchronized String get() {
+            if (value == null || System.nanoTime() - loadedAt > 1_000_000) {
+                value = token.get();
+                loadedAt = System.nanoTime();
+            }
+            return value;
+        }
+    };
+
+    @Benchmark
+    public String vavr_lazy() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    public String refreshing_supplier() {
+        return refreshing.get();
+    }
+
+    @Benchmark
+    public String locking_refreshing_supplier() {
+        return locking.get();
+    }
+}
@@ -0,0 +1,62 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * One refresh of a dashboard: {@code appendRate} new events arrive on top of {@code size} existing ones and the groups
+ * are needed again, maintained by a {@link GroupedView} against grouping the whole event list from scratch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupedViewBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"1", "100", "10000"})
+    private int appendRate;
+
+    private final Function<String, Boolean> isVowelFunction = x -> x.matches("[aeiouAEIOU]");
+
+    private List<String> events;
+    private List<String> newEvents;
+    private GroupedView<Boolean, String> view;
+
+    @Setup
+    public void setup() {
+        events = List.range(0, size).map(index -> String.valueOf((char) ('a' + index % 26)));
+        newEvents = List.range(0, appendRate).map(index -> String.valueOf((char) ('z' - index % 26)));
+        view = GroupedView.<Boolean, String>groupingBy(isVowelFunction).appendAll(events);
+    }
+
+    @Benchmark
+    public HashMap<Boolean, Vector<String>> incremental_view() {
+        return view.appendAll(newEvents).groups();
+    }
+
+    @Benchmark
+    public Map<Boolean, List<String>> full_recomputation() {
+        return events.appendAll(newEvents).groupBy(isVowelFunction);
+    }
+}
@@ -0,0 +1,516 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.PartialFunction;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.ListIterator;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.vavr.API.$;
+import static io.vavr.API.Case;
+
+/**
+ * Mirrors every test in {@code ListHighOrderApiTest}, running the vavr {@link List} version of each operation next to
+ * its {@link java.util.ArrayList} + {@link java.util.stream.Stream} counterpart.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListHighOrderApiBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private List<Integer> numbers;
+    private List<Integer> shuffledNumbers;
+    private List<String> letters;
+    private List<Person> persons;
+
+    private java.util.List<Integer> javaNumbers;
+    private java.util.List<Integer> javaShuffledNumbers;
+    private java.util.List<String> javaLetters;
+    private java.util.List<Person> javaPersons;
+
+    private final Function<Integer, String> stringifyNumber = x -> x.toString();
+    private final Predicate<Integer> isEven = x -> x % 2 == 0;
+    private final Function<Integer, Boolean> isEvenFunction = x -> x % 2 == 0;
+    private final BiFunction<Integer, Integer, Integer> accumulateSum = (accumulator, number) -> accumulator + number;
+    private final Function<String, Integer> firstCharToAsciiValue = x -> (int) x.charAt(0);
+    private final Predicate<String> isVowel = x -> x.matches("[aeiouAEIOU]");
+    private final Function<String, Boolean> isVowelFunction = x -> x.matches("[aeiouAEIOU]");
+    private final Function<Integer, Integer> changeSignOnOddNumbers = x -> x % 2 != 0 ? x * -1 : x;
+    private final Comparator<Integer> descendingOrder = (x, y) -> y - x;
+    private final PartialFunction<Person, String> firstNamesOfSmiths =
+            Case($(person -> "Smith".equals(person.getLastName())), x -> x.getFirstName());
+
+    static class Person {
+        private final String firstName;
+        private final String lastName;
+
+        Person(String firstName, String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        String getFirstName() {
+            return firstName;
+        }
+
+        String getLastName() {
+            return lastName;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        String[] lastNames = {"Smith", "Tucker", "without last name"};
+
+        javaNumbers = new ArrayList<>(size);
+        javaLetters = new ArrayList<>(size);
+        javaPersons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            javaNumbers.add(i + 1);
+            javaLetters.add(String.valueOf((char) ('a' + i % 26)));
+            javaPersons.add(new Person("Name" + i, lastNames[i % lastNames.length]));
+        }
+        javaShuffledNumbers = new ArrayList<>(javaNumbers);
+        Collections.shuffle(javaShuffledNumbers, new Random(42));
+
+        numbers = List.ofAll(javaNumbers);
+        shuffledNumbers = List.ofAll(javaShuffledNumbers);
+        letters = List.ofAll(javaLetters);
+        persons = List.ofAll(javaPersons);
+    }
+
+    // applying_a_function_that_transforms_one_element_into_another_with_map_to_a_list
+
+    @Benchmark
+    public List<String> map_vavr() {
+        return numbers.map(stringifyNumber);
+    }
+
+    @Benchmark
+    public java.util.List<String> map_java() {
+        return javaNumbers.stream().map(stringifyNumber).collect(Collectors.toList());
+    }
+
+    // applying_a_function_that_transforms_one_element_into_a_collection_with_flatMap_to_a_list_joins_all_the_collections_into_one
+
+    @Benchmark
+    public List<Integer> flatMap_vavr() {
+        return numbers.flatMap(x -> List.of(x, x + 1));
+    }
+
+    @Benchmark
+    public java.util.List<Integer> flatMap_java() {
+        return javaNumbers.stream().flatMap(x -> Stream.of(x, x + 1)).collect(Collectors.toList());
+    }
+
+    // filtering_with_a_predicate_returns_a_list_elements_that_satisfy_the_condition_according_to_the_filter_function
+
+    @Benchmark
+    public List<Integer> filter_vavr() {
+        return numbers.filter(isEven);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> filter_java() {
+        return javaNumbers.stream().filter(isEven).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> removeAll_vavr() {
+        return numbers.removeAll(isEven);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> removeAll_java() {
+        java.util.List<Integer> copy = new ArrayList<>(javaNumbers);
+        copy.removeIf(isEven);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> removeLast_vavr() {
+        return numbers.removeLast(isEven);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> removeLast_java() {
+        java.util.List<Integer> copy = new ArrayList<>(javaNumbers);
+        for (int i = copy.size() - 1; i >= 0; i--) {
+            if (isEven.test(copy.get(i))) {
+                copy.remove(i);
+                break;
+            }
+        }
+        return copy;
+    }
+
+    // find_unique_elements_in_a_list_using_a_discriminator_function
+
+    @Benchmark
+    public List<Integer> distinctBy_vavr() {
+        return numbers.distinctBy(isEvenFunction);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> distinctBy_java() {
+        Set<Boolean> seen = new HashSet<>();
+        return javaNumbers.stream().filter(x -> seen.add(isEvenFunction.apply(x))).collect(Collectors.toList());
+    }
+
+    // folding_applies_a_function_to_elements_2_by_2_until_reducing_the_list_to_a_single_element
+    // (folds numbers instead of concatenating letters, so the cost measured is the fold and not the string copies)
+
+    @Benchmark
+    public Integer foldLeft_vavr() {
+        return numbers.foldLeft(0, accumulateSum);
+    }
+
+    @Benchmark
+    public Integer foldLeft_java() {
+        return javaNumbers.stream().reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public Integer foldRight_vavr() {
+        return numbers.foldRight(0, accumulateSum);
+    }
+
+    @Benchmark
+    public Integer foldRight_java() {
+        Integer accumulator = 0;
+        ListIterator<Integer> iterator = javaNumbers.listIterator(javaNumbers.size());
+        while (iterator.hasPrevious()) {
+            accumulator = accumulateSum.apply(iterator.previous(), accumulator);
+        }
+        return accumulator;
+    }
+
+    @Benchmark
+    public Integer reduce_vavr() {
+        return numbers.reduce(accumulateSum);
+    }
+
+    @Benchmark
+    public Optional<Integer> reduce_java() {
+        return javaNumbers.stream().reduce(Integer::sum);
+    }
+
+    // min_max_maybe_return_value_from_a_list_using_a_function_for_custom_comparision_between_elements
+
+    @Benchmark
+    public void minByMaxBy_vavr(Blackhole blackhole) {
+        blackhole.consume(letters.minBy(firstCharToAsciiValue));
+        blackhole.consume(letters.maxBy(firstCharToAsciiValue));
+    }
+
+    @Benchmark
+    public void minByMaxBy_java(Blackhole blackhole) {
+        blackhole.consume(javaLetters.stream().min(Comparator.comparing(firstCharToAsciiValue)));
+        blackhole.consume(javaLetters.stream().max(Comparator.comparing(firstCharToAsciiValue)));
+    }
+
+    // lists_can_be_partitioned_by_functions_that_evaluate_conditions
+
+    @Benchmark
+    public Map<Boolean, List<String>> groupBy_vavr() {
+        return letters.groupBy(isVowelFunction);
+    }
+
+    @Benchmark
+    public java.util.Map<Boolean, java.util.List<String>> groupBy_java() {
+        return javaLetters.stream().collect(Collectors.groupingBy(isVowelFunction));
+    }
+
+    @Benchmark
+    public Tuple2<List<String>, List<String>> partition_vavr() {
+        return letters.partition(isVowel);
+    }
+
+    @Benchmark
+    public java.util.Map<Boolean, java.util.List<String>> partition_java() {
+        return javaLetters.stream().collect(Collectors.partitioningBy(isVowel));
+    }
+
+    // lists_can_be_split_into_2_by_position_of_an_element_matching_a_predicate
+
+    @Benchmark
+    public Tuple2<List<Integer>, List<Integer>> splitAt_vavr() {
+        return numbers.splitAt(x -> x == size / 2);
+    }
+
+    @Benchmark
+    public SimpleImmutableEntry<java.util.List<Integer>, java.util.List<Integer>> splitAt_java() {
+        int index = IntStream.range(0, javaNumbers.size()).filter(i -> javaNumbers.get(i) == size / 2).findFirst().orElse(javaNumbers.size());
+        return new SimpleImmutableEntry<>(
+                new ArrayList<>(javaNumbers.subList(0, index)),
+                new ArrayList<>(javaNumbers.subList(index, javaNumbers.size()))
+        );
+    }
+
+    // lists_can_be_sliced_in_different_ways
+
+    @Benchmark
+    public void takeDrop_vavr(Blackhole blackhole) {
+        blackhole.consume(numbers.take(size / 2));
+        blackhole.consume(numbers.drop(size / 2));
+    }
+
+    @Benchmark
+    public void takeDrop_java(Blackhole blackhole) {
+        blackhole.consume(new ArrayList<>(javaNumbers.subList(0, size / 2)));
+        blackhole.consume(new ArrayList<>(javaNumbers.subList(size / 2, size)));
+    }
+
+    @Benchmark
+    public void takeRightDropRight_vavr(Blackhole blackhole) {
+        blackhole.consume(numbers.takeRight(2));
+        blackhole.consume(numbers.dropRight(2));
+    }
+
+    @Benchmark
+    public void takeRightDropRight_java(Blackhole blackhole) {
+        blackhole.consume(new ArrayList<>(javaNumbers.subList(size - 2, size)));
+        blackhole.consume(new ArrayList<>(javaNumbers.subList(0, size - 2)));
+    }
+
+    @Benchmark
+    public List<Integer> dropRightWhile_vavr() {
+        return numbers.dropRightWhile(x -> x > size / 2);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> dropRightWhile_java() {
+        int end = javaNumbers.size();
+        while (end > 0 && javaNumbers.get(end - 1) > size / 2) {
+            end--;
+        }
+        return new ArrayList<>(javaNumbers.subList(0, end));
+    }
+
+    // lists_can_be_queried_to_find_if_it_contains_an_element_satisfying_a_condition
+
+    @Benchmark
+    public void find_vavr(Blackhole blackhole) {
+        blackhole.consume(numbers.find(x -> x == size));
+        blackhole.consume(numbers.findLast(isEven));
+    }
+
+    @Benchmark
+    public void find_java(Blackhole blackhole) {
+        blackhole.consume(javaNumbers.stream().filter(x -> x == size).findFirst());
+        Integer last = null;
+        for (int i = javaNumbers.size() - 1; i >= 0 && last == null; i--) {
+            if (isEven.test(javaNumbers.get(i))) last = javaNumbers.get(i);
+        }
+        blackhole.consume(last);
+    }
+
+    // lists_can_be_sorted_with_customizations
+
+    @Benchmark
+    public List<Integer> sorted_vavr() {
+        return shuffledNumbers.sorted();
+    }
+
+    @Benchmark
+    public java.util.List<Integer> sorted_java() {
+        return javaShuffledNumbers.stream().sorted().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> sortBy_vavr() {
+        return shuffledNumbers.sortBy(descendingOrder, changeSignOnOddNumbers);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> sortBy_java() {
+        return javaShuffledNumbers.stream()
+                .sorted(Comparator.comparing(changeSignOnOddNumbers, descendingOrder))
+                .collect(Collectors.toList());
+    }
+
+    // lists_can_be_filtered_and_transform_the_outputs_using_partial_functions
+
+    @Benchmark
+    public List<String> collect_vavr() {
+        return persons.collect(firstNamesOfSmiths);
+    }
+
+    @Benchmark
+    public List<String> filterMap_vavr() {
+        return persons.filter(p -> "Smith".equals(p.getLastName())).map(p -> p.getFirstName());
+    }
+
+    @Benchmark
+    public java.util.List<String> filterMap_java() {
+        return javaPersons.stream()
+                .filter(p -> "Smith".equals(p.getLastName()))
+                .map(p -> p.getFirstName())
+                .collect(Collectors.toList());
+    }
+
+    // lists_can_be_combined_with_other_lists
+
+    @Benchmark
+    public List<Tuple2<Integer, String>> zip_vavr() {
+        return numbers.zip(letters);
+    }
+
+    @Benchmark
+    public java.util.List<SimpleImmutableEntry<Integer, String>> zip_java() {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new SimpleImmutableEntry<>(javaNumbers.get(i), javaLetters.get(i)))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Tuple2<Integer, String>> zipAll_vavr() {
+        return numbers.zipAll(letters.take(size / 2), 0, "x");
+    }
+
+    @Benchmark
+    public java.util.List<SimpleImmutableEntry<Integer, String>> zipAll_java() {
+        int half = size / 2;
+        return IntStream.range(0, size)
+                .mapToObj(i -> new SimpleImmutableEntry<>(javaNumbers.get(i), i < half ? javaLetters.get(i) : "x"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> zipWith_vavr() {
+        return letters.zipWith(numbers, (letter, number) -> letter + number.toString());
+    }
+
+    @Benchmark
+    public java.util.List<String> zipWith_java() {
+        return IntStream.range(0, size)
+                .mapToObj(i -> javaLetters.get(i) + javaNumbers.get(i).toString())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> zipWithIndex_vavr() {
+        return numbers.zipWithIndex((number, index) -> number * index);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> zipWithIndex_java() {
+        return IntStream.range(0, size)
+                .mapToObj(i -> javaNumbers.get(i) * i)
+                .collect(Collectors.toList());
+    }
+
+    // lists_can_be_unzipped_too
+
+    @Benchmark
+    public Tuple2<List<Integer>, List<Integer>> unzip_vavr() {
+        return numbers.unzip(x -> Tuple.of(x, x + 10));
+    }
+
+    @Benchmark
+    public SimpleImmutableEntry<java.util.List<Integer>, java.util.List<Integer>> unzip_java() {
+        java.util.List<Integer> left = new ArrayList<>(size);
+        java.util.List<Integer> right = new ArrayList<>(size);
+        javaNumbers.forEach(x -> {
+            left.add(x);
+            right.add(x + 10);
+        });
+        return new SimpleImmutableEntry<>(left, right);
+    }
+
+    // lists_can_be_iterated_with_an_operation_that_accumulates_the_value
+
+    @Benchmark
+    public List<Integer> scan_vavr() {
+        return numbers.scan(0, accumulateSum);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> scan_java() {
+        java.util.List<Integer> result = new ArrayList<>(size + 1);
+        Integer accumulator = 0;
+        result.add(accumulator);
+        for (Integer number : javaNumbers) {
+            accumulator = accumulateSum.apply(accumulator, number);
+            result.add(accumulator);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> scanRight_vavr() {
+        return numbers.scanRight(0, accumulateSum);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> scanRight_java() {
+        Integer[] result = new Integer[size + 1];
+        Integer accumulator = 0;
+        result[size] = accumulator;
+        for (int i = size - 1; i >= 0; i--) {
+            accumulator = accumulateSum.apply(javaNumbers.get(i), accumulator);
+            result[i] = accumulator;
+        }
+        return java.util.Arrays.asList(result);
+    }
+
+    // side_effects_can_be_performed_when_iterating_list_elements_only_once_and_continue_doing_more_operations
+    // (vavr peeks only the head of the list, java peeks every element flowing through the stream)
+
+    @Benchmark
+    public List<Integer> peekMap_vavr(Blackhole blackhole) {
+        return numbers.peek(blackhole::consume).map(x -> x + 1);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> peekMap_java(Blackhole blackhole) {
+        return javaNumbers.stream().peek(blackhole::consume).map(x -> x + 1).collect(Collectors.toList());
+    }
+
+    // side_effects_can_be_performed_when_iterating_list_elements_for_each_element_and_finish_execution
+
+    @Benchmark
+    public void forEach_vavr(Blackhole blackhole) {
+        numbers.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEach_java(Blackhole blackhole) {
+        javaNumbers.forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,79 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.collection.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chained {@link List} functions against the same chain fused in a {@link Pipeline}. Run it with {@code -prof gc},
+ * {@code gc.alloc.rate.norm} divided by {@code size} gives the bytes allocated per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class PipelineBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Integer> numbers;
+
+    @Setup
+    public void setup() {
+        numbers = List.range(0, size);
+    }
+
+    @Benchmark
+    public List<String> filterMap_list() {
+        return numbers.filter(x -> x % 2 == 0).map(x -> x.toString());
+    }
+
+    @Benchmark
+    public List<String> filterMap_pipeline() {
+        return Pipeline.from(numbers).filter(x -> x % 2 == 0).map(x -> x.toString()).toList();
+    }
+
+    @Benchmark
+    public List<Integer> flatMapFilterDrop_list() {
+        return numbers.flatMap(x -> List.of(x, -x)).filter(x -> x % 3 != 0).drop(10);
+    }
+
+    @Benchmark
+    public List<Integer> flatMapFilterDrop_pipeline() {
+        return Pipeline.from(numbers).flatMap(x -> List.of(x, -x)).filter(x -> x % 3 != 0).drop(10).toList();
+    }
+
+    @Benchmark
+    public List<Integer> mapFilterTake_list() {
+        return numbers.map(x -> x * 7).filter(x -> x % 5 == 0).take(100);
+    }
+
+    @Benchmark
+    public List<Integer> mapFilterTake_pipeline() {
+        return Pipeline.from(numbers).map(x -> x * 7).filter(x -> x % 5 == 0).take(100).toList();
+    }
+
+    @Benchmark
+    public long mapFilterFold_list() {
+        return numbers.map(x -> x * 7).filter(x -> x % 5 == 0).foldLeft(0L, (accumulator, x) -> accumulator + x);
+    }
+
+    @Benchmark
+    public long mapFilterFold_pipeline() {
+        return Pipeline.from(numbers).map(x -> x * 7).filter(x -> x % 5 == 0).foldLeft(0L, (accumulator, x) -> accumulator + x);
+    }
+}
@@ -0,0 +1,73 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Built-in {@code foldRight}/{@code scanRight} against {@link RightFolds}, use {@code -prof gc} to compare the memory
+ * allocated to walk the sequence from the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g"})
+public class RightFoldsBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> numbers;
+    private Stream<Integer> streamNumbers;
+
+    @Setup
+    public void setup() {
+        numbers = List.range(0, size);
+        streamNumbers = Stream.range(0, size);
+        streamNumbers.size(); // evaluates the whole stream once, so both versions walk an already evaluated stream
+    }
+
+    @Benchmark
+    public Integer foldRight_builtIn() {
+        return numbers.foldRight(0, (number, accumulator) -> number - accumulator);
+    }
+
+    @Benchmark
+    public Integer foldRight_chunked() {
+        return RightFolds.foldRight(numbers, 0, (number, accumulator) -> number - accumulator);
+    }
+
+    @Benchmark
+    public Integer foldRight_stream_builtIn() {
+        return streamNumbers.foldRight(0, (number, accumulator) -> number - accumulator);
+    }
+
+    @Benchmark
+    public Integer foldRight_stream_chunked() {
+        return RightFolds.foldRight(streamNumbers, 0, (number, accumulator) -> number - accumulator);
+    }
+
+    @Benchmark
+    public List<Integer> scanRight_builtIn() {
+        return numbers.scanRight(0, (number, accumulator) -> number - accumulator);
+    }
+
+    @Benchmark
+    public List<Integer> scanRight_chunked() {
+        return RightFolds.scanRight(numbers, 0, (number, accumulator) -> number - accumulator);
+    }
+}
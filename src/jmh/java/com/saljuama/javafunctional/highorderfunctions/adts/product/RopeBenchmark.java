@@ -0,0 +1,122 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Rope} against vavr's {@link List} and {@link Vector} for the slicing operations of
+ * {@code ListHighOrderApiTest.lists_can_be_sliced_in_different_ways}, plus indexing and concatenation. The right-side
+ * slices of {@link List} are linear, so the largest size is only worth running for a few minutes of patience.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class RopeBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private Vector<Integer> vector;
+    private Rope<Integer> rope;
+    private int quarter;
+
+    @Setup
+    public void setup() {
+        list = List.range(0, size);
+        vector = Vector.ofAll(list);
+        rope = Rope.ofAll(list);
+        quarter = size / 4;
+    }
+
+    @Benchmark
+    public List<Integer> takeRight_list() {
+        return list.takeRight(quarter);
+    }
+
+    @Benchmark
+    public Vector<Integer> takeRight_vector() {
+        return vector.takeRight(quarter);
+    }
+
+    @Benchmark
+    public Rope<Integer> takeRight_rope() {
+        return rope.takeRight(quarter);
+    }
+
+    @Benchmark
+    public List<Integer> dropRight_list() {
+        return list.dropRight(quarter);
+    }
+
+    @Benchmark
+    public Vector<Integer> dropRight_vector() {
+        return vector.dropRight(quarter);
+    }
+
+    @Benchmark
+    public Rope<Integer> dropRight_rope() {
+        return rope.dropRight(quarter);
+    }
+
+    @Benchmark
+    public List<Integer> slice_list() {
+        return list.slice(quarter, 3 * quarter);
+    }
+
+    @Benchmark
+    public Vector<Integer> slice_vector() {
+        return vector.slice(quarter, 3 * quarter);
+    }
+
+    @Benchmark
+    public Rope<Integer> slice_rope() {
+        return rope.slice(quarter, 3 * quarter);
+    }
+
+    @Benchmark
+    public Integer get_list() {
+        return list.get(3 * quarter);
+    }
+
+    @Benchmark
+    public Integer get_vector() {
+        return vector.get(3 * quarter);
+    }
+
+    @Benchmark
+    public Integer get_rope() {
+        return rope.get(3 * quarter);
+    }
+
+    @Benchmark
+    public List<Integer> concat_list() {
+        return list.appendAll(list);
+    }
+
+    @Benchmark
+    public Vector<Integer> concat_vector() {
+        return vector.appendAll(vector);
+    }
+
+    @Benchmark
+    public Rope<Integer> concat_rope() {
+        return rope.appendAll(rope);
+    }
+}
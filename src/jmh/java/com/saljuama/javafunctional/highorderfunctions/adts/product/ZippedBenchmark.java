@@ -0,0 +1,107 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.LongList;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Zipped} columns against vavr's {@link List} and {@link Vector} of {@link Tuple2} for a join-like stage: zip two
+ * columns, combine them, and unzip a derived pair of columns, with the ids boxed in a column of objects or unboxed in a
+ * {@link LongList}. Run it with {@code -prof gc} to compare the allocation
+ * rate ({@code gc.alloc.rate.norm} is the number of bytes allocated per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ZippedBenchmark {
+
+    @Param({"100000", "1000000", "5000000"})
+    private int size;
+
+    private List<Long> idsList;
+    private List<String> namesList;
+    private Vector<Long> idsVector;
+    private Vector<String> namesVector;
+    private Column<Long> idsColumn;
+    private Column<String> namesColumn;
+    private Column<Long> unboxedIdsColumn;
+
+    @Setup
+    public void setup() {
+        idsList = List.range(0L, (long) size);
+        namesList = idsList.map(id -> "name" + (id % 1000));
+        idsVector = Vector.ofAll(idsList);
+        namesVector = Vector.ofAll(namesList);
+        idsColumn = Column.ofAll(idsList);
+        namesColumn = Column.ofAll(namesList);
+        unboxedIdsColumn = Column.ofLongs(LongList.range(0L, size));
+    }
+
+    @Benchmark
+    public List<Tuple2<Long, String>> zip_list() {
+        return idsList.zip(namesList);
+    }
+
+    @Benchmark
+    public Vector<Tuple2<Long, String>> zip_vector() {
+        return idsVector.zip(namesVector);
+    }
+
+    @Benchmark
+    public Zipped<Long, String> zip_columns() {
+        return idsColumn.zip(namesColumn);
+    }
+
+    @Benchmark
+    public List<String> zipWith_list() {
+        return idsList.zipWith(namesList, (id, name) -> name);
+    }
+
+    @Benchmark
+    public Column<String> zipWith_columns() {
+        return idsColumn.zipWith(namesColumn, (id, name) -> name);
+    }
+
+    @Benchmark
+    public Column<String> zipWith_unboxed_columns() {
+        return unboxedIdsColumn.zipWith(namesColumn, (id, name) -> name);
+    }
+
+    @Benchmark
+    public List<String> zipWithIndex_list() {
+        return namesList.zipWithIndex((name, index) -> index % 2 == 0 ? name : "");
+    }
+
+    @Benchmark
+    public Column<String> zipWithIndex_columns() {
+        return namesColumn.zipWithIndex((name, index) -> index % 2 == 0 ? name : "");
+    }
+
+    @Benchmark
+    public Tuple2<List<Long>, List<String>> unzip_list() {
+        return idsList.zip(namesList).unzip(pair -> Tuple.of(pair._1, pair._2));
+    }
+
+    @Benchmark
+    public Tuple2<Column<Long>, Column<String>> unzip_columns() {
+        return idsColumn.zip(namesColumn).unzip();
+    }
+}
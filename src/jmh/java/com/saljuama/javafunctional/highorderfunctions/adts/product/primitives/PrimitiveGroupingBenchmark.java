@@ -0,0 +1,93 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * vavr's {@code distinctBy} and {@code groupBy} against {@link PrimitiveGrouping} for high cardinality {@code long}
+ * keys. Run it with {@code -prof gc} to compare the allocation rate too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class PrimitiveGroupingBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"0.1", "0.9"})
+    private double distinctRatio;
+
+    private List<Event> events;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        int distinctIds = Math.max(1, (int) (size * distinctRatio));
+        events = List.fill(size, () -> new Event(random.nextInt(distinctIds) * 0x9E3779B97F4A7C15L));
+    }
+
+    @Benchmark
+    public List<Event> distinct_by_vavr() {
+        return events.distinctBy(Event::id);
+    }
+
+    @Benchmark
+    public List<Event> distinct_by_primitive() {
+        return PrimitiveGrouping.distinctByLong(events, Event::id);
+    }
+
+    @Benchmark
+    public List<Event> distinct_by_bloom_filter() {
+        return PrimitiveGrouping.distinctByLongApproximately(events, Event::id, size, 0.01);
+    }
+
+    @Benchmark
+    public int count_distinct_vavr() {
+        return events.distinctBy(Event::id).size();
+    }
+
+    @Benchmark
+    public long count_distinct_hyper_log_log() {
+        return PrimitiveGrouping.countDistinctByLongApproximately(events, Event::id, 0.01);
+    }
+
+    @Benchmark
+    public Map<Long, List<Event>> group_by_vavr() {
+        return events.groupBy(Event::id);
+    }
+
+    @Benchmark
+    public Map<Long, List<Event>> group_by_primitive() {
+        return PrimitiveGrouping.groupByLong(events, Event::id);
+    }
+
+    public static final class Event {
+        private final long id;
+
+        Event(long id) {
+            this.id = id;
+        }
+
+        long id() {
+            return id;
+        }
+    }
+}
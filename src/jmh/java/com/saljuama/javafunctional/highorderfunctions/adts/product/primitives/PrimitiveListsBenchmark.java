@@ -0,0 +1,117 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import io.vavr.collection.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IntList} against vavr's {@code List<Integer>} for a numeric pipeline. Run it with {@code -prof gc} to compare
+ * the allocation rate ({@code gc.alloc.rate.norm} is the number of bytes allocated per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class PrimitiveListsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private IntList primitiveNumbers;
+    private IntList primitiveShuffled;
+    private List<Integer> boxedNumbers;
+    private List<Integer> boxedShuffled;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        primitiveNumbers = IntList.range(0, size);
+        primitiveShuffled = IntList.tabulate(size, index -> random.nextInt());
+        boxedNumbers = primitiveNumbers.toList();
+        boxedShuffled = primitiveShuffled.toList();
+    }
+
+    @Benchmark
+    public IntList map_primitive() {
+        return primitiveNumbers.map(x -> x * 3);
+    }
+
+    @Benchmark
+    public List<Integer> map_boxed() {
+        return boxedNumbers.map(x -> x * 3);
+    }
+
+    @Benchmark
+    public IntList filter_primitive() {
+        return primitiveNumbers.filter(x -> x % 3 == 0);
+    }
+
+    @Benchmark
+    public List<Integer> filter_boxed() {
+        return boxedNumbers.filter(x -> x % 3 == 0);
+    }
+
+    @Benchmark
+    public int fold_primitive() {
+        return primitiveNumbers.foldLeft(0, (accumulator, x) -> accumulator + x);
+    }
+
+    @Benchmark
+    public int fold_boxed() {
+        return boxedNumbers.foldLeft(0, (accumulator, x) -> accumulator + x);
+    }
+
+    @Benchmark
+    public IntList scan_primitive() {
+        return primitiveNumbers.scan(0, (accumulator, x) -> accumulator + x);
+    }
+
+    @Benchmark
+    public List<Integer> scan_boxed() {
+        return boxedNumbers.scan(0, (accumulator, x) -> accumulator + x);
+    }
+
+    @Benchmark
+    public IntList sorted_primitive() {
+        return primitiveShuffled.sorted();
+    }
+
+    @Benchmark
+    public List<Integer> sorted_boxed() {
+        return boxedShuffled.sorted();
+    }
+
+    @Benchmark
+    public IntList zipWith_primitive() {
+        return primitiveNumbers.zipWith(primitiveShuffled, (a, b) -> a ^ b);
+    }
+
+    @Benchmark
+    public List<Integer> zipWith_boxed() {
+        return boxedNumbers.zipWith(boxedShuffled, (a, b) -> a ^ b);
+    }
+
+    @Benchmark
+    public long pipeline_primitive() {
+        return primitiveNumbers.map(x -> x * 3).filter(x -> x % 2 == 0).sum();
+    }
+
+    @Benchmark
+    public long pipeline_boxed() {
+        return boxedNumbers.map(x -> x * 3).filter(x -> x % 2 == 0).foldLeft(0L, (accumulator, x) -> accumulator + x);
+    }
+}
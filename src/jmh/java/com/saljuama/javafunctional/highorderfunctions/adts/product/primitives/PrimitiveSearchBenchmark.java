@@ -0,0 +1,101 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import com.saljuama.javafunctional.highorderfunctions.parallel.ParallelSearch;
+import io.vavr.collection.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Existence queries on {@link IntList} against vavr's {@code List<Integer>}, which walks node by node unboxing every
+ * element. The searched value is near the end, the worst case of a short-circuiting search, and the parallel versions
+ * show how much of the rest the chunked search with cancellation saves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class PrimitiveSearchBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    private int size;
+
+    private IntList primitiveNumbers;
+    private List<Integer> boxedNumbers;
+    private int target;
+    private final ParallelSearch parallelSearch = ParallelSearch.commonPool();
+
+    @Setup
+    public void setup() {
+        primitiveNumbers = IntList.range(0, size);
+        boxedNumbers = primitiveNumbers.toList();
+        target = size - size / 10;
+    }
+
+    @Benchmark
+    public boolean contains_primitive() {
+        return primitiveNumbers.contains(target);
+    }
+
+    @Benchmark
+    public boolean contains_boxed() {
+        return boxedNumbers.contains(target);
+    }
+
+    @Benchmark
+    public int indexOf_primitive() {
+        return primitiveNumbers.indexOf(target);
+    }
+
+    @Benchmark
+    public int indexOf_boxed() {
+        return boxedNumbers.indexOf(target);
+    }
+
+    @Benchmark
+    public boolean exists_primitive() {
+        return primitiveNumbers.exists(x -> x == target);
+    }
+
+    @Benchmark
+    public boolean exists_boxed() {
+        return boxedNumbers.exists(x -> x == target);
+    }
+
+    @Benchmark
+    public boolean exists_parallel() {
+        return parallelSearch.exists(primitiveNumbers, x -> x == target);
+    }
+
+    @Benchmark
+    public boolean forAll_primitive() {
+        return primitiveNumbers.forAll(x -> x >= 0);
+    }
+
+    @Benchmark
+    public boolean forAll_boxed() {
+        return boxedNumbers.forAll(x -> x >= 0);
+    }
+
+    @Benchmark
+    public boolean forAll_parallel() {
+        return parallelSearch.forAll(primitiveNumbers, x -> x >= 0);
+    }
+
+    @Benchmark
+    public int indexWhere_parallel() {
+        return parallelSearch.indexWhere(primitiveNumbers, x -> x == target);
+    }
+}
@@ -0,0 +1,89 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Latency of a chain of simulated remote calls (parking the thread for {@code delayMicros}) written as a blocking
+ * {@link Try} chain against the same chain with {@link AsyncTry}: two independent lookups combined, and a fan out of
+ * {@code fanOut} independent calls through an {@link AsyncLimiter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+public class AsyncTryBenchmark {
+
+    @Param({"100", "1000"})
+    private long delayMicros;
+
+    @Param({"32"})
+    private int fanOut;
+
+    @Param({"8"})
+    private int maxConcurrency;
+
+    private ExecutorService executor;
+    private AsyncLimiter limiter;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(64);
+        limiter = AsyncLimiter.builder().executor(executor).maxConcurrency(maxConcurrency).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Try<Integer> independent_lookups_blocking_try() {
+        return Try.of(() -> Integer.parseInt("10"))
+                .flatMap(id -> Try.of(() -> remoteCall(id)).flatMap(price -> Try.of(() -> remoteCall(id * 2)).map(stock -> price + stock)))
+                .filter(total -> total > 0);
+    }
+
+    @Benchmark
+    public Try<Integer> independent_lookups_async_try() {
+        return AsyncTry.of(executor, () -> Integer.parseInt("10"))
+                .flatMap(id -> AsyncTry.of(executor, () -> remoteCall(id)).zipWith(AsyncTry.of(executor, () -> remoteCall(id * 2)), Integer::sum))
+                .filter(total -> total > 0)
+                .await();
+    }
+
+    @Benchmark
+    public Try<Seq<Integer>> fan_out_blocking_try() {
+        return Try.sequence(List.range(0, fanOut).map(x -> Try.of(() -> remoteCall(x))));
+    }
+
+    @Benchmark
+    public Try<Seq<Integer>> fan_out_async_try_with_limiter() {
+        return AsyncTry.sequence(List.range(0, fanOut).map(x -> limiter.submit(() -> remoteCall(x)))).await();
+    }
+
+    private int remoteCall(int value) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(delayMicros));
+        return value + 1;
+    }
+}
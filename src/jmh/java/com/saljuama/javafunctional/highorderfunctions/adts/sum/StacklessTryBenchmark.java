@@ -0,0 +1,84 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum;
+
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of parsing numbers with {@code Try.of(() -> Integer.parseInt(x))} against {@link StacklessTry}, for
+ * different rates of invalid input. Every invocation parses the same {@value #INPUTS} inputs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OperationsPerInvocation(StacklessTryBenchmark.INPUTS)
+public class StacklessTryBenchmark {
+
+    static final int INPUTS = 1024;
+
+    @Param({"0", "10", "50"})
+    private int failurePercentage;
+
+    private final String[] inputs = new String[INPUTS];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < INPUTS; i++) {
+            int number = random.nextInt(1_000_000);
+            inputs[i] = random.nextInt(100) < failurePercentage ? number + "#" : Integer.toString(number);
+        }
+    }
+
+    @Benchmark
+    public long parse_int_with_try_of() {
+        long sum = 0;
+        for (String input : inputs) {
+            sum += Try.of(() -> Integer.parseInt(input)).getOrElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parse_int_stackless() {
+        long sum = 0;
+        for (String input : inputs) {
+            sum += StacklessTry.parseInt(input).getOrElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double parse_double_with_try_of() {
+        double sum = 0;
+        for (String input : inputs) {
+            sum += Try.of(() -> Double.parseDouble(input)).getOrElse(0.0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double parse_double_stackless() {
+        double sum = 0;
+        for (String input : inputs) {
+            sum += StacklessTry.parseDouble(input).getOrElse(0.0);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,80 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives;
+
+import io.vavr.control.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An option chain per element of an array, with vavr's {@code Option<Integer>} against {@link IntOption}. Run it with
+ * {@code -prof gc}: once the loop is compiled, {@code gc.alloc.rate.norm} of the {@link IntOption} versions is 0 bytes
+ * per operation, as escape analysis removes every intermediate option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OperationsPerInvocation(PrimitiveOptionsBenchmark.SIZE)
+public class PrimitiveOptionsBenchmark {
+
+    static final int SIZE = 1024;
+
+    private final int[] numbers = new int[SIZE];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            numbers[i] = random.nextInt(10_000) - 5_000;
+        }
+    }
+
+    @Benchmark
+    public long vavr_option_chain() {
+        long sum = 0;
+        for (int number : numbers) {
+            sum += Option.when(number > 0, number).map(x -> x * 3).filter(x -> x % 2 == 0).getOrElse(-1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitive_option_chain() {
+        long sum = 0;
+        for (int number : numbers) {
+            sum += IntOption.when(number > 0, number).map(x -> x * 3).filter(x -> x % 2 == 0).getOrElse(-1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitive_option_flat_map_chain() {
+        long sum = 0;
+        for (int number : numbers) {
+            sum += IntOption.some(number).flatMap(x -> IntOption.when(x > 0, x)).map(x -> x + 1).getOrElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double primitive_double_option_chain() {
+        double sum = 0;
+        for (int number : numbers) {
+            sum += DoubleOption.some(number).filter(x -> x > 0).map(Math::sqrt).getOrElse(0.0);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,74 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential vavr fold and scan against {@link ParallelFolds} on the common pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g"})
+public class ParallelFoldsBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    private List<Long> numbers;
+    private Vector<Long> vectorNumbers;
+    private final ParallelFolds parallelFolds = ParallelFolds.commonPool();
+
+    private final Monoid<Long> sum = Monoid.longSum();
+
+    // a little bit of work per element, so the benchmark is not only measuring memory bandwidth
+    private static long mix(long value) {
+        return (value ^ (value >>> 7)) * 0x9E3779B97F4A7C15L;
+    }
+
+    @Setup
+    public void setup() {
+        numbers = List.range(0L, (long) size);
+        vectorNumbers = numbers.toVector();
+    }
+
+    @Benchmark
+    public Long foldMap_sequential() {
+        return numbers.foldLeft(0L, (accumulator, x) -> accumulator + mix(x));
+    }
+
+    @Benchmark
+    public Long foldMap_parallel() {
+        return parallelFolds.foldMap(numbers, ParallelFoldsBenchmark::mix, sum);
+    }
+
+    @Benchmark
+    public Long foldMap_parallel_vector() {
+        return parallelFolds.foldMap(vectorNumbers, ParallelFoldsBenchmark::mix, sum);
+    }
+
+    @Benchmark
+    public List<Long> scan_sequential() {
+        return numbers.scan(0L, Long::sum);
+    }
+
+    @Benchmark
+    public List<Long> scan_parallel() {
+        return parallelFolds.scan(numbers, sum);
+    }
+}
@@ -0,0 +1,65 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@code Try.sequence(seq.map(f))} against {@link ParallelTraverse}, when every element succeeds and when the element
+ * at 1% of the sequence fails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ParallelTraverseBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean earlyFailure;
+
+    private final ParallelTraverse parallelTraverse = ParallelTraverse.commonPool();
+
+    private final Function<String, Try<Integer>> maybeParseNumber = x -> Try.of(() -> Integer.parseInt(x));
+
+    private List<String> stringyNumbers;
+
+    @Setup
+    public void setup() {
+        int failingIndex = earlyFailure ? size / 100 : -1;
+        stringyNumbers = List.range(0, size).map(x -> x == failingIndex ? "not a number" : Integer.toString(x));
+    }
+
+    @Benchmark
+    public Try<Seq<Integer>> map_and_sequence() {
+        return Try.sequence(stringyNumbers.map(maybeParseNumber));
+    }
+
+    @Benchmark
+    public Try<Seq<Integer>> parallel_traverse() {
+        return parallelTraverse.traverse(stringyNumbers, maybeParseNumber);
+    }
+
+    @Benchmark
+    public Try<Seq<Integer>> parallel_traverse_checked() {
+        return parallelTraverse.traverseChecked(stringyNumbers, Integer::parseInt);
+    }
+}
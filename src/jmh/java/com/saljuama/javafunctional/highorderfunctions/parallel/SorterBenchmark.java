@@ -0,0 +1,65 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.collection.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@code List.sortBy} against the {@link Sorter} in memory and spilling to disk, with a key that is not free to compute.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g"})
+public class SorterBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private List<String> words;
+
+    private final Function<String, String> normalized = word -> word.trim().toLowerCase();
+    private final Comparator<String> descendingOrder = Comparator.reverseOrder();
+
+    private Sorter inMemory;
+    private Sorter spilling;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        words = List.fill(size, () -> " Word" + Long.toString(random.nextLong(), 36) + " ");
+        inMemory = Sorter.builder().maxElementsInMemory(Integer.MAX_VALUE).build();
+        spilling = Sorter.builder().maxElementsInMemory(size / 10).build();
+    }
+
+    @Benchmark
+    public List<String> sortBy_list() {
+        return words.sortBy(descendingOrder, normalized);
+    }
+
+    @Benchmark
+    public List<String> sortBy_inMemory() {
+        return inMemory.sortBy(words, descendingOrder, normalized);
+    }
+
+    @Benchmark
+    public List<String> sortBy_spilling() {
+        return spilling.sortBy(words, descendingOrder, normalized);
+    }
+}
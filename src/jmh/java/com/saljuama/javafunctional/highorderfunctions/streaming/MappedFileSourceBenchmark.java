@@ -0,0 +1,85 @@
+package com.saljuama.javafunctional.highorderfunctions.streaming;
+
+import io.vavr.collection.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing the numbers of a text file, one per line, reading the whole file into a {@code List<String>} against folding
+ * over the lines of a {@link MappedFileSource}. The heap of the fork is kept small on purpose: the mapped version does
+ * not need the file to fit in it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g"})
+public class MappedFileSourceBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int lines;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("mapped-file-source-benchmark", ".txt");
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write(Integer.toString(random.nextInt(1_000_000)));
+                writer.write('\n');
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long read_all_lines_into_a_list() throws IOException {
+        return List.ofAll(Files.readAllLines(file)).foldLeft(0L, (sum, line) -> sum + Integer.parseInt(line));
+    }
+
+    @Benchmark
+    public long fold_over_decoded_mapped_lines() {
+        return MappedFileSource.of(file).lines()
+                .map(line -> StandardCharsets.US_ASCII.decode(line).toString())
+                .foldLeft(0L, (sum, line) -> sum + Integer.parseInt(line));
+    }
+
+    @Benchmark
+    public long fold_over_mapped_lines_parsing_the_bytes() {
+        return MappedFileSource.of(file).lines().foldLeft(0L, (sum, line) -> sum + parseDigits(line));
+    }
+
+    private static int parseDigits(ByteBuffer line) {
+        int value = 0;
+        for (int i = 0; i < line.limit(); i++) {
+            value = value * 10 + (line.get(i) - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,92 @@
+package com.saljuama.javafunctional.highorderfunctions.streaming;
+
+import com.saljuama.javafunctional.highorderfunctions.parallel.Monoid;
+import io.vavr.collection.Iterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Elements per second aggregated by {@link Windows} over an iterator of one million longs, against vavr's
+ * {@code grouped} and {@code sliding}, which materialise every window before summing it. Run it with {@code -prof gc}
+ * to compare the allocation rate too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WindowsBenchmark {
+
+    private static final int ELEMENTS = 1_000_000;
+
+    private final Windows<Long> tumbling = Windows.tumbling(1000);
+    private final Windows<Long> slidingBy100 = Windows.sliding(1000, 100);
+    private final Windows<Long> slidingBy1 = Windows.sliding(1000, 1);
+    private final Windows<Long> perSecond = Windows.tumbling(Duration.ofSeconds(1), timestamp -> timestamp);
+
+    private static Iterator<Long> elements() {
+        return Iterator.range(0L, ELEMENTS);
+    }
+
+    private static long drain(Iterator<Window<Long>> windows) {
+        long checksum = 0;
+        while (windows.hasNext()) {
+            checksum += windows.next().value();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public long tumbling_windows() {
+        return drain(tumbling.aggregate(elements(), x -> x, Monoid.longSum()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public long tumbling_vavr_grouped() {
+        return elements().grouped(1000).map(window -> window.sum().longValue()).sum().longValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public long sliding_windows_by_100() {
+        return drain(slidingBy100.aggregate(elements(), x -> x, Monoid.longSum()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public long sliding_vavr_by_100() {
+        return elements().sliding(1000, 100).map(window -> window.sum().longValue()).sum().longValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public long sliding_windows_by_1() {
+        return drain(slidingBy1.aggregate(elements(), x -> x, Monoid.longSum()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public long time_windows() {
+        return drain(perSecond.aggregate(elements(), x -> x, Monoid.longSum()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public long running_totals() {
+        return drain(tumbling.scan(elements(), x -> x, Monoid.longSum()));
+    }
+}
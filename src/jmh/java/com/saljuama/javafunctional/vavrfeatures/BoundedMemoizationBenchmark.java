@@ -0,0 +1,86 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies memoized functions to keys following a skewed (exponential) distribution over a large key space. At the end
+ * of every iteration the heap in use after a full GC is printed: it keeps growing with {@code memoized()} while it stays
+ * flat with the {@link BoundedMemoizer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class BoundedMemoizationBenchmark {
+
+    private static final int KEYS = 1 << 20;
+
+    @Param({"vavr", "LRU", "LFU"})
+    private String memoization;
+
+    @Param({"10000"})
+    private long maximumWeight;
+
+    private final int[] keys = new int[KEYS];
+    private int next;
+    private long keyOffset;
+
+    private Function1<Long, String> memoized;
+    private BoundedMemoizer memoizer;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = (int) (-Math.log(1 - random.nextDouble()) * maximumWeight);
+        }
+
+        Function1<Long, String> expensive = key -> Long.toHexString(key * 0x9E3779B97F4A7C15L);
+        if ("vavr".equals(memoization)) {
+            memoized = expensive.memoized();
+        } else {
+            memoizer = BoundedMemoizer.builder()
+                    .evictionPolicy(EvictionPolicy.valueOf(memoization))
+                    .maximumWeight(maximumWeight)
+                    .build();
+            memoized = memoizer.memoize(expensive);
+        }
+    }
+
+    @Benchmark
+    public String apply() {
+        int index = next++ & (KEYS - 1);
+        if (index == 0) {
+            keyOffset += KEYS; // the tail of the distribution keeps bringing never seen keys, like a long running service
+        }
+        int key = keys[index];
+        return memoized.apply(key < maximumWeight ? key : key + keyOffset);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printRetainedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long usedMegabytes = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        String cached = memoizer == null ? "unbounded" : memoizer.size() + " results, " + memoizer.stats();
+        System.out.println("\nheap in use: " + usedMegabytes + "MB, cache: " + cached);
+    }
+}
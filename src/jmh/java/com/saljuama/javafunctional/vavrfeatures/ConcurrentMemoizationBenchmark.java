@@ -0,0 +1,124 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of memoized lookups of a warm cache shared by 1, 2, 4 and all the available cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentMemoizationBenchmark {
+
+    private static final int KEYS = 4096;
+
+    private Function1<Integer, Integer> vavrMemoized;
+    private Function1<Integer, Integer> boundedMemoized;
+    private Function1<Integer, Integer> concurrentMemoized;
+
+    @Setup
+    public void setup() {
+        Function1<Integer, Integer> square = x -> x * x;
+        vavrMemoized = square.memoized();
+        boundedMemoized = BoundedMemoizer.builder().maximumWeight(KEYS).build().memoize(square);
+        concurrentMemoized = new ConcurrentMemoizer().memoize(square);
+        for (int key = 0; key < KEYS; key++) {
+            vavrMemoized.apply(key);
+            boundedMemoized.apply(key);
+            concurrentMemoized.apply(key);
+        }
+    }
+
+    private static int randomKey() {
+        return ThreadLocalRandom.current().nextInt(KEYS);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer vavr_1_thread() {
+        return vavrMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Integer vavr_2_threads() {
+        return vavrMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer vavr_4_threads() {
+        return vavrMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Integer vavr_all_cores() {
+        return vavrMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer bounded_1_thread() {
+        return boundedMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Integer bounded_2_threads() {
+        return boundedMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer bounded_4_threads() {
+        return boundedMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Integer bounded_all_cores() {
+        return boundedMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer concurrent_1_thread() {
+        return concurrentMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Integer concurrent_2_threads() {
+        return concurrentMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer concurrent_4_threads() {
+        return concurrentMemoized.apply(randomKey());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Integer concurrent_all_cores() {
+        return concurrentMemoized.apply(randomKey());
+    }
+}
@@ -0,0 +1,103 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function2;
+import io.vavr.Function4;
+import io.vavr.Function8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calling a function with its configuration arguments (all but the last one) bound on every call: direct invocation,
+ * currying, vavr partial application and {@link PartialApplicationCache}, for 2, 4 and 8 arguments. Run it with
+ * {@code -prof gc} to compare the closures allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+public class PartialApplicationBenchmark {
+
+    private final PartialApplicationCache cache = new PartialApplicationCache();
+
+    private final Function2<String, Integer, Integer> function2 = (a, x) -> a.length() + x;
+    private final Function4<String, String, String, Integer, Integer> function4 = (a, b, c, x) -> a.length() + b.length() + c.length() + x;
+    private final Function8<String, String, String, String, String, String, String, Integer, Integer> function8 =
+            (a, b, c, d, e, f, g, x) -> a.length() + b.length() + c.length() + d.length() + e.length() + f.length() + g.length() + x;
+
+    private final String region = "eu-west-1";
+    private final String tenant = "acme";
+    private final String environment = "production";
+    private final Integer input = 42;
+
+    @Benchmark
+    public Integer function2_direct() {
+        return function2.apply(region, input);
+    }
+
+    @Benchmark
+    public Integer function2_curried() {
+        return function2.curried().apply(region).apply(input);
+    }
+
+    @Benchmark
+    public Integer function2_vavr_partial() {
+        return function2.apply(region).apply(input);
+    }
+
+    @Benchmark
+    public Integer function2_cached_partial() {
+        return cache.partial(function2, region).apply(input);
+    }
+
+    @Benchmark
+    public Integer function4_direct() {
+        return function4.apply(region, tenant, environment, input);
+    }
+
+    @Benchmark
+    public Integer function4_curried() {
+        return function4.curried().apply(region).apply(tenant).apply(environment).apply(input);
+    }
+
+    @Benchmark
+    public Integer function4_vavr_partial() {
+        return function4.apply(region, tenant, environment).apply(input);
+    }
+
+    @Benchmark
+    public Integer function4_cached_partial() {
+        return cache.partial(function4, region, tenant, environment).apply(input);
+    }
+
+    @Benchmark
+    public Integer function8_direct() {
+        return function8.apply(region, tenant, environment, region, tenant, environment, region, input);
+    }
+
+    @Benchmark
+    public Integer function8_curried() {
+        return function8.curried().apply(region).apply(tenant).apply(environment).apply(region).apply(tenant)
+                .apply(environment).apply(region).apply(input);
+    }
+
+    @Benchmark
+    public Integer function8_vavr_partial() {
+        return function8.apply(region, tenant, environment, region, tenant, environment, region).apply(input);
+    }
+
+    @Benchmark
+    public Integer function8_cached_partial() {
+        return cache.partial(function8, region, tenant, environment, region, tenant, environment, region).apply(input);
+    }
+}
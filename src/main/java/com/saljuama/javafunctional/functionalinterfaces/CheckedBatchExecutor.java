@@ -0,0 +1,264 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.CheckedConsumer;
+import io.vavr.CheckedFunction1;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Predicate;
+
+/**
+ * Runs a {@link CheckedFunction1} or a {@link CheckedConsumer} over every element of a sequence on a bounded thread
+ * pool, instead of one element after the other, keeping the outcome of every element as a {@link Try} in the order of
+ * the elements: one failing element does not stop the rest.
+ * <p>
+ * Elements are handed to the pool in batches of {@code batchSize}, which keeps the scheduling overhead low for cheap
+ * work, and every element that fails with a retryable exception is retried up to {@code maxAttempts} times, waiting an
+ * exponentially growing backoff between attempts.
+ * <p>
+ * When the calling thread is interrupted, the batches are cancelled and the elements that did not run, or were
+ * interrupted while running, fail with a {@link CancellationException}.
+ * <p>
+ * The pool is created by the executor and shut down by {@link #close()}, unless an external one was given.
+ */
+public final class CheckedBatchExecutor implements AutoCloseable {
+
+    private final ExecutorService pool;
+    private final boolean ownsPool;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final double backoffMultiplier;
+    private final long maxBackoffNanos;
+    private final Predicate<? super Throwable> retryOn;
+
+    private CheckedBatchExecutor(Builder builder) {
+        this.ownsPool = builder.pool == null;
+        this.pool = ownsPool ? Executors.newFixedThreadPool(builder.threads) : builder.pool;
+        this.batchSize = builder.batchSize;
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffNanos = builder.initialBackoff.toNanos();
+        this.backoffMultiplier = builder.backoffMultiplier;
+        this.maxBackoffNanos = builder.maxBackoff.toNanos();
+        this.retryOn = builder.retryOn;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public <T, R> Seq<Try<R>> map(Seq<T> inputs, CheckedFunction1<? super T, ? extends R> function) {
+        Object[] elements = inputs.toJavaArray();
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Try<R>[] results = new Try[elements.length];
+        int batchCount = (int) (((long) elements.length + batchSize - 1) / batchSize);
+        // a batch is claimed once, either by the worker running it or by the caller cancelling it before it starts
+        AtomicIntegerArray claimed = new AtomicIntegerArray(batchCount);
+        CountDownLatch finished = new CountDownLatch(batchCount);
+        ArrayList<Future<?>> batches = new ArrayList<>(batchCount);
+        for (int batch = 0; batch < batchCount; batch++) {
+            int index = batch;
+            int from = batch * batchSize;
+            int to = Math.min(elements.length, from + batchSize);
+            batches.add(pool.submit(() -> {
+                if (!claimed.compareAndSet(index, 0, 1)) return;
+                try {
+                    for (int i = from; i < to; i++) {
+                        results[i] = withRetries(function, cast(elements[i]));
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            }));
+        }
+        InterruptedException interruption = awaitAll(batches, claimed, finished);
+        List<Try<R>> result = List.empty();
+        for (int i = results.length - 1; i >= 0; i--) {
+            Try<R> outcome = results[i];
+            result = result.prepend(outcome != null ? outcome : Try.failure(cancelled(interruption)));
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #map} for side effects, successes have no value.
+     */
+    public <T> Seq<Try<Void>> forEach(Seq<T> inputs, CheckedConsumer<? super T> consumer) {
+        return map(inputs, input -> {
+            consumer.accept(input);
+            return null;
+        });
+    }
+
+    /**
+     * Same as {@link #map} with the outcomes as {@link Either}, failures on the left.
+     */
+    public <T, R> Seq<Either<Throwable, R>> mapToEither(Seq<T> inputs, CheckedFunction1<? super T, ? extends R> function) {
+        return this.<T, R>map(inputs, function).map(Try::toEither);
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) pool.shutdown();
+    }
+
+    private <T, R> Try<R> withRetries(CheckedFunction1<? super T, ? extends R> function, T input) {
+        long backoff = initialBackoffNanos;
+        for (int attempt = 1; ; attempt++) {
+            Try<R> outcome = attempt(function, input);
+            if (outcome.isSuccess() || attempt == maxAttempts || !retryOn.test(outcome.getCause())) return outcome;
+            try {
+                Thread.sleep(backoff / 1_000_000, (int) (backoff % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return outcome;
+            }
+            backoff = Math.min(maxBackoffNanos, (long) (backoff * backoffMultiplier));
+        }
+    }
+
+    /**
+     * Same as {@link Try#of}, keeping the fatal exceptions {@code Try} rethrows as failures of the element instead of
+     * failing its whole batch: an interruption becomes a {@link CancellationException} and the rest an
+     * {@link ExecutionException}, caused by the original exception.
+     */
+    private static <T, R> Try<R> attempt(CheckedFunction1<? super T, ? extends R> function, T input) {
+        try {
+            return Try.of(() -> function.apply(input));
+        } catch (Throwable e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                return Try.failure(cancelled((InterruptedException) e));
+            }
+            return Try.failure(new ExecutionException("fatal error running the element", e));
+        }
+    }
+
+    /**
+     * Waits for all the batches, or when interrupted cancels them and waits for the ones already running to stop, so
+     * no batch writes its results after this returns. Returns the interruption, if any.
+     */
+    private static InterruptedException awaitAll(ArrayList<Future<?>> batches, AtomicIntegerArray claimed, CountDownLatch finished) {
+        for (Future<?> batch : batches) {
+            try {
+                batch.get();
+            } catch (InterruptedException e) {
+                for (int i = 0; i < batches.size(); i++) {
+                    if (claimed.compareAndSet(i, 0, 1)) finished.countDown();
+                }
+                batches.forEach(pending -> pending.cancel(true));
+                awaitUninterruptibly(finished);
+                Thread.currentThread().interrupt();
+                return e;
+            } catch (ExecutionException e) {
+                // every element keeps its own failures, this is a failure outside of them, like running out of memory
+                // for the results
+                throw new IllegalStateException("batch failed", e.getCause());
+            }
+        }
+        return null;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException e) {
+                // already cancelling, keep waiting for the running batches
+            }
+        }
+    }
+
+    private static CancellationException cancelled(InterruptedException interruption) {
+        CancellationException cancellation = new CancellationException("interrupted before completing the element");
+        cancellation.initCause(interruption);
+        return cancellation;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    public static final class Builder {
+
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private ExecutorService pool;
+        private int batchSize = 16;
+        private int maxAttempts = 1;
+        private Duration initialBackoff = Duration.ofMillis(10);
+        private double backoffMultiplier = 2;
+        private Duration maxBackoff = Duration.ofSeconds(1);
+        private Predicate<? super Throwable> retryOn = exception -> true;
+
+        private Builder() {
+        }
+
+        public Builder threads(int threads) {
+            if (threads <= 0) throw new IllegalArgumentException("threads must be positive: " + threads);
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Runs the batches in this pool instead of creating one, which is not shut down when closing the executor.
+         */
+        public Builder pool(ExecutorService pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Total attempts per element, 1 (the default) to never retry.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Waits {@code initialBackoff} before the first retry, multiplied by {@code multiplier} before every other one,
+         * up to {@code maxBackoff}.
+         */
+        public Builder backoff(Duration initialBackoff, double multiplier, Duration maxBackoff) {
+            if (initialBackoff.isNegative()) throw new IllegalArgumentException("initialBackoff can't be negative: " + initialBackoff);
+            if (multiplier < 1) throw new IllegalArgumentException("multiplier can't be less than 1: " + multiplier);
+            if (maxBackoff.isNegative()) throw new IllegalArgumentException("maxBackoff can't be negative: " + maxBackoff);
+            this.initialBackoff = initialBackoff;
+            this.backoffMultiplier = multiplier;
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Which failures are retried, all of them by default.
+         */
+        public Builder retryOn(Predicate<? super Throwable> retryOn) {
+            this.retryOn = retryOn;
+            return this;
+        }
+
+        public CheckedBatchExecutor build() {
+            return new CheckedBatchExecutor(this);
+        }
+    }
+}
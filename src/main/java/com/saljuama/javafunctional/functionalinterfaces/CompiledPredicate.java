@@ -0,0 +1,330 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Condition} compiled into a single predicate that:
+ * <ul>
+ * <li>pushes the negations down to the predicates (De Morgan), and flattens nested and / or into one level</li>
+ * <li>drops duplicated clauses, evaluates the same predicate instance used in several places as one, and folds the
+ * clauses that are always true or false, like {@code x and not x}</li>
+ * <li>keeps the resulting tree in arrays walked by one single method, instead of a chain of lambdas calling each
+ * other, so every call site of {@link #test} stays monomorphic</li>
+ * <li>measures the cost and pass rate of every clause in a sample of the evaluations, and periodically reorders the
+ * clauses of every all / any / none to evaluate first the ones that are cheap and most likely to short-circuit it,
+ * while the clauses of {@link Condition#and} and {@link Condition#or} keep the order they were written in</li>
+ * </ul>
+ * It is safe to use from several threads: measurements are approximate counters, and a new order is published as a new
+ * array, never modified in place.
+ */
+public final class CompiledPredicate<T> implements Predicate<T> {
+
+    private static final int LEAF = 0;
+    private static final int AND = 1;
+    private static final int OR = 2;
+    private static final int TRUE = 3;
+    private static final int FALSE = 4;
+
+    private final Predicate<? super T>[] predicates;
+    private final int[] kinds;
+    private final int[] leaves;
+    private final boolean[] negated;
+    private final boolean[] ordered;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final double[] costHints;
+
+    private final int samplingMask;
+    private final int reorderMask;
+    private final long[] samples;
+    private final long[] passes;
+    private final long[] nanos;
+    private final LongSupplier clock;
+    private volatile int[] order;
+    private int calls;
+
+    CompiledPredicate(Condition<T> condition, int samplingInterval, int reorderInterval) {
+        this(condition, samplingInterval, reorderInterval, System::nanoTime);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    CompiledPredicate(Condition<T> condition, int samplingInterval, int reorderInterval, LongSupplier clock) {
+        if (Integer.bitCount(samplingInterval) != 1) throw new IllegalArgumentException("samplingInterval must be a power of two: " + samplingInterval);
+        if (Integer.bitCount(reorderInterval) != 1) throw new IllegalArgumentException("reorderInterval must be a power of two: " + reorderInterval);
+        this.samplingMask = samplingInterval - 1;
+        this.reorderMask = reorderInterval - 1;
+        this.clock = clock;
+
+        Compiler<T> compiler = new Compiler<>();
+        Node root = compiler.simplify(compiler.normalize(condition, false));
+        ArrayList<Node> nodes = new ArrayList<>();
+        int[] childrenSize = {0};
+        root.collect(nodes, childrenSize);
+
+        int size = nodes.size();
+        this.predicates = compiler.predicates.toArray(new Predicate[0]);
+        this.kinds = new int[size];
+        this.leaves = new int[size];
+        this.negated = new boolean[size];
+        this.ordered = new boolean[size];
+        this.childStart = new int[size];
+        this.childCount = new int[size];
+        this.costHints = new double[size];
+        int[] initialOrder = new int[childrenSize[0]];
+        int next = 0;
+        for (int id = 0; id < size; id++) {
+            Node node = nodes.get(id);
+            kinds[id] = node.kind;
+            leaves[id] = node.leaf;
+            negated[id] = node.negated;
+            ordered[id] = node.ordered;
+            costHints[id] = node.costHint();
+            childStart[id] = next;
+            childCount[id] = node.children.size();
+            for (Node child : node.children) {
+                initialOrder[next++] = child.id;
+            }
+        }
+        for (int id = 0; id < size; id++) {
+            sortChildren(initialOrder, id, costHints);
+        }
+        this.order = initialOrder;
+        this.samples = new long[size];
+        this.passes = new long[size];
+        this.nanos = new long[size];
+    }
+
+    @Override
+    public boolean test(T value) {
+        int[] currentOrder = order;
+        int call = ++calls;
+        if ((call & samplingMask) != 0) return evaluate(0, value, currentOrder);
+        boolean result = evaluateSampled(0, value, currentOrder);
+        if ((call & reorderMask) == 0) reorder();
+        return result;
+    }
+
+    /**
+     * Current evaluation order, like {@code and(#1, or(not #0, #2))} where the numbers are the positions of the
+     * distinct predicates in the order they appear in the condition.
+     */
+    public String plan() {
+        StringBuilder plan = new StringBuilder();
+        describe(0, order, plan);
+        return plan.toString();
+    }
+
+    private boolean evaluate(int node, T value, int[] currentOrder) {
+        switch (kinds[node]) {
+            case LEAF:
+                return predicates[leaves[node]].test(value) != negated[node];
+            case AND:
+                for (int i = childStart[node], end = i + childCount[node]; i < end; i++) {
+                    if (!evaluate(currentOrder[i], value, currentOrder)) return false;
+                }
+                return true;
+            case OR:
+                for (int i = childStart[node], end = i + childCount[node]; i < end; i++) {
+                    if (evaluate(currentOrder[i], value, currentOrder)) return true;
+                }
+                return false;
+            default:
+                return kinds[node] == TRUE;
+        }
+    }
+
+    private boolean evaluateSampled(int node, T value, int[] currentOrder) {
+        long start = clock.getAsLong();
+        boolean result;
+        switch (kinds[node]) {
+            case LEAF:
+                result = predicates[leaves[node]].test(value) != negated[node];
+                break;
+            case AND:
+                result = true;
+                for (int i = childStart[node], end = i + childCount[node]; i < end && result; i++) {
+                    result = evaluateSampled(currentOrder[i], value, currentOrder);
+                }
+                break;
+            case OR:
+                result = false;
+                for (int i = childStart[node], end = i + childCount[node]; i < end && !result; i++) {
+                    result = evaluateSampled(currentOrder[i], value, currentOrder);
+                }
+                break;
+            default:
+                result = kinds[node] == TRUE;
+        }
+        nanos[node] += clock.getAsLong() - start;
+        samples[node]++;
+        if (result) passes[node]++;
+        return result;
+    }
+
+    private synchronized void reorder() {
+        // ranks are computed once from a snapshot of the counters, which other threads keep updating while sorting
+        int[] currentOrder = order;
+        double[] ranks = new double[kinds.length];
+        for (int node = 0; node < kinds.length; node++) {
+            for (int i = childStart[node], end = i + childCount[node]; i < end; i++) {
+                int child = currentOrder[i];
+                long childSamples = samples[child];
+                // expected cost of evaluating the child per evaluation that short-circuits the node
+                double cost = childSamples == 0 ? Double.MAX_VALUE : (double) nanos[child] / childSamples;
+                double passRate = childSamples == 0 ? 0.5 : Math.min(1, (double) passes[child] / childSamples);
+                double shortCircuitRate = kinds[node] == AND ? 1 - passRate : passRate;
+                ranks[child] = cost / Math.max(shortCircuitRate, 1e-3);
+            }
+        }
+        int[] newOrder = currentOrder.clone();
+        for (int node = 0; node < kinds.length; node++) {
+            sortChildren(newOrder, node, ranks);
+        }
+        order = newOrder;
+    }
+
+    private void sortChildren(int[] children, int node, double[] ranks) {
+        int start = childStart[node];
+        int end = start + childCount[node];
+        if (end - start < 2 || ordered[node]) return;
+        Integer[] segment = new Integer[end - start];
+        for (int i = start; i < end; i++) segment[i - start] = children[i];
+        Arrays.sort(segment, Comparator.comparingDouble(child -> ranks[child]));
+        for (int i = start; i < end; i++) children[i] = segment[i - start];
+    }
+
+    private void describe(int node, int[] currentOrder, StringBuilder plan) {
+        switch (kinds[node]) {
+            case LEAF:
+                plan.append(negated[node] ? "not #" : "#").append(leaves[node]);
+                break;
+            case AND:
+            case OR:
+                plan.append(kinds[node] == AND ? "and(" : "or(");
+                for (int i = childStart[node], end = i + childCount[node]; i < end; i++) {
+                    if (i > childStart[node]) plan.append(", ");
+                    describe(currentOrder[i], currentOrder, plan);
+                }
+                plan.append(')');
+                break;
+            default:
+                plan.append(kinds[node] == TRUE ? "true" : "false");
+        }
+    }
+
+    private static final class Node {
+        final int kind;
+        final int leaf;
+        final boolean negated;
+        final double cost;
+        final ArrayList<Node> children;
+        final boolean ordered;
+        int id;
+
+        Node(int kind, int leaf, boolean negated, double cost, ArrayList<Node> children, boolean ordered) {
+            this.kind = kind;
+            this.leaf = leaf;
+            this.negated = negated;
+            this.cost = cost;
+            this.children = children;
+            this.ordered = ordered;
+        }
+
+        static Node constant(boolean value) {
+            return new Node(value ? TRUE : FALSE, -1, false, 0, new ArrayList<>(), false);
+        }
+
+        double costHint() {
+            if (kind != AND && kind != OR) return cost;
+            double total = 0;
+            for (Node child : children) total += child.costHint();
+            return total;
+        }
+
+        /**
+         * Identical keys for equivalent clauses, whatever the order of their operands unless they are ordered.
+         */
+        String key() {
+            if (kind == LEAF) return (negated ? "!" : "") + "#" + leaf;
+            if (kind == TRUE || kind == FALSE) return kind == TRUE ? "true" : "false";
+            Collection<String> childKeys = ordered ? new ArrayList<>() : new TreeSet<>();
+            for (Node child : children) childKeys.add(child.key());
+            return (kind == AND ? "and" : "or") + (ordered ? "Then" : "") + childKeys;
+        }
+
+        void collect(ArrayList<Node> nodes, int[] childrenSize) {
+            id = nodes.size();
+            nodes.add(this);
+            childrenSize[0] += children.size();
+            for (Node child : children) child.collect(nodes, childrenSize);
+        }
+    }
+
+    private static final class Compiler<T> {
+        final ArrayList<Predicate<? super T>> predicates = new ArrayList<>();
+        final IdentityHashMap<Predicate<? super T>, Integer> leafIndexes = new IdentityHashMap<>();
+
+        /**
+         * Negation normal form: only leaves are negated, and all / any / none become and / or.
+         */
+        Node normalize(Condition<T> condition, boolean negate) {
+            switch (condition.kind) {
+                case LEAF:
+                    Integer leaf = leafIndexes.get(condition.predicate);
+                    if (leaf == null) {
+                        leaf = predicates.size();
+                        leafIndexes.put(condition.predicate, leaf);
+                        predicates.add(condition.predicate);
+                    }
+                    return new Node(LEAF, leaf, negate, condition.cost, new ArrayList<>(), false);
+                case NOT:
+                    return normalize(condition.operands.head(), !negate);
+                default:
+                    boolean and = (condition.kind == Condition.Kind.ALL) != negate;
+                    ArrayList<Node> children = new ArrayList<>();
+                    for (Condition<T> operand : condition.operands) children.add(normalize(operand, negate));
+                    return new Node(and ? AND : OR, -1, false, 0, children, condition.ordered);
+            }
+        }
+
+        /**
+         * Flattens nested clauses of the same kind, unless only one of them is ordered, and folds duplicated,
+         * complementary and constant clauses.
+         */
+        Node simplify(Node node) {
+            if (node.kind != AND && node.kind != OR) return node;
+            boolean and = node.kind == AND;
+            Map<String, Node> distinct = new LinkedHashMap<>();
+            for (Node child : node.children) {
+                Node simplified = simplify(child);
+                if (simplified.kind == node.kind && simplified.ordered == node.ordered) {
+                    for (Node grandChild : simplified.children) distinct.putIfAbsent(grandChild.key(), grandChild);
+                } else {
+                    distinct.putIfAbsent(simplified.key(), simplified);
+                }
+            }
+            ArrayList<Node> children = new ArrayList<>();
+            for (Map.Entry<String, Node> clause : distinct.entrySet()) {
+                Node child = clause.getValue();
+                boolean absorbing = and ? child.kind == FALSE : child.kind == TRUE;
+                boolean neutral = and ? child.kind == TRUE : child.kind == FALSE;
+                String key = clause.getKey();
+                boolean complementPresent = child.kind == LEAF && distinct.containsKey(key.startsWith("!") ? key.substring(1) : "!" + key);
+                if (absorbing || complementPresent) return Node.constant(!and);
+                if (!neutral) children.add(child);
+            }
+            if (children.isEmpty()) return Node.constant(and);
+            if (children.size() == 1) return children.get(0);
+            return new Node(node.kind, -1, false, 0, children, node.ordered);
+        }
+    }
+}
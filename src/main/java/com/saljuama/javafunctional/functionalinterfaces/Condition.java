@@ -0,0 +1,129 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.collection.List;
+
+import java.util.function.Predicate;
+
+/**
+ * Tree of predicates composed with and, or and not, like the ones built with {@link Predicate#and},
+ * {@link io.vavr.Predicates#allOf} and friends, but kept as data so it can be {@link #compile() compiled} into a
+ * {@link CompiledPredicate} instead of being evaluated as a chain of nested lambdas.
+ * <p>
+ * Once compiled, the operands of {@link #allOf}, {@link #anyOf} and {@link #noneOf} may be evaluated in any order, so
+ * they must have no side effects and never throw. {@link #and} and {@link #or} evaluate their operands in the order
+ * they were written, like {@link Predicate#and} and {@link Predicate#or}, so the first one can guard the second one,
+ * like in {@code Condition.of(Objects::nonNull).and(...)}.
+ */
+public final class Condition<T> {
+
+    enum Kind {LEAF, ALL, ANY, NOT}
+
+    final Kind kind;
+    final Predicate<? super T> predicate;
+    final double cost;
+    final List<Condition<T>> operands;
+    final boolean ordered;
+
+    private Condition(Kind kind, Predicate<? super T> predicate, double cost, List<Condition<T>> operands, boolean ordered) {
+        this.kind = kind;
+        this.predicate = predicate;
+        this.cost = cost;
+        this.operands = operands;
+        this.ordered = ordered;
+    }
+
+    public static <T> Condition<T> of(Predicate<? super T> predicate) {
+        return of(predicate, 1);
+    }
+
+    /**
+     * A predicate with a hint of how expensive it is relative to the others, used to order the clauses until there are
+     * measurements of the real cost. The same predicate instance used in several places of a tree is evaluated as one
+     * single predicate.
+     */
+    public static <T> Condition<T> of(Predicate<? super T> predicate, double relativeCost) {
+        if (relativeCost <= 0) throw new IllegalArgumentException("relativeCost must be positive: " + relativeCost);
+        return new Condition<>(Kind.LEAF, predicate, relativeCost, List.empty(), false);
+    }
+
+    /**
+     * Same as {@link io.vavr.Predicates#allOf}, holds when there are no operands.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Condition<T> allOf(Condition<T>... operands) {
+        return new Condition<>(Kind.ALL, null, 0, List.of(operands), false);
+    }
+
+    /**
+     * Same as {@link io.vavr.Predicates#anyOf}, does not hold when there are no operands.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Condition<T> anyOf(Condition<T>... operands) {
+        return new Condition<>(Kind.ANY, null, 0, List.of(operands), false);
+    }
+
+    /**
+     * Same as {@link io.vavr.Predicates#noneOf}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Condition<T> noneOf(Condition<T>... operands) {
+        return not(anyOf(operands));
+    }
+
+    public static <T> Condition<T> not(Condition<T> operand) {
+        return new Condition<>(Kind.NOT, null, 0, List.of(operand), false);
+    }
+
+    /**
+     * Holds when both hold, evaluating {@code other} only when this one holds.
+     */
+    public Condition<T> and(Condition<T> other) {
+        return new Condition<>(Kind.ALL, null, 0, List.of(this, other), true);
+    }
+
+    /**
+     * Holds when any of them holds, evaluating {@code other} only when this one does not hold.
+     */
+    public Condition<T> or(Condition<T> other) {
+        return new Condition<>(Kind.ANY, null, 0, List.of(this, other), true);
+    }
+
+    public Condition<T> negate() {
+        return not(this);
+    }
+
+    /**
+     * Compiles the tree with the default sampling, measuring one evaluation of every 64 and reordering the clauses
+     * every 4096 evaluations.
+     */
+    public CompiledPredicate<T> compile() {
+        return new CompiledPredicate<>(this, 64, 4096);
+    }
+
+    /**
+     * Compiles the tree measuring one evaluation every {@code samplingInterval}, and reordering the clauses every
+     * {@code reorderInterval} evaluations. Both must be powers of two.
+     */
+    public CompiledPredicate<T> compile(int samplingInterval, int reorderInterval) {
+        return new CompiledPredicate<>(this, samplingInterval, reorderInterval);
+    }
+
+    /**
+     * The tree as plain composed predicates, without any of the optimizations of {@link #compile()}.
+     */
+    public Predicate<T> toPredicate() {
+        switch (kind) {
+            case LEAF:
+                return predicate::test;
+            case ALL:
+                return operands.map(Condition::toPredicate).foldLeft(value -> true, Predicate::and);
+            case ANY:
+                return operands.map(Condition::toPredicate).foldLeft(value -> false, Predicate::or);
+            default:
+                return operands.head().toPredicate().negate();
+        }
+    }
+}
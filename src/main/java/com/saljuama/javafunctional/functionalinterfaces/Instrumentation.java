@@ -0,0 +1,427 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.CheckedFunction1;
+import io.vavr.CheckedFunction2;
+import io.vavr.CheckedFunction3;
+import io.vavr.CheckedFunction4;
+import io.vavr.CheckedFunction5;
+import io.vavr.CheckedFunction6;
+import io.vavr.CheckedFunction7;
+import io.vavr.CheckedFunction8;
+import io.vavr.Function0;
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Function3;
+import io.vavr.Function4;
+import io.vavr.Function5;
+import io.vavr.Function6;
+import io.vavr.Function7;
+import io.vavr.Function8;
+import io.vavr.collection.List;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in instrumentation of functional stages: wrapping a function, consumer, predicate or supplier returns another one
+ * that counts its invocations and failures, and records its latency, under the given stage name. Composing the
+ * wrapped stages with {@code andThen}, {@code compose}, {@code and}, ... shows which one of a pipeline is the slow one.
+ * <p>
+ * Counting costs a few nanoseconds per invocation, but reading the clock twice costs tens, so only one invocation of
+ * every {@code samplingInterval} of each stage is timed. Wrapping several functions with the same name adds them up
+ * in the same stage.
+ */
+public final class Instrumentation {
+
+    private final int samplingMask;
+    private final ConcurrentHashMap<String, Stage> stages = new ConcurrentHashMap<>();
+
+    /**
+     * Times one of every 16 invocations.
+     */
+    public Instrumentation() {
+        this(16);
+    }
+
+    /**
+     * Times one of every {@code samplingInterval} invocations, which must be a power of two, 1 to time all of them.
+     */
+    public Instrumentation(int samplingInterval) {
+        if (Integer.bitCount(samplingInterval) != 1) throw new IllegalArgumentException("samplingInterval must be a power of two: " + samplingInterval);
+        this.samplingMask = samplingInterval - 1;
+    }
+
+    /**
+     * Metrics of every stage, sorted by name.
+     */
+    public List<StageSnapshot> snapshot() {
+        return List.ofAll(stages.values()).map(Stage::snapshot).sortBy(StageSnapshot::name);
+    }
+
+    public <T, R> Function<T, R> function(String name, Function<T, R> function) {
+        Stage stage = stage(name);
+        return t -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T> Consumer<T> consumer(String name, Consumer<T> consumer) {
+        Stage stage = stage(name);
+        return t -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                consumer.accept(t);
+                completed = true;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T> Predicate<T> predicate(String name, Predicate<T> predicate) {
+        Stage stage = stage(name);
+        return t -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                boolean result = predicate.test(t);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <R> Supplier<R> supplier(String name, Supplier<R> supplier) {
+        Stage stage = stage(name);
+        return () -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = supplier.get();
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <R> Function0<R> function0(String name, Function0<R> function) {
+        Stage stage = stage(name);
+        return () -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply();
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, R> Function1<T1, R> function1(String name, Function1<T1, R> function) {
+        Stage stage = stage(name);
+        return t1 -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, R> Function2<T1, T2, R> function2(String name, Function2<T1, T2, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, R> Function3<T1, T2, T3, R> function3(String name, Function3<T1, T2, T3, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> function4(String name, Function4<T1, T2, T3, T4, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, T5, R> Function5<T1, T2, T3, T4, T5, R> function5(String name, Function5<T1, T2, T3, T4, T5, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4, t5) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4, t5);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> Function6<T1, T2, T3, T4, T5, T6, R> function6(String name, Function6<T1, T2, T3, T4, T5, T6, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4, t5, t6) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4, t5, t6);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> function7(String name, Function7<T1, T2, T3, T4, T5, T6, T7, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4, t5, t6, t7) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4, t5, t6, t7);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function8(String name, Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4, t5, t6, t7, t8);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <R> CheckedFunction0<R> checkedFunction0(String name, CheckedFunction0<R> function) {
+        Stage stage = stage(name);
+        return () -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply();
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, R> CheckedFunction1<T1, R> checkedFunction1(String name, CheckedFunction1<T1, R> function) {
+        Stage stage = stage(name);
+        return t1 -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, R> CheckedFunction2<T1, T2, R> checkedFunction2(String name, CheckedFunction2<T1, T2, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, R> CheckedFunction3<T1, T2, T3, R> checkedFunction3(String name, CheckedFunction3<T1, T2, T3, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, R> CheckedFunction4<T1, T2, T3, T4, R> checkedFunction4(String name, CheckedFunction4<T1, T2, T3, T4, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, T5, R> CheckedFunction5<T1, T2, T3, T4, T5, R> checkedFunction5(String name, CheckedFunction5<T1, T2, T3, T4, T5, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4, t5) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4, t5);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> CheckedFunction6<T1, T2, T3, T4, T5, T6, R> checkedFunction6(String name, CheckedFunction6<T1, T2, T3, T4, T5, T6, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4, t5, t6) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4, t5, t6);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> CheckedFunction7<T1, T2, T3, T4, T5, T6, T7, R> checkedFunction7(String name, CheckedFunction7<T1, T2, T3, T4, T5, T6, T7, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4, t5, t6, t7) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4, t5, t6, t7);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> CheckedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> checkedFunction8(String name, CheckedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> function) {
+        Stage stage = stage(name);
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            long start = stage.start();
+            boolean completed = false;
+            try {
+                R result = function.apply(t1, t2, t3, t4, t5, t6, t7, t8);
+                completed = true;
+                return result;
+            } finally {
+                stage.stop(start, completed);
+            }
+        };
+    }
+
+    private Stage stage(String name) {
+        return stages.computeIfAbsent(name, Stage::new);
+    }
+
+    private final class Stage {
+        private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+        private final String name;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        // only decides which invocations are sampled, lost updates between threads do not matter
+        private int calls;
+
+        Stage(String name) {
+            this.name = name;
+        }
+
+        long start() {
+            invocations.increment();
+            return (++calls & samplingMask) == 0 ? System.nanoTime() : NOT_SAMPLED;
+        }
+
+        void stop(long start, boolean completed) {
+            if (start != NOT_SAMPLED) latencies.record(System.nanoTime() - start);
+            if (!completed) failures.increment();
+        }
+
+        StageSnapshot snapshot() {
+            return new StageSnapshot(name, invocations.sum(), failures.sum(), latencies.snapshot());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in nanoseconds with log-linear buckets, like HdrHistogram: values below 64 have a bucket each,
+ * and every power of two above is split in 32 buckets, so any value is kept with a relative error below 3.2% in a fixed
+ * array of counters. Recording a value is a few bit operations and one atomic increment, without allocating.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void record(long nanos) {
+        counts.getAndIncrement(bucketOf(Math.max(0, nanos)));
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    static int bucketOf(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long lowestValueOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) return bucket;
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        return (long) (bucket - (shift << SUB_BUCKET_BITS)) << shift;
+    }
+
+    static long highestValueOf(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : lowestValueOf(bucket + 1) - 1;
+    }
+
+    /**
+     * Immutable copy of the counters at some point, values are reported as the middle of their bucket.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+
+        Snapshot(long[] counts) {
+            this.counts = counts;
+            long total = 0;
+            for (long bucketCount : counts) total += bucketCount;
+            this.count = total;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Value below which the given percentage (0 to 100) of the recorded values are, or 0 when there are none.
+         */
+        public long percentile(double percentage) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(count * percentage / 100));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) return middleOf(bucket);
+            }
+            return max();
+        }
+
+        public long max() {
+            for (int bucket = counts.length - 1; bucket >= 0; bucket--) {
+                if (counts[bucket] > 0) return middleOf(bucket);
+            }
+            return 0;
+        }
+
+        public double mean() {
+            if (count == 0) return 0;
+            double total = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                if (counts[bucket] > 0) total += (double) counts[bucket] * middleOf(bucket);
+            }
+            return total / count;
+        }
+
+        private static long middleOf(int bucket) {
+            long lowest = lowestValueOf(bucket);
+            return lowest + (highestValueOf(bucket) - lowest) / 2;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.LongOpenHashSet;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Membership predicates like {@link io.vavr.Predicates#isIn}, which scans all the values on every test, but indexing
+ * the values once when the predicate is built, so testing does not depend on how many values there are:
+ * <ul>
+ * <li>{@code int} values in a narrow range go to a bit set, other {@code int} and {@code long} values to an unboxed
+ * open addressing table</li>
+ * <li>{@code String} values to an open addressing table comparing the cached hash codes before the contents</li>
+ * <li>anything else to a {@link HashSet}</li>
+ * </ul>
+ * Up to {@value #LINEAR_SCAN_LIMIT} values are scanned instead, which is faster than hashing for so few.
+ */
+public final class Membership {
+
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private Membership() {
+    }
+
+    public static IntPredicate intIn(int... values) {
+        int[] copy = values.clone();
+        if (copy.length <= LINEAR_SCAN_LIMIT) {
+            return value -> {
+                for (int candidate : copy) {
+                    if (candidate == value) return true;
+                }
+                return false;
+            };
+        }
+        int min = Arrays.stream(copy).min().getAsInt();
+        long range = (long) Arrays.stream(copy).max().getAsInt() - min + 1;
+        if (range <= Math.max(1 << 16, 64L * copy.length)) {
+            long[] bits = new long[(int) ((range + 63) >>> 6)];
+            for (int value : copy) {
+                int offset = value - min;
+                bits[offset >>> 6] |= 1L << offset;
+            }
+            return value -> {
+                long offset = (long) value - min;
+                return offset >= 0 && offset < range && (bits[(int) (offset >>> 6)] & (1L << offset)) != 0;
+            };
+        }
+        LongOpenHashSet set = new LongOpenHashSet(copy.length);
+        for (int value : copy) set.add(value);
+        return set::contains;
+    }
+
+    public static LongPredicate longIn(long... values) {
+        long[] copy = values.clone();
+        if (copy.length <= LINEAR_SCAN_LIMIT) {
+            return value -> {
+                for (long candidate : copy) {
+                    if (candidate == value) return true;
+                }
+                return false;
+            };
+        }
+        LongOpenHashSet set = new LongOpenHashSet(copy.length);
+        for (long value : copy) set.add(value);
+        return set::contains;
+    }
+
+    public static Predicate<String> stringIn(String... values) {
+        return new StringSet(values);
+    }
+
+    /**
+     * Same as {@code Predicates.isIn(values)}, {@code null} is a member when it is one of the values.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Predicate<T> isIn(T... values) {
+        return isInAll(Arrays.asList(values));
+    }
+
+    public static <T> Predicate<T> isInAll(Iterable<? extends T> values) {
+        HashSet<T> set = new HashSet<>();
+        for (T value : values) set.add(value);
+        if (set.size() <= LINEAR_SCAN_LIMIT) {
+            Object[] candidates = set.toArray();
+            return value -> {
+                for (Object candidate : candidates) {
+                    if (candidate == null ? value == null : candidate.equals(value)) return true;
+                }
+                return false;
+            };
+        }
+        return set::contains;
+    }
+
+    /**
+     * Open addressing table with linear probing, keeping the hash codes next to the strings so probing compares ints
+     * and only calls {@code equals} on a hash code match.
+     */
+    private static final class StringSet implements Predicate<String> {
+        private final String[] strings;
+        private final int[] hashes;
+        private final int mask;
+        private final boolean containsNull;
+
+        StringSet(String[] values) {
+            int capacity = Integer.highestOneBit(Math.max(4, values.length * 2) - 1) << 1;
+            this.strings = new String[capacity];
+            this.hashes = new int[capacity];
+            this.mask = capacity - 1;
+            boolean anyNull = false;
+            for (String value : values) {
+                if (value == null) {
+                    anyNull = true;
+                } else if (!test(value)) {
+                    int hash = value.hashCode();
+                    int slot = spread(hash) & mask;
+                    while (strings[slot] != null) slot = (slot + 1) & mask;
+                    strings[slot] = value;
+                    hashes[slot] = hash;
+                }
+            }
+            this.containsNull = anyNull;
+        }
+
+        @Override
+        public boolean test(String value) {
+            if (value == null) return containsNull;
+            int hash = value.hashCode();
+            int slot = spread(hash) & mask;
+            String candidate;
+            while ((candidate = strings[slot]) != null) {
+                if (hashes[slot] == hash && candidate.equals(value)) return true;
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Supplier that computes its value once and shares it between threads, like vavr's {@code Lazy}, but recomputing it
+ * when it gets old, for values like configuration or access tokens:
+ * <ul>
+ * <li>the first access computes the value once, concurrent first accesses wait for it</li>
+ * <li>after {@code refreshAfter}, the first access starts a refresh in the background and every access keeps getting
+ * the current value, without waiting, until the new one is ready. A refresh that fails keeps the current value, and
+ * the next access after that starts another one</li>
+ * <li>after {@code expireAfter}, if set, the value is too old to be used and accesses wait for a new one, failing
+ * when it can't be computed</li>
+ * </ul>
+ * Reading a value that does not need a refresh is a volatile read and a clock read, with no locking.
+ */
+public final class RefreshingSupplier<T> implements Supplier<T> {
+
+    private final Supplier<? extends T> supplier;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Entry<T> entry;
+
+    private RefreshingSupplier(Builder<T> builder) {
+        this.supplier = builder.supplier;
+        this.refreshAfterNanos = builder.refreshAfter.toNanos();
+        this.expireAfterNanos = builder.expireAfter.isZero() ? Long.MAX_VALUE : builder.expireAfter.toNanos();
+        this.executor = builder.executor;
+        this.ticker = builder.ticker;
+    }
+
+    public static <T> Builder<T> builder(Supplier<? extends T> supplier) {
+        return new Builder<>(supplier);
+    }
+
+    @Override
+    public T get() {
+        Entry<T> current = entry;
+        if (current == null) return load();
+        long age = ticker.getAsLong() - current.loadedAt;
+        if (age >= expireAfterNanos) return load();
+        if (age >= refreshAfterNanos && refreshing.compareAndSet(false, true)) refreshInBackground();
+        return current.value;
+    }
+
+    /**
+     * Whether the value has been computed, without computing it.
+     */
+    public boolean isEvaluated() {
+        return entry != null;
+    }
+
+    private synchronized T load() {
+        Entry<T> current = entry;
+        if (current != null && ticker.getAsLong() - current.loadedAt < expireAfterNanos) return current.value;
+        T value = supplier.get();
+        entry = new Entry<>(value, ticker.getAsLong());
+        return value;
+    }
+
+    private void refreshInBackground() {
+        try {
+            executor.execute(() -> {
+                try {
+                    T value = supplier.get();
+                    entry = new Entry<>(value, ticker.getAsLong());
+                } catch (RuntimeException ignored) {
+                    // keeps serving the current value, the next access retries the refresh
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long loadedAt;
+
+        Entry(T value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final Supplier<? extends T> supplier;
+        private Duration refreshAfter = Duration.ofMinutes(1);
+        private Duration expireAfter = Duration.ZERO;
+        private Executor executor = ForkJoinPool.commonPool();
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(Supplier<? extends T> supplier) {
+            this.supplier = supplier;
+        }
+
+        /**
+         * Age of the value after which the next access refreshes it in the background.
+         */
+        public Builder<T> refreshAfter(Duration refreshAfter) {
+            if (refreshAfter.isNegative()) throw new IllegalArgumentException("refreshAfter can't be negative: " + refreshAfter);
+            this.refreshAfter = refreshAfter;
+            return this;
+        }
+
+        /**
+         * Age of the value after which it is not served anymore, zero (the default) to serve it until it is refreshed.
+         */
+        public Builder<T> expireAfter(Duration expireAfter) {
+            if (expireAfter.isNegative()) throw new IllegalArgumentException("expireAfter can't be negative: " + expireAfter);
+            this.expireAfter = expireAfter;
+            return this;
+        }
+
+        public Builder<T> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Source of time in nanoseconds, {@code System::nanoTime} by default.
+         */
+        public Builder<T> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public RefreshingSupplier<T> build() {
+            if (!expireAfter.isZero() && expireAfter.compareTo(refreshAfter) <= 0) {
+                throw new IllegalArgumentException("expireAfter " + expireAfter + " must be longer than refreshAfter " + refreshAfter);
+            }
+            return new RefreshingSupplier<>(this);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+/**
+ * Metrics of one instrumented stage at some point: how many times it was invoked, how many of those threw, and the
+ * distribution of the sampled latencies.
+ */
+public final class StageSnapshot {
+
+    private final String name;
+    private final long invocations;
+    private final long failures;
+    private final LatencyHistogram.Snapshot latencies;
+
+    StageSnapshot(String name, long invocations, long failures, LatencyHistogram.Snapshot latencies) {
+        this.name = name;
+        this.invocations = invocations;
+        this.failures = failures;
+        this.latencies = latencies;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long invocations() {
+        return invocations;
+    }
+
+    public long failures() {
+        return failures;
+    }
+
+    /**
+     * Latencies in nanoseconds of the sampled invocations.
+     */
+    public LatencyHistogram.Snapshot latencies() {
+        return latencies;
+    }
+
+    /**
+     * One line summary, like {@code parse invocations=1000 failures=2 p50=120ns p99=850ns max=3100ns}.
+     */
+    @Override
+    public String toString() {
+        return name + " invocations=" + invocations + " failures=" + failures
+                + " p50=" + latencies.percentile(50) + "ns p99=" + latencies.percentile(99) + "ns max=" + latencies.max() + "ns";
+    }
+}
@@ -0,0 +1,374 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.DoubleList;
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.IntList;
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.LongList;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable column of values kept in one array, the building block of {@link Zipped}: zipping two columns, unzipping
+ * them back or combining them element by element never allocates a {@link io.vavr.Tuple2} per element.
+ * <p>
+ * Like {@link IntList}, the array is never modified once built, so slices share it and the rest of the operations
+ * allocate one array for the result. Columns of numbers can keep them unboxed in an {@link IntList}, {@link LongList}
+ * or {@link DoubleList} ({@link #ofInts}, {@link #ofLongs}, {@link #ofDoubles}), which are only boxed one at a time
+ * when read, and the primitive versions of {@code map} give any column back as one of those lists.
+ */
+public final class Column<T> implements Iterable<T> {
+
+    private static final Column<?> EMPTY = new Column<>(new ObjectValues(new Object[0], 0, 0));
+
+    private final Values values;
+    private final int length;
+
+    private Column(Values values) {
+        this.values = values;
+        this.length = values.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Column<T> empty() {
+        return (Column<T>) EMPTY;
+    }
+
+    /**
+     * Wraps an array that nobody else modifies anymore.
+     */
+    static <T> Column<T> wrap(Object[] elements, int length) {
+        return length == 0 ? empty() : new Column<>(new ObjectValues(elements, 0, length));
+    }
+
+    /**
+     * Column sharing the {@code int} values of the list, without boxing them.
+     */
+    public static Column<Integer> ofInts(IntList values) {
+        return values.isEmpty() ? empty() : new Column<>(new IntValues(values));
+    }
+
+    /**
+     * Column sharing the {@code long} values of the list, without boxing them.
+     */
+    public static Column<Long> ofLongs(LongList values) {
+        return values.isEmpty() ? empty() : new Column<>(new LongValues(values));
+    }
+
+    /**
+     * Column sharing the {@code double} values of the list, without boxing them.
+     */
+    public static Column<Double> ofDoubles(DoubleList values) {
+        return values.isEmpty() ? empty() : new Column<>(new DoubleValues(values));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Column<T> of(T... values) {
+        return wrap(values.clone(), values.length);
+    }
+
+    public static <T> Column<T> ofAll(Iterable<? extends T> values) {
+        if (values instanceof Column) {
+            @SuppressWarnings("unchecked")
+            Column<T> column = (Column<T>) values;
+            return column;
+        }
+        Object[] result = new Object[16];
+        int size = 0;
+        for (T value : values) {
+            if (size == result.length) result = Arrays.copyOf(result, size * 2);
+            result[size++] = value;
+        }
+        return wrap(result, size);
+    }
+
+    public static <T> Column<T> tabulate(int size, IntFunction<? extends T> generator) {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = generator.apply(i);
+        }
+        return wrap(result, size);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public T get(int index) {
+        if (index < 0 || index >= length) throw new IndexOutOfBoundsException("get(" + index + ") on Column of size " + length);
+        return cast(values.get(index));
+    }
+
+    public Column<T> take(int n) {
+        return slice(0, n);
+    }
+
+    public Column<T> drop(int n) {
+        return slice(n, length);
+    }
+
+    public Column<T> slice(int beginIndex, int endIndex) {
+        int from = Math.max(0, beginIndex);
+        int to = Math.min(length, endIndex);
+        if (from >= to) return empty();
+        if (from == 0 && to == length) return this;
+        return new Column<>(values.slice(from, to));
+    }
+
+    public <R> Column<R> map(Function<? super T, ? extends R> mapper) {
+        Object[] result = new Object[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = mapper.apply(cast(values.get(i)));
+        }
+        return wrap(result, length);
+    }
+
+    public IntList mapToInt(ToIntFunction<? super T> mapper) {
+        return IntList.tabulate(length, index -> mapper.applyAsInt(cast(values.get(index))));
+    }
+
+    public LongList mapToLong(ToLongFunction<? super T> mapper) {
+        return LongList.tabulate(length, index -> mapper.applyAsLong(cast(values.get(index))));
+    }
+
+    public DoubleList mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return DoubleList.tabulate(length, index -> mapper.applyAsDouble(cast(values.get(index))));
+    }
+
+    /**
+     * Pairs the elements in the same position, as long as the shortest of both columns. Both columns are shared, not
+     * copied.
+     */
+    public <U> Zipped<T, U> zip(Column<U> other) {
+        int size = Math.min(length, other.length);
+        return new Zipped<>(take(size), other.take(size));
+    }
+
+    /**
+     * Pairs the elements in the same position, filling the shortest column with its default value.
+     */
+    public <U> Zipped<T, U> zipAll(Column<U> other, T thisDefault, U otherDefault) {
+        int size = Math.max(length, other.length);
+        return new Zipped<>(padTo(size, thisDefault), other.padTo(size, otherDefault));
+    }
+
+    public <U, R> Column<R> zipWith(Column<U> other, BiFunction<? super T, ? super U, ? extends R> combine) {
+        return zip(other).map(combine);
+    }
+
+    /**
+     * Same as vavr's {@code zipWithIndex(BiFunction)}, with the index as an {@code int} instead of a boxed
+     * {@code Integer} paired with every element.
+     */
+    public <R> Column<R> zipWithIndex(IndexedFunction<? super T, ? extends R> combine) {
+        Object[] result = new Object[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = combine.apply(cast(values.get(i)), i);
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Same as vavr's {@code unzip}, with one function per side instead of one function returning a tuple.
+     */
+    public <A, B> Zipped<A, B> unzip(Function<? super T, ? extends A> left, Function<? super T, ? extends B> right) {
+        return new Zipped<>(map(left), map(right));
+    }
+
+    Column<T> padTo(int size, T padding) {
+        if (size <= length) return this;
+        Object[] result = new Object[size];
+        for (int i = 0; i < length; i++) {
+            result[i] = values.get(i);
+        }
+        Arrays.fill(result, length, size, padding);
+        return wrap(result, size);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < length;
+            }
+
+            @Override
+            public T next() {
+                if (index == length) throw new NoSuchElementException("no more elements in the Column");
+                return cast(values.get(index++));
+            }
+        };
+    }
+
+    public List<T> toList() {
+        List<T> result = List.empty();
+        for (int i = length - 1; i >= 0; i--) {
+            result = result.prepend(cast(values.get(i)));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    @FunctionalInterface
+    public interface IndexedFunction<T, R> {
+        R apply(T value, int index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Column)) return false;
+        Column<?> that = (Column<?>) other;
+        if (length != that.length) return false;
+        for (int i = 0; i < length; i++) {
+            if (!Objects.equals(values.get(i), that.values.get(i))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + Objects.hashCode(values.get(i));
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Column(");
+        for (int i = 0; i < length; i++) {
+            if (i > 0) result.append(", ");
+            result.append(values.get(i));
+        }
+        return result.append(')').toString();
+    }
+
+    /**
+     * Where the values of a column are kept, either as objects or unboxed in a primitive list.
+     */
+    private interface Values {
+        int size();
+
+        Object get(int index);
+
+        Values slice(int from, int to);
+    }
+
+    private static final class ObjectValues implements Values {
+        private final Object[] elements;
+        private final int offset;
+        private final int length;
+
+        ObjectValues(Object[] elements, int offset, int length) {
+            this.elements = elements;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public Object get(int index) {
+            return elements[offset + index];
+        }
+
+        @Override
+        public Values slice(int from, int to) {
+            return new ObjectValues(elements, offset + from, to - from);
+        }
+    }
+
+    private static final class IntValues implements Values {
+        private final IntList list;
+
+        IntValues(IntList list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Object get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Values slice(int from, int to) {
+            return new IntValues(list.slice(from, to));
+        }
+    }
+
+    private static final class LongValues implements Values {
+        private final LongList list;
+
+        LongValues(LongList list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Object get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Values slice(int from, int to) {
+            return new LongValues(list.slice(from, to));
+        }
+    }
+
+    private static final class DoubleValues implements Values {
+        private final DoubleList list;
+
+        DoubleValues(DoubleList list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Object get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Values slice(int from, int to) {
+            return new DoubleValues(list.slice(from, to));
+        }
+    }
+}
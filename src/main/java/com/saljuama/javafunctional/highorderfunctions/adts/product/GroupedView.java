@@ -0,0 +1,115 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Result of {@code groupBy} on a growing sequence, kept up to date element by element instead of grouping the whole
+ * sequence again after every change.
+ * <p>
+ * The view is immutable: {@link #append(Object)} and {@link #remove(Object)} return a new view sharing the untouched
+ * groups with the original one. Appending classifies only the new element and appends it to its group, so it costs
+ * O(1) per element (effectively, vavr's {@link HashMap} and {@link Vector} are O(log32 n)) instead of O(n). Only
+ * appends are incremental: removing an element searches its group and copies the rest of it, so it costs O(group size),
+ * which is still less than grouping again but not O(1). The groups keep the elements in the order they were appended,
+ * the same order as {@code groupBy} over the sequence, and groups left empty are removed.
+ */
+public final class GroupedView<K, T> {
+
+    private final Function<? super T, ? extends K> classifier;
+    private final HashMap<K, Vector<T>> groups;
+    private final int size;
+
+    private GroupedView(Function<? super T, ? extends K> classifier, HashMap<K, Vector<T>> groups, int size) {
+        this.classifier = classifier;
+        this.groups = groups;
+        this.size = size;
+    }
+
+    public static <K, T> GroupedView<K, T> groupingBy(Function<? super T, ? extends K> classifier) {
+        return new GroupedView<>(classifier, HashMap.empty(), 0);
+    }
+
+    /**
+     * Grouping by a predicate, with {@link #partition()} giving the result of {@code partition} on the sequence.
+     */
+    public static <T> GroupedView<Boolean, T> partitioningBy(Predicate<? super T> predicate) {
+        return groupingBy(predicate::test);
+    }
+
+    public GroupedView<K, T> append(T element) {
+        K key = classifier.apply(element);
+        Vector<T> group = groups.get(key).getOrElse(Vector.empty());
+        return new GroupedView<>(classifier, groups.put(key, group.append(element)), size + 1);
+    }
+
+    public GroupedView<K, T> appendAll(Iterable<? extends T> elements) {
+        HashMap<K, Vector<T>> result = groups;
+        int resultSize = size;
+        for (T element : elements) {
+            K key = classifier.apply(element);
+            result = result.put(key, result.get(key).getOrElse(Vector.empty()).append(element));
+            resultSize++;
+        }
+        return new GroupedView<>(classifier, result, resultSize);
+    }
+
+    /**
+     * Removes the first occurrence of the element, if any, in O(size of its group).
+     */
+    public GroupedView<K, T> remove(T element) {
+        K key = classifier.apply(element);
+        Option<Vector<T>> group = groups.get(key);
+        if (group.isEmpty()) return this;
+        Vector<T> remaining = group.get().remove(element);
+        if (remaining.size() == group.get().size()) return this;
+        HashMap<K, Vector<T>> result = remaining.isEmpty() ? groups.remove(key) : groups.put(key, remaining);
+        return new GroupedView<>(classifier, result, size - 1);
+    }
+
+    public GroupedView<K, T> removeAll(Iterable<? extends T> elements) {
+        GroupedView<K, T> result = this;
+        for (T element : elements) {
+            result = result.remove(element);
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@code groupBy(classifier)} over all the elements appended and not removed.
+     */
+    public HashMap<K, Vector<T>> groups() {
+        return groups;
+    }
+
+    public Vector<T> group(K key) {
+        return groups.get(key).getOrElse(Vector.empty());
+    }
+
+    /**
+     * The elements classified as {@code true} and {@code false}, same as {@code partition(predicate)} for views built
+     * with {@link #partitioningBy(Predicate)}.
+     */
+    public Tuple2<Vector<T>, Vector<T>> partition() {
+        return Tuple.of(groups.get(cast(Boolean.TRUE)).getOrElse(Vector.empty()), groups.get(cast(Boolean.FALSE)).getOrElse(Vector.empty()));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K cast(Object key) {
+        return (K) key;
+    }
+}
@@ -0,0 +1,172 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.PartialFunction;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+
+import java.util.ArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lazy chain of high order functions over a vavr collection (or any {@link Iterable}) that is run in one single pass
+ * when a terminal operation is called, so {@code filter(p).map(f)} does not build the intermediate list that
+ * {@code list.filter(p).map(f)} does.
+ * <p>
+ * Each stage gives the same result as the equivalent {@link List} method, including {@link #peek(Consumer)} that like
+ * {@code List.peek} only sees the first element reaching it. Stages are recorded, not run, so a pipeline can be run
+ * several times and every run iterates the source again.
+ */
+public final class Pipeline<T> {
+
+    /**
+     * Receives the elements of a run one by one, returning {@code false} when it does not need more of them.
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+        boolean accept(T value);
+    }
+
+    /**
+     * Builds, for every run, the chain of sinks that feeds the given downstream sink from the source elements.
+     */
+    @FunctionalInterface
+    private interface Stages<T> {
+        Sink<Object> wrap(Sink<? super T> downstream);
+    }
+
+    private final Iterable<?> source;
+    private final Stages<T> stages;
+
+    private Pipeline(Iterable<?> source, Stages<T> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Pipeline<T> from(Iterable<? extends T> source) {
+        return new Pipeline<>(source, downstream -> (Sink<Object>) downstream);
+    }
+
+    public <U> Pipeline<U> map(Function<? super T, ? extends U> mapper) {
+        return new Pipeline<>(source, downstream -> stages.wrap(value -> downstream.accept(mapper.apply(value))));
+    }
+
+    public Pipeline<T> filter(Predicate<? super T> predicate) {
+        return new Pipeline<>(source, downstream -> stages.wrap(value -> !predicate.test(value) || downstream.accept(value)));
+    }
+
+    public <U> Pipeline<U> flatMap(Function<? super T, ? extends Iterable<? extends U>> mapper) {
+        return new Pipeline<>(source, downstream -> stages.wrap(value -> {
+            for (U mapped : mapper.apply(value)) {
+                if (!downstream.accept(mapped)) return false;
+            }
+            return true;
+        }));
+    }
+
+    public <R> Pipeline<R> collect(PartialFunction<? super T, ? extends R> partialFunction) {
+        return new Pipeline<>(source, downstream -> stages.wrap(value ->
+                !partialFunction.isDefinedAt(value) || downstream.accept(partialFunction.apply(value))));
+    }
+
+    /**
+     * Stops iterating the source as soon as {@code n} elements went through.
+     */
+    public Pipeline<T> take(int n) {
+        return new Pipeline<>(source, downstream -> {
+            int[] remaining = {n};
+            return stages.wrap(value -> remaining[0]-- > 0 && downstream.accept(value) && remaining[0] > 0);
+        });
+    }
+
+    public Pipeline<T> drop(int n) {
+        return new Pipeline<>(source, downstream -> {
+            int[] toDrop = {n};
+            return stages.wrap(value -> {
+                if (toDrop[0] > 0) {
+                    toDrop[0]--;
+                    return true;
+                }
+                return downstream.accept(value);
+            });
+        });
+    }
+
+    /**
+     * Performs the action on the first element reaching this stage only, like {@code List.peek}.
+     */
+    public Pipeline<T> peek(Consumer<? super T> action) {
+        return new Pipeline<>(source, downstream -> {
+            boolean[] peeked = {false};
+            return stages.wrap(value -> {
+                if (!peeked[0]) {
+                    peeked[0] = true;
+                    action.accept(value);
+                }
+                return downstream.accept(value);
+            });
+        });
+    }
+
+    public List<T> toList() {
+        ArrayList<T> buffer = collectAll();
+        List<T> result = List.empty();
+        for (int i = buffer.size() - 1; i >= 0; i--) {
+            result = result.prepend(buffer.get(i));
+        }
+        return result;
+    }
+
+    public Vector<T> toVector() {
+        return Vector.ofAll(collectAll());
+    }
+
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> combine) {
+        Object[] accumulator = {zero};
+        run(value -> {
+            accumulator[0] = combine.apply(uncheckedCast(accumulator[0]), value);
+            return true;
+        });
+        return uncheckedCast(accumulator[0]);
+    }
+
+    public Option<T> headOption() {
+        Object[] head = new Object[1];
+        boolean[] found = {false};
+        run(value -> {
+            head[0] = value;
+            found[0] = true;
+            return false;
+        });
+        return found[0] ? Option.some(uncheckedCast(head[0])) : Option.none();
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        run(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    private ArrayList<T> collectAll() {
+        ArrayList<T> buffer = new ArrayList<>();
+        run(buffer::add);
+        return buffer;
+    }
+
+    private void run(Sink<? super T> terminal) {
+        Sink<Object> sink = stages.wrap(terminal);
+        for (Object value : source) {
+            if (!sink.accept(value)) return;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T uncheckedCast(Object value) {
+        return (T) value;
+    }
+}
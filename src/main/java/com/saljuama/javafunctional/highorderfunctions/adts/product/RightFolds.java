@@ -0,0 +1,100 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.collection.LinearSeq;
+import io.vavr.collection.List;
+
+import java.util.ArrayList;
+import java.util.function.BiFunction;
+
+/**
+ * Stack safe {@code foldRight} and {@code scanRight} for linked sequences like {@link List}, that do not reverse
+ * (buffer) the whole input to walk it from the end.
+ * <p>
+ * A first pass keeps a reference to every {@code sqrt(n)}-th suffix of the sequence, which is free in a linked
+ * sequence, and then the chunks between those suffixes are copied to a buffer and folded from the last one to the first
+ * one. For a {@code List}, extra memory is {@code O(sqrt(n))} instead of the {@code O(n)} of a full reverse, and there
+ * is no recursion.
+ * <p>
+ * A {@link io.vavr.collection.Stream} is folded without recursion too, but not in {@code O(sqrt(n))} memory: the first
+ * pass evaluates the whole stream, and since the suffixes kept reference its head, all its {@code n} memoized cells
+ * stay in memory until the fold ends. Infinite streams never end.
+ */
+public final class RightFolds {
+
+    private RightFolds() {
+    }
+
+    /**
+     * Same as {@code seq.foldRight(zero, combine)}.
+     */
+    public static <T, U> U foldRight(LinearSeq<T> seq, U zero, BiFunction<? super T, ? super U, ? extends U> combine) {
+        U accumulator = zero;
+        Chunks<T> chunks = new Chunks<>(seq);
+        for (int chunk = chunks.count() - 1; chunk >= 0; chunk--) {
+            int size = chunks.load(chunk);
+            for (int i = size - 1; i >= 0; i--) {
+                accumulator = combine.apply(chunks.element(i), accumulator);
+            }
+        }
+        return accumulator;
+    }
+
+    /**
+     * Same as {@code seq.scanRight(zero, combine)}, the {@code n + 1} accumulators are returned as a {@link List}
+     * whatever the type of the sequence is.
+     */
+    public static <T, U> List<U> scanRight(LinearSeq<T> seq, U zero, BiFunction<? super T, ? super U, ? extends U> combine) {
+        U accumulator = zero;
+        List<U> result = List.of(accumulator);
+        Chunks<T> chunks = new Chunks<>(seq);
+        for (int chunk = chunks.count() - 1; chunk >= 0; chunk--) {
+            int size = chunks.load(chunk);
+            for (int i = size - 1; i >= 0; i--) {
+                accumulator = combine.apply(chunks.element(i), accumulator);
+                result = result.prepend(accumulator);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Suffixes of the sequence at the start of every chunk, plus a buffer to copy one chunk at a time.
+     */
+    private static final class Chunks<T> {
+        private final ArrayList<LinearSeq<T>> starts = new ArrayList<>();
+        private final Object[] buffer;
+
+        Chunks(LinearSeq<T> seq) {
+            int size = seq.size();
+            int chunkSize = Math.max(1, (int) Math.ceil(Math.sqrt(size)));
+            this.buffer = new Object[chunkSize];
+            LinearSeq<T> current = seq;
+            for (int position = 0; position < size; position++) {
+                if (position % chunkSize == 0) starts.add(current);
+                current = current.tail();
+            }
+        }
+
+        int count() {
+            return starts.size();
+        }
+
+        /**
+         * Copies the chunk to the buffer, returning its number of elements.
+         */
+        int load(int chunk) {
+            LinearSeq<T> current = starts.get(chunk);
+            int size = 0;
+            while (size < buffer.length && !current.isEmpty()) {
+                buffer[size++] = current.head();
+                current = current.tail();
+            }
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        T element(int index) {
+            return (T) buffer[index];
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Immutable sequence for index-heavy slicing workloads, where vavr's {@link List} rebuilds the whole prefix on every
+ * right-side slice ({@code takeRight}, {@code dropRight}, {@code dropRightWhile}...).
+ * <p>
+ * The elements are kept in chunks of up to {@value #CHUNK} elements at the leaves of a height-balanced (AVL) binary
+ * tree, where every node knows its size. Indexing, {@link #take(int)}, {@link #drop(int)}, their right-side versions,
+ * {@link #slice(int, int)}, {@link #appendAll(Rope)} and {@link #update(int, Object)} are O(log n): they only rebuild
+ * one path of the tree and share the rest of it with the original rope. The predicate based slices scan until the
+ * first match, from the left or from the right, and then slice in O(log n).
+ */
+public final class Rope<T> implements Iterable<T> {
+
+    static final int CHUNK = 32;
+
+    private static final Rope<?> EMPTY = new Rope<>(new Leaf(new Object[0]));
+
+    private final Node root;
+
+    private Rope(Node root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Rope<T> empty() {
+        return (Rope<T>) EMPTY;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Rope<T> of(T... values) {
+        return ofAll(Arrays.asList(values));
+    }
+
+    public static <T> Rope<T> ofAll(Iterable<? extends T> values) {
+        if (values instanceof Rope) {
+            @SuppressWarnings("unchecked")
+            Rope<T> rope = (Rope<T>) values;
+            return rope;
+        }
+        ArrayList<Node> leaves = new ArrayList<>();
+        Object[] chunk = new Object[CHUNK];
+        int size = 0;
+        for (T value : values) {
+            if (size == CHUNK) {
+                leaves.add(new Leaf(chunk));
+                chunk = new Object[CHUNK];
+                size = 0;
+            }
+            chunk[size++] = value;
+        }
+        if (size > 0) leaves.add(new Leaf(Arrays.copyOf(chunk, size)));
+        return leaves.isEmpty() ? empty() : new Rope<>(balanced(leaves, 0, leaves.size()));
+    }
+
+    public static <T> Rope<T> tabulate(int size, IntFunction<? extends T> generator) {
+        ArrayList<Node> leaves = new ArrayList<>();
+        for (int start = 0; start < size; start += CHUNK) {
+            Object[] chunk = new Object[Math.min(CHUNK, size - start)];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = generator.apply(start + i);
+            }
+            leaves.add(new Leaf(chunk));
+        }
+        return leaves.isEmpty() ? empty() : new Rope<>(balanced(leaves, 0, leaves.size()));
+    }
+
+    /**
+     * Halving the leaves on every level keeps the heights of any two siblings at most one apart.
+     */
+    private static Node balanced(ArrayList<Node> leaves, int from, int to) {
+        if (to - from == 1) return leaves.get(from);
+        int middle = (from + to) >>> 1;
+        return new Concat(balanced(leaves, from, middle), balanced(leaves, middle, to));
+    }
+
+    public int size() {
+        return root.size;
+    }
+
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    public T get(int index) {
+        if (index < 0 || index >= root.size) throw new IndexOutOfBoundsException("get(" + index + ") on Rope of size " + root.size);
+        Node node = root;
+        while (node instanceof Concat) {
+            Concat concat = (Concat) node;
+            if (index < concat.left.size) {
+                node = concat.left;
+            } else {
+                index -= concat.left.size;
+                node = concat.right;
+            }
+        }
+        return cast(((Leaf) node).items[index]);
+    }
+
+    public T head() {
+        if (isEmpty()) throw new NoSuchElementException("head of empty Rope");
+        return get(0);
+    }
+
+    public T last() {
+        if (isEmpty()) throw new NoSuchElementException("last of empty Rope");
+        return get(root.size - 1);
+    }
+
+    public Rope<T> tail() {
+        if (isEmpty()) throw new UnsupportedOperationException("tail of empty Rope");
+        return drop(1);
+    }
+
+    public Rope<T> init() {
+        if (isEmpty()) throw new UnsupportedOperationException("init of empty Rope");
+        return dropRight(1);
+    }
+
+    public Rope<T> take(int n) {
+        if (n <= 0) return empty();
+        if (n >= root.size) return this;
+        return new Rope<>(take(root, n));
+    }
+
+    public Rope<T> drop(int n) {
+        if (n <= 0) return this;
+        if (n >= root.size) return empty();
+        return new Rope<>(drop(root, n));
+    }
+
+    public Rope<T> takeRight(int n) {
+        return drop(root.size - n);
+    }
+
+    public Rope<T> dropRight(int n) {
+        return take(root.size - n);
+    }
+
+    public Rope<T> slice(int beginIndex, int endIndex) {
+        return take(endIndex).drop(beginIndex);
+    }
+
+    public Rope<T> takeWhile(Predicate<? super T> predicate) {
+        return take(indexWhere(predicate.negate()));
+    }
+
+    public Rope<T> takeUntil(Predicate<? super T> predicate) {
+        return take(indexWhere(predicate));
+    }
+
+    public Rope<T> dropWhile(Predicate<? super T> predicate) {
+        return drop(indexWhere(predicate.negate()));
+    }
+
+    public Rope<T> dropUntil(Predicate<? super T> predicate) {
+        return drop(indexWhere(predicate));
+    }
+
+    /**
+     * Drops elements from the right until one satisfies the predicate, which is kept.
+     */
+    public Rope<T> dropRightUntil(Predicate<? super T> predicate) {
+        return take(lastIndexWhere(root, predicate, 0) + 1);
+    }
+
+    public Rope<T> dropRightWhile(Predicate<? super T> predicate) {
+        return dropRightUntil(predicate.negate());
+    }
+
+    /**
+     * Index of the first element satisfying the predicate, {@code size()} when there is none.
+     */
+    private int indexWhere(Predicate<? super T> predicate) {
+        int index = 0;
+        for (T value : this) {
+            if (predicate.test(value)) return index;
+            index++;
+        }
+        return index;
+    }
+
+    public Rope<T> prepend(T value) {
+        return new Rope<>(join(new Leaf(new Object[]{value}), root));
+    }
+
+    public Rope<T> append(T value) {
+        return new Rope<>(join(root, new Leaf(new Object[]{value})));
+    }
+
+    public Rope<T> appendAll(Rope<? extends T> other) {
+        return new Rope<>(join(root, other.root));
+    }
+
+    public Rope<T> prependAll(Rope<? extends T> other) {
+        return new Rope<>(join(other.root, root));
+    }
+
+    public Rope<T> update(int index, T value) {
+        if (index < 0 || index >= root.size) throw new IndexOutOfBoundsException("update(" + index + ") on Rope of size " + root.size);
+        return new Rope<>(update(root, index, value));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new LeafIterator<>(root);
+    }
+
+    public List<T> toList() {
+        return List.ofAll(this);
+    }
+
+    public Vector<T> toVector() {
+        return Vector.ofAll(this);
+    }
+
+    /**
+     * Height of the tree, at most about {@code 1.44 * log2(size / CHUNK)}.
+     */
+    int height() {
+        return root.height;
+    }
+
+    private static Node take(Node node, int n) {
+        if (n == node.size) return node;
+        if (node instanceof Leaf) return new Leaf(Arrays.copyOf(((Leaf) node).items, n));
+        Concat concat = (Concat) node;
+        if (n <= concat.left.size) return take(concat.left, n);
+        return join(concat.left, take(concat.right, n - concat.left.size));
+    }
+
+    private static Node drop(Node node, int n) {
+        if (n == 0) return node;
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items;
+            return new Leaf(Arrays.copyOfRange(items, n, items.length));
+        }
+        Concat concat = (Concat) node;
+        if (n >= concat.left.size) return drop(concat.right, n - concat.left.size);
+        return join(drop(concat.left, n), concat.right);
+    }
+
+    private static Node update(Node node, int index, Object value) {
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items.clone();
+            items[index] = value;
+            return new Leaf(items);
+        }
+        Concat concat = (Concat) node;
+        if (index < concat.left.size) return new Concat(update(concat.left, index, value), concat.right);
+        return new Concat(concat.left, update(concat.right, index - concat.left.size, value));
+    }
+
+    private static <T> int lastIndexWhere(Node node, Predicate<? super T> predicate, int offset) {
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items;
+            for (int i = items.length - 1; i >= 0; i--) {
+                if (predicate.test(cast(items[i]))) return offset + i;
+            }
+            return -1;
+        }
+        Concat concat = (Concat) node;
+        int found = lastIndexWhere(concat.right, predicate, offset + concat.left.size);
+        return found >= 0 ? found : lastIndexWhere(concat.left, predicate, offset);
+    }
+
+    /**
+     * Concatenates two balanced trees, walking down the spine of the taller one until the heights match and
+     * rebalancing with rotations on the way back up, so it costs the difference of heights. Neighbouring leaves that
+     * fit in one chunk are merged, otherwise appending one element at a time would leave one element per leaf.
+     */
+    private static Node join(Node left, Node right) {
+        if (left.size == 0) return right;
+        if (right.size == 0) return left;
+        if (left.height > right.height + 1) return joinRight((Concat) left, right);
+        if (right.height > left.height + 1) return joinLeft(left, (Concat) right);
+        return mergedOrConcat(left, right);
+    }
+
+    private static Node joinRight(Concat left, Node right) {
+        Node joined = left.right.height <= right.height + 1
+                ? mergedOrConcat(left.right, right)
+                : joinRight((Concat) left.right, right);
+        if (joined.height <= left.left.height + 1) return new Concat(left.left, joined);
+        Concat tall = (Concat) joined;
+        if (tall.left.height > tall.right.height) tall = rotateRight(tall);
+        return rotateLeft(new Concat(left.left, tall));
+    }
+
+    private static Node joinLeft(Node left, Concat right) {
+        Node joined = right.left.height <= left.height + 1
+                ? mergedOrConcat(left, right.left)
+                : joinLeft(left, (Concat) right.left);
+        if (joined.height <= right.right.height + 1) return new Concat(joined, right.right);
+        Concat tall = (Concat) joined;
+        if (tall.right.height > tall.left.height) tall = rotateLeft(tall);
+        return rotateRight(new Concat(tall, right.right));
+    }
+
+    private static Concat rotateLeft(Concat node) {
+        Concat right = (Concat) node.right;
+        return new Concat(new Concat(node.left, right.left), right.right);
+    }
+
+    private static Concat rotateRight(Concat node) {
+        Concat left = (Concat) node.left;
+        return new Concat(left.left, new Concat(left.right, node.right));
+    }
+
+    private static Node mergedOrConcat(Node left, Node right) {
+        if (left instanceof Leaf && right instanceof Leaf && left.size + right.size <= CHUNK) {
+            Object[] items = Arrays.copyOf(((Leaf) left).items, left.size + right.size);
+            System.arraycopy(((Leaf) right).items, 0, items, left.size, right.size);
+            return new Leaf(items);
+        }
+        return new Concat(left, right);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    private abstract static class Node {
+        final int size;
+        final int height;
+
+        Node(int size, int height) {
+            this.size = size;
+            this.height = height;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final Object[] items;
+
+        Leaf(Object[] items) {
+            super(items.length, 0);
+            this.items = items;
+        }
+    }
+
+    private static final class Concat extends Node {
+        final Node left;
+        final Node right;
+
+        Concat(Node left, Node right) {
+            super(left.size + right.size, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Walks the leaves from left to right, keeping the pending right subtrees in a stack.
+     */
+    private static final class LeafIterator<T> implements Iterator<T> {
+        private final ArrayDeque<Node> pending = new ArrayDeque<>();
+        private Object[] items;
+        private int index;
+
+        LeafIterator(Node root) {
+            this.items = descend(root);
+        }
+
+        private Object[] descend(Node node) {
+            while (node instanceof Concat) {
+                pending.push(((Concat) node).right);
+                node = ((Concat) node).left;
+            }
+            return ((Leaf) node).items;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (index == items.length) {
+                if (pending.isEmpty()) return false;
+                items = descend(pending.pop());
+                index = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException("no more elements in the Rope");
+            return cast(items[index++]);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Rope)) return false;
+        Rope<?> that = (Rope<?>) other;
+        if (root.size != that.root.size) return false;
+        java.util.Iterator<?> theirs = that.iterator();
+        for (T value : this) {
+            if (!Objects.equals(value, theirs.next())) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (T value : this) {
+            hash = 31 * hash + Objects.hashCode(value);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Rope(");
+        String separator = "";
+        for (T value : this) {
+            result.append(separator).append(value);
+            separator = ", ";
+        }
+        return result.append(')').toString();
+    }
+}
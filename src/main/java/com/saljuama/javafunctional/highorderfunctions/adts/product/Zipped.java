@@ -0,0 +1,172 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.Function3;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+
+/**
+ * Sequence of pairs stored as two {@link Column}s of the same size, the columnar version of vavr's
+ * {@code Seq<Tuple2<A, B>>}.
+ * <p>
+ * Zipping, unzipping ({@link #left()}, {@link #right()}, {@link #unzip()}), slicing and swapping are structural: they
+ * share the columns in O(1). The operations taking both values of a pair receive them as two arguments, so a
+ * {@link Tuple2} is only allocated when converting to vavr with {@link #get(int)} or {@link #toList()}.
+ */
+public final class Zipped<A, B> {
+
+    private final Column<A> left;
+    private final Column<B> right;
+
+    Zipped(Column<A> left, Column<B> right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Same as {@code left.zip(right)} with any iterables, which are copied to columns.
+     */
+    public static <A, B> Zipped<A, B> zip(Iterable<? extends A> left, Iterable<? extends B> right) {
+        return Column.<A>ofAll(left).zip(Column.ofAll(right));
+    }
+
+    /**
+     * Unzips vavr pairs to columns, the inverse of {@link #toList()}.
+     */
+    public static <A, B> Zipped<A, B> ofAll(Iterable<? extends Tuple2<? extends A, ? extends B>> pairs) {
+        Object[] lefts = new Object[16];
+        Object[] rights = new Object[16];
+        int size = 0;
+        for (Tuple2<? extends A, ? extends B> pair : pairs) {
+            if (size == lefts.length) {
+                lefts = Arrays.copyOf(lefts, size * 2);
+                rights = Arrays.copyOf(rights, size * 2);
+            }
+            lefts[size] = pair._1;
+            rights[size++] = pair._2;
+        }
+        return new Zipped<>(Column.wrap(lefts, size), Column.wrap(rights, size));
+    }
+
+    public int size() {
+        return left.size();
+    }
+
+    public boolean isEmpty() {
+        return left.isEmpty();
+    }
+
+    public Column<A> left() {
+        return left;
+    }
+
+    public Column<B> right() {
+        return right;
+    }
+
+    public Tuple2<Column<A>, Column<B>> unzip() {
+        return Tuple.of(left, right);
+    }
+
+    public Tuple2<A, B> get(int index) {
+        return Tuple.of(left.get(index), right.get(index));
+    }
+
+    public Zipped<B, A> swap() {
+        return new Zipped<>(right, left);
+    }
+
+    public Zipped<A, B> take(int n) {
+        return new Zipped<>(left.take(n), right.take(n));
+    }
+
+    public Zipped<A, B> drop(int n) {
+        return new Zipped<>(left.drop(n), right.drop(n));
+    }
+
+    public Zipped<A, B> slice(int beginIndex, int endIndex) {
+        return new Zipped<>(left.slice(beginIndex, endIndex), right.slice(beginIndex, endIndex));
+    }
+
+    /**
+     * Combines both values of every pair, same as vavr's {@code zipWith} on the original sequences.
+     */
+    public <R> Column<R> map(BiFunction<? super A, ? super B, ? extends R> combine) {
+        int size = size();
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = combine.apply(left.get(i), right.get(i));
+        }
+        return Column.wrap(result, size);
+    }
+
+    public Zipped<A, B> filter(BiPredicate<? super A, ? super B> predicate) {
+        int size = size();
+        Object[] lefts = new Object[size];
+        Object[] rights = new Object[size];
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            A a = left.get(i);
+            B b = right.get(i);
+            if (predicate.test(a, b)) {
+                lefts[kept] = a;
+                rights[kept++] = b;
+            }
+        }
+        if (kept == size) return this;
+        return new Zipped<>(Column.wrap(lefts, kept), Column.wrap(rights, kept));
+    }
+
+    public <U> U foldLeft(U zero, Function3<? super U, ? super A, ? super B, ? extends U> combine) {
+        U accumulator = zero;
+        for (int i = 0; i < size(); i++) {
+            accumulator = combine.apply(accumulator, left.get(i), right.get(i));
+        }
+        return accumulator;
+    }
+
+    public void forEach(BiConsumer<? super A, ? super B> action) {
+        for (int i = 0; i < size(); i++) {
+            action.accept(left.get(i), right.get(i));
+        }
+    }
+
+    /**
+     * Converts to vavr, allocating one pair per element.
+     */
+    public List<Tuple2<A, B>> toList() {
+        List<Tuple2<A, B>> result = List.empty();
+        for (int i = size() - 1; i >= 0; i--) {
+            result = result.prepend(get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Zipped)) return false;
+        Zipped<?, ?> that = (Zipped<?, ?>) other;
+        return left.equals(that.left) && right.equals(that.right);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * left.hashCode() + right.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Zipped(");
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) result.append(", ");
+            result.append('(').append(left.get(i)).append(", ").append(right.get(i)).append(')');
+        }
+        return result.append(')').toString();
+    }
+}
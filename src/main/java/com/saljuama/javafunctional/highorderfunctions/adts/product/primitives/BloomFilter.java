@@ -0,0 +1,55 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+/**
+ * Probabilistic set of {@code long} values: {@link #mightContain(long)} never gives false negatives, and gives false
+ * positives with the configured probability once the expected number of values has been added. It takes around
+ * 10 bits per value for a 1% false positive probability, whatever the values are.
+ */
+public final class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1: " + falsePositiveProbability);
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64)];
+        this.bitCount = bits.length * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Returns {@code true} when the value was definitely not in the filter before.
+     */
+    public boolean put(long value) {
+        long hash = Hashing.mix(value);
+        long hash1 = hash & 0xFFFFFFFFL;
+        long hash2 = hash >>> 32;
+        boolean changed = false;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(long value) {
+        long hash = Hashing.mix(value);
+        long hash1 = hash & 0xFFFFFFFFL;
+        long hash2 = hash >>> 32;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,365 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives.DoubleOption;
+import io.vavr.collection.List;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.DoubleStream;
+
+/**
+ * Immutable sequence of {@code double} values that are never boxed, with the high order API of vavr's {@link List}
+ * taking the {@code java.util.function} primitive specializations.
+ * <p>
+ * The values are kept in an array that is never modified once built, so slicing operations like {@link #tail()},
+ * {@link #take(int)} or {@link #dropRight(int)} share it in O(1), while the rest of the operations allocate one single
+ * array for the result. That includes {@link #prepend} and {@link #append}, which copy the whole list in O(n): unlike
+ * vavr's persistent {@code List}, these lists are meant to be built in bulk, with {@code ofAll}, {@code tabulate} or
+ * {@code range}, not one element at a time.
+ */
+public final class DoubleList {
+
+    private static final DoubleList EMPTY = new DoubleList(new double[0], 0, 0);
+
+    private final double[] elements;
+    private final int offset;
+    private final int length;
+
+    private DoubleList(double[] elements, int offset, int length) {
+        this.elements = elements;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private static DoubleList wrap(double[] elements, int length) {
+        return length == 0 ? EMPTY : new DoubleList(elements, 0, length);
+    }
+
+    public static DoubleList empty() {
+        return EMPTY;
+    }
+
+    public static DoubleList of(double... values) {
+        return wrap(values.clone(), values.length);
+    }
+
+    public static DoubleList ofAll(Iterable<Double> values) {
+        double[] result = new double[16];
+        int size = 0;
+        for (Double value : values) {
+            if (size == result.length) result = Arrays.copyOf(result, size * 2);
+            result[size++] = value;
+        }
+        return wrap(result, size);
+    }
+
+    public static DoubleList ofAll(DoubleStream values) {
+        double[] result = values.toArray();
+        return wrap(result, result.length);
+    }
+
+    public static DoubleList tabulate(int size, IntToDoubleFunction generator) {
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = generator.applyAsDouble(i);
+        }
+        return wrap(result, size);
+    }
+
+    public static DoubleList fill(int size, double value) {
+        double[] result = new double[size];
+        Arrays.fill(result, value);
+        return wrap(result, size);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public double get(int index) {
+        if (index < 0 || index >= length) throw new IndexOutOfBoundsException("get(" + index + ") on DoubleList of size " + length);
+        return elements[offset + index];
+    }
+
+    public double head() {
+        if (isEmpty()) throw new NoSuchElementException("head of empty DoubleList");
+        return elements[offset];
+    }
+
+    public double last() {
+        if (isEmpty()) throw new NoSuchElementException("last of empty DoubleList");
+        return elements[offset + length - 1];
+    }
+
+    public DoubleList tail() {
+        if (isEmpty()) throw new UnsupportedOperationException("tail of empty DoubleList");
+        return drop(1);
+    }
+
+    public DoubleList take(int n) {
+        return slice(0, n);
+    }
+
+    public DoubleList drop(int n) {
+        return slice(n, length);
+    }
+
+    public DoubleList takeRight(int n) {
+        return slice(length - n, length);
+    }
+
+    public DoubleList dropRight(int n) {
+        return slice(0, length - n);
+    }
+
+    public DoubleList slice(int beginIndex, int endIndex) {
+        int from = Math.max(0, beginIndex);
+        int to = Math.min(length, endIndex);
+        if (from >= to) return EMPTY;
+        if (from == 0 && to == length) return this;
+        return new DoubleList(elements, offset + from, to - from);
+    }
+
+    public DoubleList prepend(double value) {
+        double[] result = new double[length + 1];
+        result[0] = value;
+        System.arraycopy(elements, offset, result, 1, length);
+        return wrap(result, result.length);
+    }
+
+    public DoubleList append(double value) {
+        double[] result = Arrays.copyOfRange(elements, offset, offset + length + 1);
+        result[length] = value;
+        return wrap(result, result.length);
+    }
+
+    public DoubleList appendAll(DoubleList other) {
+        if (isEmpty()) return other;
+        if (other.isEmpty()) return this;
+        double[] result = Arrays.copyOfRange(elements, offset, offset + length + other.length);
+        System.arraycopy(other.elements, other.offset, result, length, other.length);
+        return wrap(result, result.length);
+    }
+
+    public DoubleList map(DoubleUnaryOperator mapper) {
+        double[] result = new double[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = mapper.applyAsDouble(elements[offset + i]);
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Leaves the primitive world, boxing happens here and only here.
+     */
+    public <R> List<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        List<R> result = List.empty();
+        for (int i = offset + length - 1; i >= offset; i--) {
+            result = result.prepend(mapper.apply(elements[i]));
+        }
+        return result;
+    }
+
+    public DoubleList filter(DoublePredicate predicate) {
+        double[] result = new double[length];
+        int size = 0;
+        for (int i = offset; i < offset + length; i++) {
+            double value = elements[i];
+            if (predicate.test(value)) result[size++] = value;
+        }
+        return size == length ? this : wrap(size == 0 ? result : Arrays.copyOf(result, size), size);
+    }
+
+    public boolean exists(DoublePredicate predicate) {
+        return indexWhere(predicate) >= 0;
+    }
+
+    public boolean forAll(DoublePredicate predicate) {
+        return indexWhere(predicate.negate()) < 0;
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Index of the first element equal to the value, -1 when there is none. Equality is the one of {@link Double#equals}
+     * used by {@code List<Double>}: {@code NaN} is equal to itself, and {@code 0.0} and {@code -0.0} are different.
+     */
+    public int indexOf(double value) {
+        int end = offset + length;
+        if (Double.isNaN(value)) {
+            for (int i = offset; i < end; i++) {
+                if (Double.isNaN(elements[i])) return i - offset;
+            }
+            return -1;
+        }
+        long bits = Double.doubleToLongBits(value);
+        for (int i = offset; i < end; i++) {
+            if (elements[i] == value && Double.doubleToLongBits(elements[i]) == bits) return i - offset;
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the first element satisfying the predicate, -1 when there is none.
+     */
+    public int indexWhere(DoublePredicate predicate) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (predicate.test(elements[i])) return i - offset;
+        }
+        return -1;
+    }
+
+    public DoubleOption find(DoublePredicate predicate) {
+        int index = indexWhere(predicate);
+        return index < 0 ? DoubleOption.none() : DoubleOption.some(elements[offset + index]);
+    }
+
+    public double fold(double zero, DoubleBinaryOperator combine) {
+        return foldLeft(zero, combine);
+    }
+
+    public double foldLeft(double zero, DoubleBinaryOperator combine) {
+        double accumulator = zero;
+        for (int i = offset; i < offset + length; i++) {
+            accumulator = combine.applyAsDouble(accumulator, elements[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Same as vavr, the function receives the element first and the accumulator second.
+     */
+    public double foldRight(double zero, DoubleBinaryOperator combine) {
+        double accumulator = zero;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            accumulator = combine.applyAsDouble(elements[i], accumulator);
+        }
+        return accumulator;
+    }
+
+    public double reduce(DoubleBinaryOperator combine) {
+        if (isEmpty()) throw new NoSuchElementException("reduce of empty DoubleList");
+        return tail().foldLeft(head(), combine);
+    }
+
+    public double sum() {
+        double sum = 0;
+        for (int i = offset; i < offset + length; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the {@code size() + 1} intermediate accumulators, starting with {@code zero}.
+     */
+    public DoubleList scan(double zero, DoubleBinaryOperator combine) {
+        double[] result = new double[length + 1];
+        double accumulator = zero;
+        result[0] = accumulator;
+        for (int i = 0; i < length; i++) {
+            accumulator = combine.applyAsDouble(accumulator, elements[offset + i]);
+            result[i + 1] = accumulator;
+        }
+        return wrap(result, result.length);
+    }
+
+    public DoubleList scanRight(double zero, DoubleBinaryOperator combine) {
+        double[] result = new double[length + 1];
+        double accumulator = zero;
+        result[length] = accumulator;
+        for (int i = length - 1; i >= 0; i--) {
+            accumulator = combine.applyAsDouble(elements[offset + i], accumulator);
+            result[i] = accumulator;
+        }
+        return wrap(result, result.length);
+    }
+
+    public DoubleList sorted() {
+        double[] result = toArray();
+        Arrays.sort(result);
+        return wrap(result, length);
+    }
+
+    public DoubleList reverse() {
+        double[] result = new double[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = elements[offset + length - 1 - i];
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Combines the elements in the same position, the result is as long as the shortest of both lists.
+     */
+    public DoubleList zipWith(DoubleList other, DoubleBinaryOperator combine) {
+        int size = Math.min(length, other.length);
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = combine.applyAsDouble(elements[offset + i], other.elements[other.offset + i]);
+        }
+        return wrap(result, size);
+    }
+
+    public void forEach(DoubleConsumer action) {
+        for (int i = offset; i < offset + length; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + length);
+    }
+
+    public DoubleStream stream() {
+        return Arrays.stream(elements, offset, offset + length);
+    }
+
+    public List<Double> toList() {
+        return mapToObj(value -> value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof DoubleList)) return false;
+        DoubleList that = (DoubleList) other;
+        if (length != that.length) return false;
+        for (int i = 0; i < length; i++) {
+            if (Double.doubleToLongBits(elements[offset + i]) != Double.doubleToLongBits(that.elements[that.offset + i])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + Double.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("DoubleList(");
+        for (int i = 0; i < length; i++) {
+            if (i > 0) result.append(", ");
+            result.append(elements[offset + i]);
+        }
+        return result.append(')').toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * Finalizer of MurmurHash3, spreads every bit of the key over the whole hash so consecutive keys do not collide in
+     * open addressing tables or in the sketches.
+     */
+    static long mix(long key) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // the largest power of two an array length can be
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    static int tableSizeFor(int expectedSize, double loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 2) / loadFactor);
+        if (needed > MAX_TABLE_SIZE) throw new IllegalArgumentException("too many elements for an open addressing table: " + expectedSize);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Size of the table after growing a full one, which can't be doubled anymore past {@link #MAX_TABLE_SIZE} slots.
+     */
+    static int doubledTableSize(int tableSize) {
+        if (tableSize >= MAX_TABLE_SIZE) throw new IllegalStateException("open addressing table can't grow past " + MAX_TABLE_SIZE + " slots");
+        return tableSize * 2;
+    }
+}
@@ -0,0 +1,49 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+/**
+ * Estimates the number of distinct {@code long} values added to it using {@code 2^precision} bytes, no matter how many
+ * values are added. The standard error of the estimate is {@code 1.04 / sqrt(2^precision)}.
+ */
+public final class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) throw new IllegalArgumentException("precision must be between 4 and 18: " + precision);
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Creates the smallest sketch whose standard error is at most the given relative error.
+     */
+    public static HyperLogLog withRelativeError(double relativeError) {
+        int precision = (int) Math.ceil(2 * Math.log(1.04 / relativeError) / Math.log(2));
+        return new HyperLogLog(Math.min(18, Math.max(4, precision)));
+    }
+
+    public void add(long value) {
+        long hash = Hashing.mix(value);
+        int register = (int) (hash >>> (64 - precision));
+        // position of the first 1 bit in the remaining bits, the sentinel bit caps it when they are all zeros
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[register]) registers[register] = (byte) rank;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeros++;
+        }
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros); // linear counting is more accurate for small cardinalities
+        }
+        return Math.round(estimate);
+    }
+}
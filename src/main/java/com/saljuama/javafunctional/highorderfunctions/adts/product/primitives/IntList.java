@@ -0,0 +1,370 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives.IntOption;
+import io.vavr.collection.List;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable sequence of {@code int} values that are never boxed, with the high order API of vavr's {@link List}
+ * taking the {@code java.util.function} primitive specializations.
+ * <p>
+ * The values are kept in an array that is never modified once built, so slicing operations like {@link #tail()},
+ * {@link #take(int)} or {@link #dropRight(int)} share it in O(1), while the rest of the operations allocate one single
+ * array for the result. That includes {@link #prepend} and {@link #append}, which copy the whole list in O(n): unlike
+ * vavr's persistent {@code List}, these lists are meant to be built in bulk, with {@code ofAll}, {@code tabulate} or
+ * {@code range}, not one element at a time.
+ */
+public final class IntList {
+
+    private static final IntList EMPTY = new IntList(new int[0], 0, 0);
+
+    private final int[] elements;
+    private final int offset;
+    private final int length;
+
+    private IntList(int[] elements, int offset, int length) {
+        this.elements = elements;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private static IntList wrap(int[] elements, int length) {
+        return length == 0 ? EMPTY : new IntList(elements, 0, length);
+    }
+
+    public static IntList empty() {
+        return EMPTY;
+    }
+
+    public static IntList of(int... values) {
+        return wrap(values.clone(), values.length);
+    }
+
+    public static IntList ofAll(Iterable<Integer> values) {
+        int[] result = new int[16];
+        int size = 0;
+        for (Integer value : values) {
+            if (size == result.length) result = Arrays.copyOf(result, size * 2);
+            result[size++] = value;
+        }
+        return wrap(result, size);
+    }
+
+    public static IntList ofAll(IntStream values) {
+        int[] result = values.toArray();
+        return wrap(result, result.length);
+    }
+
+    /**
+     * Values from {@code from} included to {@code toExclusive} excluded, at most {@link Integer#MAX_VALUE} of them.
+     */
+    public static IntList range(int from, int toExclusive) {
+        if (from >= toExclusive) return EMPTY;
+        long size = (long) toExclusive - from;
+        if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("range can't have more than " + Integer.MAX_VALUE + " values: " + size);
+        int[] result = new int[(int) size];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = from + i;
+        }
+        return wrap(result, result.length);
+    }
+
+    public static IntList tabulate(int size, IntUnaryOperator generator) {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = generator.applyAsInt(i);
+        }
+        return wrap(result, size);
+    }
+
+    public static IntList fill(int size, int value) {
+        int[] result = new int[size];
+        Arrays.fill(result, value);
+        return wrap(result, size);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= length) throw new IndexOutOfBoundsException("get(" + index + ") on IntList of size " + length);
+        return elements[offset + index];
+    }
+
+    public int head() {
+        if (isEmpty()) throw new NoSuchElementException("head of empty IntList");
+        return elements[offset];
+    }
+
+    public int last() {
+        if (isEmpty()) throw new NoSuchElementException("last of empty IntList");
+        return elements[offset + length - 1];
+    }
+
+    public IntList tail() {
+        if (isEmpty()) throw new UnsupportedOperationException("tail of empty IntList");
+        return drop(1);
+    }
+
+    public IntList take(int n) {
+        return slice(0, n);
+    }
+
+    public IntList drop(int n) {
+        return slice(n, length);
+    }
+
+    public IntList takeRight(int n) {
+        return slice(length - n, length);
+    }
+
+    public IntList dropRight(int n) {
+        return slice(0, length - n);
+    }
+
+    public IntList slice(int beginIndex, int endIndex) {
+        int from = Math.max(0, beginIndex);
+        int to = Math.min(length, endIndex);
+        if (from >= to) return EMPTY;
+        if (from == 0 && to == length) return this;
+        return new IntList(elements, offset + from, to - from);
+    }
+
+    public IntList prepend(int value) {
+        int[] result = new int[length + 1];
+        result[0] = value;
+        System.arraycopy(elements, offset, result, 1, length);
+        return wrap(result, result.length);
+    }
+
+    public IntList append(int value) {
+        int[] result = Arrays.copyOfRange(elements, offset, offset + length + 1);
+        result[length] = value;
+        return wrap(result, result.length);
+    }
+
+    public IntList appendAll(IntList other) {
+        if (isEmpty()) return other;
+        if (other.isEmpty()) return this;
+        int[] result = Arrays.copyOfRange(elements, offset, offset + length + other.length);
+        System.arraycopy(other.elements, other.offset, result, length, other.length);
+        return wrap(result, result.length);
+    }
+
+    public IntList map(IntUnaryOperator mapper) {
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = mapper.applyAsInt(elements[offset + i]);
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Leaves the primitive world, boxing happens here and only here.
+     */
+    public <R> List<R> mapToObj(IntFunction<? extends R> mapper) {
+        List<R> result = List.empty();
+        for (int i = offset + length - 1; i >= offset; i--) {
+            result = result.prepend(mapper.apply(elements[i]));
+        }
+        return result;
+    }
+
+    public IntList filter(IntPredicate predicate) {
+        int[] result = new int[length];
+        int size = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int value = elements[i];
+            if (predicate.test(value)) result[size++] = value;
+        }
+        return size == length ? this : wrap(size == 0 ? result : Arrays.copyOf(result, size), size);
+    }
+
+    public boolean exists(IntPredicate predicate) {
+        return indexWhere(predicate) >= 0;
+    }
+
+    public boolean forAll(IntPredicate predicate) {
+        return indexWhere(predicate.negate()) < 0;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Index of the first element equal to the value, -1 when there is none.
+     */
+    public int indexOf(int value) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (elements[i] == value) return i - offset;
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the first element satisfying the predicate, -1 when there is none.
+     */
+    public int indexWhere(IntPredicate predicate) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (predicate.test(elements[i])) return i - offset;
+        }
+        return -1;
+    }
+
+    public IntOption find(IntPredicate predicate) {
+        int index = indexWhere(predicate);
+        return index < 0 ? IntOption.none() : IntOption.some(elements[offset + index]);
+    }
+
+    public int fold(int zero, IntBinaryOperator combine) {
+        return foldLeft(zero, combine);
+    }
+
+    public int foldLeft(int zero, IntBinaryOperator combine) {
+        int accumulator = zero;
+        for (int i = offset; i < offset + length; i++) {
+            accumulator = combine.applyAsInt(accumulator, elements[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Same as vavr, the function receives the element first and the accumulator second.
+     */
+    public int foldRight(int zero, IntBinaryOperator combine) {
+        int accumulator = zero;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            accumulator = combine.applyAsInt(elements[i], accumulator);
+        }
+        return accumulator;
+    }
+
+    public int reduce(IntBinaryOperator combine) {
+        if (isEmpty()) throw new NoSuchElementException("reduce of empty IntList");
+        return tail().foldLeft(head(), combine);
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = offset; i < offset + length; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the {@code size() + 1} intermediate accumulators, starting with {@code zero}.
+     */
+    public IntList scan(int zero, IntBinaryOperator combine) {
+        int[] result = new int[length + 1];
+        int accumulator = zero;
+        result[0] = accumulator;
+        for (int i = 0; i < length; i++) {
+            accumulator = combine.applyAsInt(accumulator, elements[offset + i]);
+            result[i + 1] = accumulator;
+        }
+        return wrap(result, result.length);
+    }
+
+    public IntList scanRight(int zero, IntBinaryOperator combine) {
+        int[] result = new int[length + 1];
+        int accumulator = zero;
+        result[length] = accumulator;
+        for (int i = length - 1; i >= 0; i--) {
+            accumulator = combine.applyAsInt(elements[offset + i], accumulator);
+            result[i] = accumulator;
+        }
+        return wrap(result, result.length);
+    }
+
+    public IntList sorted() {
+        int[] result = toArray();
+        Arrays.sort(result);
+        return wrap(result, length);
+    }
+
+    public IntList reverse() {
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = elements[offset + length - 1 - i];
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Combines the elements in the same position, the result is as long as the shortest of both lists.
+     */
+    public IntList zipWith(IntList other, IntBinaryOperator combine) {
+        int size = Math.min(length, other.length);
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = combine.applyAsInt(elements[offset + i], other.elements[other.offset + i]);
+        }
+        return wrap(result, size);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = offset; i < offset + length; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + length);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, offset, offset + length);
+    }
+
+    public List<Integer> toList() {
+        return mapToObj(value -> value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof IntList)) return false;
+        IntList that = (IntList) other;
+        if (length != that.length) return false;
+        for (int i = 0; i < length; i++) {
+            if (elements[offset + i] != that.elements[that.offset + i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + Integer.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("IntList(");
+        for (int i = 0; i < length; i++) {
+            if (i > 0) result.append(", ");
+            result.append(elements[offset + i]);
+        }
+        return result.append(')').toString();
+    }
+}
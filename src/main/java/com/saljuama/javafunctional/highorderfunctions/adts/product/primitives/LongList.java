@@ -0,0 +1,372 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives.LongOption;
+import io.vavr.collection.List;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable sequence of {@code long} values that are never boxed, with the high order API of vavr's {@link List}
+ * taking the {@code java.util.function} primitive specializations.
+ * <p>
+ * The values are kept in an array that is never modified once built, so slicing operations like {@link #tail()},
+ * {@link #take(int)} or {@link #dropRight(int)} share it in O(1), while the rest of the operations allocate one single
+ * array for the result. That includes {@link #prepend} and {@link #append}, which copy the whole list in O(n): unlike
+ * vavr's persistent {@code List}, these lists are meant to be built in bulk, with {@code ofAll}, {@code tabulate} or
+ * {@code range}, not one element at a time.
+ */
+public final class LongList {
+
+    private static final LongList EMPTY = new LongList(new long[0], 0, 0);
+
+    private final long[] elements;
+    private final int offset;
+    private final int length;
+
+    private LongList(long[] elements, int offset, int length) {
+        this.elements = elements;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private static LongList wrap(long[] elements, int length) {
+        return length == 0 ? EMPTY : new LongList(elements, 0, length);
+    }
+
+    public static LongList empty() {
+        return EMPTY;
+    }
+
+    public static LongList of(long... values) {
+        return wrap(values.clone(), values.length);
+    }
+
+    public static LongList ofAll(Iterable<Long> values) {
+        long[] result = new long[16];
+        int size = 0;
+        for (Long value : values) {
+            if (size == result.length) result = Arrays.copyOf(result, size * 2);
+            result[size++] = value;
+        }
+        return wrap(result, size);
+    }
+
+    public static LongList ofAll(LongStream values) {
+        long[] result = values.toArray();
+        return wrap(result, result.length);
+    }
+
+    /**
+     * Values from {@code from} included to {@code toExclusive} excluded, at most {@link Integer#MAX_VALUE} of them.
+     */
+    public static LongList range(long from, long toExclusive) {
+        if (from >= toExclusive) return EMPTY;
+        long size = toExclusive - from;
+        // a negative size overflowed, the range has more than Long.MAX_VALUE values
+        if (size < 0 || size > Integer.MAX_VALUE) throw new IllegalArgumentException("range can't have more than " + Integer.MAX_VALUE + " values: [" + from + ", " + toExclusive + ")");
+        long[] result = new long[(int) size];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = from + i;
+        }
+        return wrap(result, result.length);
+    }
+
+    public static LongList tabulate(int size, IntToLongFunction generator) {
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = generator.applyAsLong(i);
+        }
+        return wrap(result, size);
+    }
+
+    public static LongList fill(int size, long value) {
+        long[] result = new long[size];
+        Arrays.fill(result, value);
+        return wrap(result, size);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= length) throw new IndexOutOfBoundsException("get(" + index + ") on LongList of size " + length);
+        return elements[offset + index];
+    }
+
+    public long head() {
+        if (isEmpty()) throw new NoSuchElementException("head of empty LongList");
+        return elements[offset];
+    }
+
+    public long last() {
+        if (isEmpty()) throw new NoSuchElementException("last of empty LongList");
+        return elements[offset + length - 1];
+    }
+
+    public LongList tail() {
+        if (isEmpty()) throw new UnsupportedOperationException("tail of empty LongList");
+        return drop(1);
+    }
+
+    public LongList take(int n) {
+        return slice(0, n);
+    }
+
+    public LongList drop(int n) {
+        return slice(n, length);
+    }
+
+    public LongList takeRight(int n) {
+        return slice(length - n, length);
+    }
+
+    public LongList dropRight(int n) {
+        return slice(0, length - n);
+    }
+
+    public LongList slice(int beginIndex, int endIndex) {
+        int from = Math.max(0, beginIndex);
+        int to = Math.min(length, endIndex);
+        if (from >= to) return EMPTY;
+        if (from == 0 && to == length) return this;
+        return new LongList(elements, offset + from, to - from);
+    }
+
+    public LongList prepend(long value) {
+        long[] result = new long[length + 1];
+        result[0] = value;
+        System.arraycopy(elements, offset, result, 1, length);
+        return wrap(result, result.length);
+    }
+
+    public LongList append(long value) {
+        long[] result = Arrays.copyOfRange(elements, offset, offset + length + 1);
+        result[length] = value;
+        return wrap(result, result.length);
+    }
+
+    public LongList appendAll(LongList other) {
+        if (isEmpty()) return other;
+        if (other.isEmpty()) return this;
+        long[] result = Arrays.copyOfRange(elements, offset, offset + length + other.length);
+        System.arraycopy(other.elements, other.offset, result, length, other.length);
+        return wrap(result, result.length);
+    }
+
+    public LongList map(LongUnaryOperator mapper) {
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = mapper.applyAsLong(elements[offset + i]);
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Leaves the primitive world, boxing happens here and only here.
+     */
+    public <R> List<R> mapToObj(LongFunction<? extends R> mapper) {
+        List<R> result = List.empty();
+        for (int i = offset + length - 1; i >= offset; i--) {
+            result = result.prepend(mapper.apply(elements[i]));
+        }
+        return result;
+    }
+
+    public LongList filter(LongPredicate predicate) {
+        long[] result = new long[length];
+        int size = 0;
+        for (int i = offset; i < offset + length; i++) {
+            long value = elements[i];
+            if (predicate.test(value)) result[size++] = value;
+        }
+        return size == length ? this : wrap(size == 0 ? result : Arrays.copyOf(result, size), size);
+    }
+
+    public boolean exists(LongPredicate predicate) {
+        return indexWhere(predicate) >= 0;
+    }
+
+    public boolean forAll(LongPredicate predicate) {
+        return indexWhere(predicate.negate()) < 0;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Index of the first element equal to the value, -1 when there is none.
+     */
+    public int indexOf(long value) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (elements[i] == value) return i - offset;
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the first element satisfying the predicate, -1 when there is none.
+     */
+    public int indexWhere(LongPredicate predicate) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (predicate.test(elements[i])) return i - offset;
+        }
+        return -1;
+    }
+
+    public LongOption find(LongPredicate predicate) {
+        int index = indexWhere(predicate);
+        return index < 0 ? LongOption.none() : LongOption.some(elements[offset + index]);
+    }
+
+    public long fold(long zero, LongBinaryOperator combine) {
+        return foldLeft(zero, combine);
+    }
+
+    public long foldLeft(long zero, LongBinaryOperator combine) {
+        long accumulator = zero;
+        for (int i = offset; i < offset + length; i++) {
+            accumulator = combine.applyAsLong(accumulator, elements[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Same as vavr, the function receives the element first and the accumulator second.
+     */
+    public long foldRight(long zero, LongBinaryOperator combine) {
+        long accumulator = zero;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            accumulator = combine.applyAsLong(elements[i], accumulator);
+        }
+        return accumulator;
+    }
+
+    public long reduce(LongBinaryOperator combine) {
+        if (isEmpty()) throw new NoSuchElementException("reduce of empty LongList");
+        return tail().foldLeft(head(), combine);
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = offset; i < offset + length; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the {@code size() + 1} intermediate accumulators, starting with {@code zero}.
+     */
+    public LongList scan(long zero, LongBinaryOperator combine) {
+        long[] result = new long[length + 1];
+        long accumulator = zero;
+        result[0] = accumulator;
+        for (int i = 0; i < length; i++) {
+            accumulator = combine.applyAsLong(accumulator, elements[offset + i]);
+            result[i + 1] = accumulator;
+        }
+        return wrap(result, result.length);
+    }
+
+    public LongList scanRight(long zero, LongBinaryOperator combine) {
+        long[] result = new long[length + 1];
+        long accumulator = zero;
+        result[length] = accumulator;
+        for (int i = length - 1; i >= 0; i--) {
+            accumulator = combine.applyAsLong(elements[offset + i], accumulator);
+            result[i] = accumulator;
+        }
+        return wrap(result, result.length);
+    }
+
+    public LongList sorted() {
+        long[] result = toArray();
+        Arrays.sort(result);
+        return wrap(result, length);
+    }
+
+    public LongList reverse() {
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = elements[offset + length - 1 - i];
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Combines the elements in the same position, the result is as long as the shortest of both lists.
+     */
+    public LongList zipWith(LongList other, LongBinaryOperator combine) {
+        int size = Math.min(length, other.length);
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = combine.applyAsLong(elements[offset + i], other.elements[other.offset + i]);
+        }
+        return wrap(result, size);
+    }
+
+    public void forEach(LongConsumer action) {
+        for (int i = offset; i < offset + length; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + length);
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(elements, offset, offset + length);
+    }
+
+    public List<Long> toList() {
+        return mapToObj(value -> value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof LongList)) return false;
+        LongList that = (LongList) other;
+        if (length != that.length) return false;
+        for (int i = 0; i < length; i++) {
+            if (elements[offset + i] != that.elements[that.offset + i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + Long.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("LongList(");
+        for (int i = 0; i < length; i++) {
+            if (i > 0) result.append(", ");
+            result.append(elements[offset + i]);
+        }
+        return result.append(')').toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import java.util.function.LongFunction;
+
+/**
+ * Mutable map from unboxed {@code long} keys to objects, using open addressing with linear probing.
+ */
+public final class LongObjectOpenHashMap<V> {
+
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private Object[] values;
+    private V zeroValue;
+    private boolean containsZero;
+    private int size;
+
+    public LongObjectOpenHashMap() {
+        this(16);
+    }
+
+    public LongObjectOpenHashMap(int expectedSize) {
+        int capacity = Hashing.tableSizeFor(expectedSize, LOAD_FACTOR);
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Returns the value of the key, or {@code null} when it is not in the map.
+     */
+    public V get(long key) {
+        if (key == 0) return zeroValue;
+        int mask = keys.length - 1;
+        int slot = (int) Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return value(slot);
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the key, creating and storing it first when the key is not in the map.
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> creator) {
+        if (key == 0) {
+            if (!containsZero) {
+                zeroValue = creator.apply(key);
+                containsZero = true;
+                size++;
+            }
+            return zeroValue;
+        }
+        int mask = keys.length - 1;
+        int slot = (int) Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return value(slot);
+            slot = (slot + 1) & mask;
+        }
+        V created = creator.apply(key);
+        keys[slot] = key;
+        values[slot] = created;
+        if (++size > keys.length * LOAD_FACTOR) grow();
+        return created;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int slot) {
+        return (V) values[slot];
+    }
+
+    private void grow() {
+        long[] previousKeys = keys;
+        Object[] previousValues = values;
+        int capacity = Hashing.doubledTableSize(previousKeys.length);
+        keys = new long[capacity];
+        values = new Object[capacity];
+        int mask = keys.length - 1;
+        for (int i = 0; i < previousKeys.length; i++) {
+            if (previousKeys[i] == 0) continue;
+            int slot = (int) Hashing.mix(previousKeys[i]) & mask;
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = previousKeys[i];
+            values[slot] = previousValues[i];
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+/**
+ * Mutable set of {@code long} values stored unboxed in one array, using open addressing with linear probing.
+ */
+public final class LongOpenHashSet {
+
+    private static final double LOAD_FACTOR = 0.5;
+
+    // 0 marks the free slots, so the 0 key is tracked apart
+    private long[] slots;
+    private boolean containsZero;
+    private int size;
+
+    public LongOpenHashSet() {
+        this(16);
+    }
+
+    public LongOpenHashSet(int expectedSize) {
+        this.slots = new long[Hashing.tableSizeFor(expectedSize, LOAD_FACTOR)];
+    }
+
+    /**
+     * Returns {@code true} when the value was not in the set yet.
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = slots.length - 1;
+        int slot = (int) Hashing.mix(value) & mask;
+        while (slots[slot] != 0) {
+            if (slots[slot] == value) return false;
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+        if (++size > slots.length * LOAD_FACTOR) grow();
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) return containsZero;
+        int mask = slots.length - 1;
+        int slot = (int) Hashing.mix(value) & mask;
+        while (slots[slot] != 0) {
+            if (slots[slot] == value) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        long[] previous = slots;
+        slots = new long[Hashing.doubledTableSize(previous.length)];
+        int mask = slots.length - 1;
+        for (long value : previous) {
+            if (value == 0) continue;
+            int slot = (int) Hashing.mix(value) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = value;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import io.vavr.Tuple;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+
+import java.util.ArrayList;
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@code distinctBy} and {@code groupBy} for keys that fit in a {@code long}, like ids or timestamps.
+ * <p>
+ * The vavr versions box every key and keep them in persistent hash structures, which costs several allocations per
+ * element and dominates the time for millions of elements. These ones keep the keys unboxed in open addressing tables
+ * that only allocate when they grow. When an exact answer is not needed, the approximate versions use a
+ * {@link BloomFilter} or a {@link HyperLogLog}, whose memory does not grow with the number of distinct keys.
+ */
+public final class PrimitiveGrouping {
+
+    private PrimitiveGrouping() {
+    }
+
+    /**
+     * Same as {@code List.ofAll(elements).distinctBy(key)}, keeps the first element of every key.
+     */
+    public static <T> List<T> distinctByLong(Iterable<? extends T> elements, ToLongFunction<? super T> key) {
+        LongOpenHashSet seen = new LongOpenHashSet();
+        ArrayList<T> distinct = new ArrayList<>();
+        for (T element : elements) {
+            if (seen.add(key.applyAsLong(element))) distinct.add(element);
+        }
+        return List.ofAll(distinct);
+    }
+
+    public static <T> List<T> distinctByInt(Iterable<? extends T> elements, ToIntFunction<? super T> key) {
+        return distinctByLong(elements, element -> key.applyAsInt(element));
+    }
+
+    /**
+     * Same as {@code List.ofAll(elements).groupBy(key)}, but the groups are in the order their keys were first found,
+     * and the elements of every group keep their order.
+     */
+    public static <T> Map<Long, List<T>> groupByLong(Iterable<? extends T> elements, ToLongFunction<? super T> key) {
+        return groupBy(elements, key, Long::valueOf);
+    }
+
+    public static <T> Map<Integer, List<T>> groupByInt(Iterable<? extends T> elements, ToIntFunction<? super T> key) {
+        return groupBy(elements, element -> key.applyAsInt(element), groupKey -> (int) groupKey);
+    }
+
+    /**
+     * Approximate {@link #distinctByLong}: every key is kept at most once, but an element whose key was not seen
+     * before is dropped with at most {@code falsePositiveProbability}, as long as there are no more than
+     * {@code expectedDistinctKeys} distinct keys.
+     */
+    public static <T> List<T> distinctByLongApproximately(Iterable<? extends T> elements, ToLongFunction<? super T> key,
+                                                          long expectedDistinctKeys, double falsePositiveProbability) {
+        BloomFilter seen = new BloomFilter(expectedDistinctKeys, falsePositiveProbability);
+        ArrayList<T> distinct = new ArrayList<>();
+        for (T element : elements) {
+            if (seen.put(key.applyAsLong(element))) distinct.add(element);
+        }
+        return List.ofAll(distinct);
+    }
+
+    /**
+     * Estimates {@code distinctByLong(elements, key).size()} with the given relative standard error, using a few
+     * kilobytes at most.
+     */
+    public static <T> long countDistinctByLongApproximately(Iterable<? extends T> elements, ToLongFunction<? super T> key,
+                                                            double relativeError) {
+        HyperLogLog sketch = HyperLogLog.withRelativeError(relativeError);
+        for (T element : elements) {
+            sketch.add(key.applyAsLong(element));
+        }
+        return sketch.estimate();
+    }
+
+    private static <T, K> Map<K, List<T>> groupBy(Iterable<? extends T> elements, ToLongFunction<? super T> key,
+                                                 LongFunction<K> boxKey) {
+        LongObjectOpenHashMap<ArrayList<T>> groups = new LongObjectOpenHashMap<>();
+        ArrayList<Long> keys = new ArrayList<>();
+        for (T element : elements) {
+            groups.computeIfAbsent(key.applyAsLong(element), newKey -> {
+                keys.add(newKey);
+                return new ArrayList<>();
+            }).add(element);
+        }
+        return LinkedHashMap.ofEntries(List.ofAll(keys).map(groupKey -> Tuple.of(boxKey.apply(groupKey), List.ofAll(groups.get(groupKey)))));
+    }
+}
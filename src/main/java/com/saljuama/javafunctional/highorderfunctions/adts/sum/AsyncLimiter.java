@@ -0,0 +1,140 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.control.Try;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts {@link AsyncTry} computations in an executor with at most {@code maxConcurrency} of them running at the same
+ * time; the rest wait in a queue of at most {@code maxQueued} computations, and {@link #submit} blocks the caller while
+ * the queue is full. That backpressure keeps a fast producer from piling up unbounded work in front of a slow
+ * dependency.
+ * <p>
+ * Since the caller may block, submit from the producer thread, not from the continuations of computations running in
+ * the same executor, or they can wait for each other.
+ */
+public final class AsyncLimiter {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Semaphore queueSlots;
+    private final Queue<Pending<?>> queued = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    private AsyncLimiter(Builder builder) {
+        this.executor = builder.executor;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.queueSlots = new Semaphore(builder.maxQueued);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Queues the computation, blocking while the queue is full. When the calling thread is interrupted while waiting,
+     * the computation is not run and the result is a failure with a {@link java.util.concurrent.CancellationException}
+     * caused by the {@link InterruptedException}. A computation interrupted while running fails the same way.
+     */
+    public <T> AsyncTry<T> submit(CheckedFunction0<? extends T> computation) {
+        try {
+            queueSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return AsyncTry.failure(AsyncTry.cancelled(e));
+        }
+        Pending<T> pending = new Pending<>(computation);
+        queued.add(pending);
+        dispatch();
+        return new AsyncTry<>(pending.result);
+    }
+
+    public int running() {
+        return running.get();
+    }
+
+    public int queued() {
+        return queued.size();
+    }
+
+    private void dispatch() {
+        while (true) {
+            int current = running.get();
+            if (current >= maxConcurrency) return;
+            if (!running.compareAndSet(current, current + 1)) continue;
+            Pending<?> next = queued.poll();
+            if (next == null) {
+                running.decrementAndGet();
+                // something may have been queued after the poll by a thread that saw no free slot
+                if (queued.isEmpty()) return;
+                continue;
+            }
+            queueSlots.release();
+            try {
+                executor.execute(() -> {
+                    try {
+                        next.run();
+                    } finally {
+                        running.decrementAndGet();
+                        dispatch();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                running.decrementAndGet();
+                next.result.complete(Try.failure(e));
+            }
+        }
+    }
+
+    private static final class Pending<T> {
+        private final CheckedFunction0<? extends T> computation;
+        private final CompletableFuture<Try<T>> result = new CompletableFuture<>();
+
+        Pending(CheckedFunction0<? extends T> computation) {
+            this.computation = computation;
+        }
+
+        void run() {
+            AsyncTry.complete(result, computation);
+        }
+    }
+
+    public static final class Builder {
+
+        private Executor executor = ForkJoinPool.commonPool();
+        private int maxConcurrency = Runtime.getRuntime().availableProcessors();
+        private int maxQueued = 1024;
+
+        private Builder() {
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder maxQueued(int maxQueued) {
+            if (maxQueued <= 0) throw new IllegalArgumentException("maxQueued must be positive: " + maxQueued);
+            this.maxQueued = maxQueued;
+            return this;
+        }
+
+        public AsyncLimiter build() {
+            return new AsyncLimiter(this);
+        }
+    }
+}
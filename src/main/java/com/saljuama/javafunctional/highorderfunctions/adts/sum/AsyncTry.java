@@ -0,0 +1,192 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Try;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Asynchronous counterpart of {@link Try}: a {@code Try<T>} that will be available later, with the same
+ * {@code map}, {@code flatMap}, {@code filter} and {@code recover} vocabulary.
+ * <p>
+ * Chained steps still run one after the other, but nothing blocks while they wait, and independent steps combined with
+ * {@link #zipWith} or {@link #sequence} run concurrently, so the latency of the whole chain is the one of its slowest
+ * path instead of the sum of all the steps. Use an {@link AsyncLimiter} to start the steps with a concurrency limit.
+ * <p>
+ * Like in {@code Try}, exceptions thrown by the functions passed to the operations become failures.
+ */
+public final class AsyncTry<T> {
+
+    // completes normally, failures are kept inside the Try, except for the errors Try rethrows like OutOfMemoryError
+    private final CompletableFuture<Try<T>> future;
+
+    AsyncTry(CompletableFuture<Try<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Runs the computation in the executor, failing with a {@link RejectedExecutionException} when the executor does
+     * not take it.
+     */
+    public static <T> AsyncTry<T> of(Executor executor, CheckedFunction0<? extends T> computation) {
+        CompletableFuture<Try<T>> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> complete(result, computation));
+        } catch (RejectedExecutionException e) {
+            result.complete(Try.failure(e));
+        }
+        return new AsyncTry<>(result);
+    }
+
+    public static <T> AsyncTry<T> fromTry(Try<? extends T> result) {
+        return new AsyncTry<>(CompletableFuture.completedFuture(Try.narrow(result)));
+    }
+
+    public static <T> AsyncTry<T> success(T value) {
+        return fromTry(Try.success(value));
+    }
+
+    public static <T> AsyncTry<T> failure(Throwable exception) {
+        return fromTry(Try.failure(exception));
+    }
+
+    /**
+     * Successful with the values of all the computations in the same order, or failed with the first failure in that
+     * order. The computations run concurrently, this only waits for them.
+     */
+    public static <T> AsyncTry<Seq<T>> sequence(Iterable<? extends AsyncTry<? extends T>> computations) {
+        AsyncTry<List<T>> result = success(List.empty());
+        for (AsyncTry<? extends T> computation : List.ofAll(computations).reverse()) {
+            result = computation.zipWith(result, (value, values) -> values.prepend(value));
+        }
+        return result.map(values -> values);
+    }
+
+    public <U> AsyncTry<U> map(Function<? super T, ? extends U> mapper) {
+        return new AsyncTry<>(future.thenApply(result -> result.mapTry(mapper::apply)));
+    }
+
+    public <U> AsyncTry<U> flatMap(Function<? super T, ? extends AsyncTry<? extends U>> mapper) {
+        return new AsyncTry<>(future.thenCompose(result -> {
+            if (result.isFailure()) return CompletableFuture.completedFuture(Try.<U>failure(result.getCause()));
+            try {
+                return AsyncTry.<U>narrow(mapper.apply(result.get())).future;
+            } catch (Throwable e) {
+                return CompletableFuture.completedFuture(Try.<U>failure(e));
+            }
+        }));
+    }
+
+    /**
+     * Same as {@link Try#filter}, fails with a {@link NoSuchElementException} when the predicate does not hold.
+     */
+    public AsyncTry<T> filter(Predicate<? super T> predicate) {
+        return new AsyncTry<>(future.thenApply(result -> result.filter(predicate)));
+    }
+
+    public AsyncTry<T> peek(Consumer<? super T> action) {
+        return new AsyncTry<>(future.thenApply(result -> result.andThenTry(action::accept)));
+    }
+
+    public AsyncTry<T> recover(Function<? super Throwable, ? extends T> recovery) {
+        return new AsyncTry<>(future.thenApply(result -> result.recover(recovery)));
+    }
+
+    public AsyncTry<T> recoverWith(Function<? super Throwable, ? extends AsyncTry<? extends T>> recovery) {
+        return new AsyncTry<>(future.thenCompose(result -> {
+            if (result.isSuccess()) return CompletableFuture.completedFuture(result);
+            try {
+                return AsyncTry.<T>narrow(recovery.apply(result.getCause())).future;
+            } catch (Throwable e) {
+                return CompletableFuture.completedFuture(Try.<T>failure(e));
+            }
+        }));
+    }
+
+    /**
+     * Combines this value with the value of an independent computation, which runs concurrently with this one. Fails
+     * with the failure of this computation when both fail.
+     */
+    public <U, R> AsyncTry<R> zipWith(AsyncTry<? extends U> other, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return new AsyncTry<>(future.thenCombine(other.future, (first, second) ->
+                first.flatMap(a -> second.mapTry(b -> combiner.apply(a, b)))));
+    }
+
+    /**
+     * Runs the action once the computation completes. Exceptions thrown by the action are dropped, use {@link #peek}
+     * to turn them into failures.
+     */
+    public AsyncTry<T> onComplete(Consumer<? super Try<T>> action) {
+        future.thenAccept(action);
+        return this;
+    }
+
+    public boolean isCompleted() {
+        return future.isDone();
+    }
+
+    /**
+     * Blocks until the computation completes.
+     */
+    public Try<T> await() {
+        return future.join();
+    }
+
+    /**
+     * A future that completes exceptionally when this computation fails, to interoperate with
+     * {@link CompletableFuture} based code.
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        return future.thenCompose(result -> {
+            CompletableFuture<T> value = new CompletableFuture<>();
+            if (result.isSuccess()) {
+                value.complete(result.get());
+            } else {
+                value.completeExceptionally(result.getCause());
+            }
+            return value;
+        });
+    }
+
+    /**
+     * Completes the future with the result of the computation whatever it throws, so nothing waits forever for it. An
+     * interruption becomes a failure with a {@link CancellationException}, and the errors {@code Try} rethrows instead
+     * of keeping them as failures complete the future exceptionally, so {@link #await()} throws them.
+     */
+    static <T> void complete(CompletableFuture<Try<T>> result, CheckedFunction0<? extends T> computation) {
+        try {
+            result.complete(Try.of(computation));
+        } catch (Throwable e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                result.complete(Try.failure(cancelled((InterruptedException) e)));
+            } else {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Non fatal failure for an interruption, {@code Try} rethrows {@link InterruptedException}s instead of keeping them.
+     */
+    static CancellationException cancelled(InterruptedException interruption) {
+        CancellationException cancellation = new CancellationException("interrupted");
+        cancellation.initCause(interruption);
+        return cancellation;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> AsyncTry<T> narrow(AsyncTry<? extends T> computation) {
+        return (AsyncTry<T>) computation;
+    }
+}
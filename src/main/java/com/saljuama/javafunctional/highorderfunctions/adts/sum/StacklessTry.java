@@ -0,0 +1,215 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+/**
+ * Failures without stack traces, for the loops where failing is an expected outcome rather than a bug.
+ * <p>
+ * Most of the cost of a {@code Try.of(() -> Integer.parseInt(x))} failure is filling the stack trace of the exception,
+ * which nobody reads when bad input is routine. The failures created here skip it, and the parse functions check the
+ * input by themselves instead of catching the exception of {@link Integer#parseInt}, so they never throw internally.
+ * They accept and reject exactly the same input as the JDK methods, and fail with a {@link NumberFormatException} too.
+ */
+public final class StacklessTry {
+
+    private StacklessTry() {
+    }
+
+    /**
+     * A failure with a {@link StacklessException}, as cheap to create as any other object.
+     */
+    public static <T> Try<T> failure(String message) {
+        return Try.failure(new StacklessException(message));
+    }
+
+    /**
+     * Same as {@code Try.of(() -> Integer.parseInt(input))}.
+     */
+    public static Try<Integer> parseInt(String input) {
+        long negated = parseNegated(input, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (negated == INVALID) return numberFormatFailure(input);
+        return Try.success((int) (isNegative(input) ? negated : -negated));
+    }
+
+    /**
+     * Same as {@code Try.of(() -> Long.parseLong(input))}.
+     */
+    public static Try<Long> parseLong(String input) {
+        long negated = parseNegated(input, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (negated == INVALID) return numberFormatFailure(input);
+        return Try.success(isNegative(input) ? negated : -negated);
+    }
+
+    /**
+     * Same as {@code Try.of(() -> Double.parseDouble(input))}. Decimal, hexadecimal, {@code NaN} and {@code Infinity}
+     * input is checked before parsing it, so {@link Double#parseDouble} only gets valid input.
+     */
+    public static Try<Double> parseDouble(String input) {
+        if (input == null) return Try.failure(new NullPointerException());
+        String trimmed = input.trim();
+        if (isDecimalFloatingPoint(trimmed) || isHexFloatingPoint(trimmed) || isNaNOrInfinity(trimmed)) {
+            return Try.success(Double.parseDouble(trimmed));
+        }
+        return numberFormatFailure(input);
+    }
+
+    public static Option<Integer> parseIntOption(String input) {
+        return parseInt(input).toOption();
+    }
+
+    public static Option<Long> parseLongOption(String input) {
+        return parseLong(input).toOption();
+    }
+
+    public static Option<Double> parseDoubleOption(String input) {
+        return parseDouble(input).toOption();
+    }
+
+    // the accumulated value is never positive
+    private static final long INVALID = 1;
+
+    /**
+     * Parses like {@link Long#parseLong} within the range, but accumulating the value negatively, which reaches the
+     * minimum value too, and returns {@link #INVALID} instead of throwing.
+     */
+    private static long parseNegated(String input, long min, long max) {
+        if (input == null || input.isEmpty()) return INVALID;
+        int length = input.length();
+        int i = 0;
+        long limit = -max;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) return INVALID;
+            if (first == '-') limit = min;
+            i++;
+        }
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(input.charAt(i), 10);
+            if (digit < 0 || result < multiplyMin) return INVALID;
+            result *= 10;
+            if (result < limit + digit) return INVALID;
+            result -= digit;
+        }
+        return result;
+    }
+
+    private static boolean isNegative(String input) {
+        return input.charAt(0) == '-';
+    }
+
+    /**
+     * Optional sign, digits with an optional dot (at least one digit), optional exponent and optional type suffix.
+     */
+    private static boolean isDecimalFloatingPoint(String input) {
+        int length = input.length();
+        int i = 0;
+        if (i < length && (input.charAt(i) == '+' || input.charAt(i) == '-')) i++;
+        int digits = 0;
+        while (i < length && isAsciiDigit(input.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < length && input.charAt(i) == '.') {
+            i++;
+            while (i < length && isAsciiDigit(input.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) return false;
+        if (i < length && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (input.charAt(i) == '+' || input.charAt(i) == '-')) i++;
+            int exponentDigits = 0;
+            while (i < length && isAsciiDigit(input.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) return false;
+        }
+        if (i < length && "fFdD".indexOf(input.charAt(i)) >= 0) i++;
+        return i == length;
+    }
+
+    /**
+     * Optional sign, {@code 0x} or {@code 0X}, hex digits with an optional dot (at least one digit), mandatory binary
+     * exponent and optional type suffix.
+     */
+    private static boolean isHexFloatingPoint(String input) {
+        int length = input.length();
+        int i = signLength(input);
+        if (!input.startsWith("0x", i) && !input.startsWith("0X", i)) return false;
+        i += 2;
+        int digits = 0;
+        while (i < length && isAsciiHexDigit(input.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < length && input.charAt(i) == '.') {
+            i++;
+            while (i < length && isAsciiHexDigit(input.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0 || i == length || (input.charAt(i) != 'p' && input.charAt(i) != 'P')) return false;
+        i++;
+        if (i < length && (input.charAt(i) == '+' || input.charAt(i) == '-')) i++;
+        int exponentDigits = 0;
+        while (i < length && isAsciiDigit(input.charAt(i))) {
+            i++;
+            exponentDigits++;
+        }
+        if (exponentDigits == 0) return false;
+        if (i < length && "fFdD".indexOf(input.charAt(i)) >= 0) i++;
+        return i == length;
+    }
+
+    /**
+     * Optional sign followed by {@code NaN} or {@code Infinity}.
+     */
+    private static boolean isNaNOrInfinity(String input) {
+        int sign = signLength(input);
+        int length = input.length() - sign;
+        return length == 3 && input.startsWith("NaN", sign) || length == 8 && input.startsWith("Infinity", sign);
+    }
+
+    private static int signLength(String input) {
+        return !input.isEmpty() && (input.charAt(0) == '+' || input.charAt(0) == '-') ? 1 : 0;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiHexDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static <T> Try<T> numberFormatFailure(String input) {
+        return Try.failure(new StacklessNumberFormatException(input == null ? "null" : "For input string: \"" + input + "\""));
+    }
+
+    /**
+     * Exception without stack trace, suppressed exceptions or cause.
+     */
+    public static class StacklessException extends RuntimeException {
+        public StacklessException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private static final class StacklessNumberFormatException extends NumberFormatException {
+        StacklessNumberFormatException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
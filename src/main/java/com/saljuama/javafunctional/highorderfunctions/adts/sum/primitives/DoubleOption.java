@@ -0,0 +1,144 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Optional {@code double} value that is never boxed, with the high order API of vavr's {@link Option} taking the
+ * {@code java.util.function} primitive specializations.
+ * <p>
+ * It is a small immutable final class with final fields and short methods, so when a chain like
+ * {@code DoubleOption.some(x).map(f).filter(p).getOrElse(0)} is inlined in a hot loop, escape analysis replaces the
+ * intermediate options by their fields and nothing is allocated. For that, {@link #map} and {@link #filter} always
+ * build their result in one single allocation site, instead of returning either a new option or a shared empty one,
+ * because the JIT does not eliminate objects that may come from different places.
+ */
+public final class DoubleOption {
+
+    private static final DoubleOption NONE = new DoubleOption(false, 0);
+
+    private final boolean defined;
+    private final double value;
+
+    private DoubleOption(boolean defined, double value) {
+        this.defined = defined;
+        this.value = value;
+    }
+
+    public static DoubleOption none() {
+        return NONE;
+    }
+
+    public static DoubleOption some(double value) {
+        return new DoubleOption(true, value);
+    }
+
+    public static DoubleOption ofNullable(Double value) {
+        return value == null ? NONE : some(value);
+    }
+
+    public static DoubleOption ofOption(Option<Double> option) {
+        return option.isDefined() ? some(option.get()) : NONE;
+    }
+
+    /**
+     * {@code some(value)} when the condition holds, {@code none()} otherwise.
+     */
+    public static DoubleOption when(boolean condition, double value) {
+        return new DoubleOption(condition, value);
+    }
+
+    public boolean isDefined() {
+        return defined;
+    }
+
+    public boolean isEmpty() {
+        return !defined;
+    }
+
+    public double get() {
+        if (!defined) throw new NoSuchElementException("No value present");
+        return value;
+    }
+
+    public double getOrElse(double other) {
+        return defined ? value : other;
+    }
+
+    public double getOrElse(DoubleSupplier supplier) {
+        return defined ? value : supplier.getAsDouble();
+    }
+
+    public DoubleOption orElse(DoubleOption other) {
+        return defined ? this : other;
+    }
+
+    public DoubleOption map(DoubleUnaryOperator mapper) {
+        return new DoubleOption(defined, defined ? mapper.applyAsDouble(value) : value);
+    }
+
+    /**
+     * Maps to a vavr {@link Option}, boxing the result.
+     */
+    public <U> Option<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        return defined ? Option.some(mapper.apply(value)) : Option.none();
+    }
+
+    public DoubleOption flatMap(DoubleFunction<DoubleOption> mapper) {
+        return defined ? mapper.apply(value) : NONE;
+    }
+
+    public DoubleOption filter(DoublePredicate predicate) {
+        return new DoubleOption(defined && predicate.test(value), value);
+    }
+
+    public boolean exists(DoublePredicate predicate) {
+        return defined && predicate.test(value);
+    }
+
+    public DoubleOption peek(DoubleConsumer action) {
+        if (defined) action.accept(value);
+        return this;
+    }
+
+    public void forEach(DoubleConsumer action) {
+        if (defined) action.accept(value);
+    }
+
+    /**
+     * Same as {@link Option#toTry()}, empty options are failures with a {@link NoSuchElementException}.
+     */
+    public Try<Double> toTry() {
+        return defined ? Try.success(value) : Try.failure(new NoSuchElementException("No value present"));
+    }
+
+    public Option<Double> toOption() {
+        return defined ? Option.some(value) : Option.none();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof DoubleOption)) return false;
+        DoubleOption that = (DoubleOption) other;
+        if (!defined || !that.defined) return defined == that.defined;
+        return Double.compare(value, that.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return defined ? 31 + Double.hashCode(value) : 1;
+    }
+
+    @Override
+    public String toString() {
+        return defined ? "DoubleOption(" + value + ")" : "DoubleOption()";
+    }
+}
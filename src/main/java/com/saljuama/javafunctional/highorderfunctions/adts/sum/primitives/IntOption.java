@@ -0,0 +1,144 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Optional {@code int} value that is never boxed, with the high order API of vavr's {@link Option} taking the
+ * {@code java.util.function} primitive specializations.
+ * <p>
+ * It is a small immutable final class with final fields and short methods, so when a chain like
+ * {@code IntOption.some(x).map(f).filter(p).getOrElse(0)} is inlined in a hot loop, escape analysis replaces the
+ * intermediate options by their fields and nothing is allocated. For that, {@link #map} and {@link #filter} always
+ * build their result in one single allocation site, instead of returning either a new option or a shared empty one,
+ * because the JIT does not eliminate objects that may come from different places.
+ */
+public final class IntOption {
+
+    private static final IntOption NONE = new IntOption(false, 0);
+
+    private final boolean defined;
+    private final int value;
+
+    private IntOption(boolean defined, int value) {
+        this.defined = defined;
+        this.value = value;
+    }
+
+    public static IntOption none() {
+        return NONE;
+    }
+
+    public static IntOption some(int value) {
+        return new IntOption(true, value);
+    }
+
+    public static IntOption ofNullable(Integer value) {
+        return value == null ? NONE : some(value);
+    }
+
+    public static IntOption ofOption(Option<Integer> option) {
+        return option.isDefined() ? some(option.get()) : NONE;
+    }
+
+    /**
+     * {@code some(value)} when the condition holds, {@code none()} otherwise.
+     */
+    public static IntOption when(boolean condition, int value) {
+        return new IntOption(condition, value);
+    }
+
+    public boolean isDefined() {
+        return defined;
+    }
+
+    public boolean isEmpty() {
+        return !defined;
+    }
+
+    public int get() {
+        if (!defined) throw new NoSuchElementException("No value present");
+        return value;
+    }
+
+    public int getOrElse(int other) {
+        return defined ? value : other;
+    }
+
+    public int getOrElse(IntSupplier supplier) {
+        return defined ? value : supplier.getAsInt();
+    }
+
+    public IntOption orElse(IntOption other) {
+        return defined ? this : other;
+    }
+
+    public IntOption map(IntUnaryOperator mapper) {
+        return new IntOption(defined, defined ? mapper.applyAsInt(value) : value);
+    }
+
+    /**
+     * Maps to a vavr {@link Option}, boxing the result.
+     */
+    public <U> Option<U> mapToObj(IntFunction<? extends U> mapper) {
+        return defined ? Option.some(mapper.apply(value)) : Option.none();
+    }
+
+    public IntOption flatMap(IntFunction<IntOption> mapper) {
+        return defined ? mapper.apply(value) : NONE;
+    }
+
+    public IntOption filter(IntPredicate predicate) {
+        return new IntOption(defined && predicate.test(value), value);
+    }
+
+    public boolean exists(IntPredicate predicate) {
+        return defined && predicate.test(value);
+    }
+
+    public IntOption peek(IntConsumer action) {
+        if (defined) action.accept(value);
+        return this;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (defined) action.accept(value);
+    }
+
+    /**
+     * Same as {@link Option#toTry()}, empty options are failures with a {@link NoSuchElementException}.
+     */
+    public Try<Integer> toTry() {
+        return defined ? Try.success(value) : Try.failure(new NoSuchElementException("No value present"));
+    }
+
+    public Option<Integer> toOption() {
+        return defined ? Option.some(value) : Option.none();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof IntOption)) return false;
+        IntOption that = (IntOption) other;
+        if (!defined || !that.defined) return defined == that.defined;
+        return value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return defined ? 31 + Integer.hashCode(value) : 1;
+    }
+
+    @Override
+    public String toString() {
+        return defined ? "IntOption(" + value + ")" : "IntOption()";
+    }
+}
@@ -0,0 +1,144 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Optional {@code long} value that is never boxed, with the high order API of vavr's {@link Option} taking the
+ * {@code java.util.function} primitive specializations.
+ * <p>
+ * It is a small immutable final class with final fields and short methods, so when a chain like
+ * {@code LongOption.some(x).map(f).filter(p).getOrElse(0)} is inlined in a hot loop, escape analysis replaces the
+ * intermediate options by their fields and nothing is allocated. For that, {@link #map} and {@link #filter} always
+ * build their result in one single allocation site, instead of returning either a new option or a shared empty one,
+ * because the JIT does not eliminate objects that may come from different places.
+ */
+public final class LongOption {
+
+    private static final LongOption NONE = new LongOption(false, 0);
+
+    private final boolean defined;
+    private final long value;
+
+    private LongOption(boolean defined, long value) {
+        this.defined = defined;
+        this.value = value;
+    }
+
+    public static LongOption none() {
+        return NONE;
+    }
+
+    public static LongOption some(long value) {
+        return new LongOption(true, value);
+    }
+
+    public static LongOption ofNullable(Long value) {
+        return value == null ? NONE : some(value);
+    }
+
+    public static LongOption ofOption(Option<Long> option) {
+        return option.isDefined() ? some(option.get()) : NONE;
+    }
+
+    /**
+     * {@code some(value)} when the condition holds, {@code none()} otherwise.
+     */
+    public static LongOption when(boolean condition, long value) {
+        return new LongOption(condition, value);
+    }
+
+    public boolean isDefined() {
+        return defined;
+    }
+
+    public boolean isEmpty() {
+        return !defined;
+    }
+
+    public long get() {
+        if (!defined) throw new NoSuchElementException("No value present");
+        return value;
+    }
+
+    public long getOrElse(long other) {
+        return defined ? value : other;
+    }
+
+    public long getOrElse(LongSupplier supplier) {
+        return defined ? value : supplier.getAsLong();
+    }
+
+    public LongOption orElse(LongOption other) {
+        return defined ? this : other;
+    }
+
+    public LongOption map(LongUnaryOperator mapper) {
+        return new LongOption(defined, defined ? mapper.applyAsLong(value) : value);
+    }
+
+    /**
+     * Maps to a vavr {@link Option}, boxing the result.
+     */
+    public <U> Option<U> mapToObj(LongFunction<? extends U> mapper) {
+        return defined ? Option.some(mapper.apply(value)) : Option.none();
+    }
+
+    public LongOption flatMap(LongFunction<LongOption> mapper) {
+        return defined ? mapper.apply(value) : NONE;
+    }
+
+    public LongOption filter(LongPredicate predicate) {
+        return new LongOption(defined && predicate.test(value), value);
+    }
+
+    public boolean exists(LongPredicate predicate) {
+        return defined && predicate.test(value);
+    }
+
+    public LongOption peek(LongConsumer action) {
+        if (defined) action.accept(value);
+        return this;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (defined) action.accept(value);
+    }
+
+    /**
+     * Same as {@link Option#toTry()}, empty options are failures with a {@link NoSuchElementException}.
+     */
+    public Try<Long> toTry() {
+        return defined ? Try.success(value) : Try.failure(new NoSuchElementException("No value present"));
+    }
+
+    public Option<Long> toOption() {
+        return defined ? Option.some(value) : Option.none();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof LongOption)) return false;
+        LongOption that = (LongOption) other;
+        if (!defined || !that.defined) return defined == that.defined;
+        return value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return defined ? 31 + Long.hashCode(value) : 1;
+    }
+
+    @Override
+    public String toString() {
+        return defined ? "LongOption(" + value + ")" : "LongOption()";
+    }
+}
@@ -0,0 +1,30 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs the action for every chunk index in {@code [from, to)}, splitting the range in halves so idle workers of the
+ * pool can steal them.
+ */
+final class ChunkRange extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final IntConsumer action;
+
+    ChunkRange(int from, int to, IntConsumer action) {
+        this.from = from;
+        this.to = to;
+        this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from == 1) {
+            action.accept(from);
+        } else {
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkRange(from, middle, action), new ChunkRange(middle, to, action));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.collection.Seq;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * {@link Semigroup} with an identity element: {@code combine(empty(), a)} and {@code combine(a, empty())} are {@code a}.
+ */
+public interface Monoid<T> extends Semigroup<T> {
+
+    T empty();
+
+    /**
+     * Creates a monoid trusting that the operation is associative and the identity is its identity element.
+     */
+    static <T> Monoid<T> of(T identity, BinaryOperator<T> associativeOperation) {
+        return new Monoid<T>() {
+            @Override
+            public T empty() {
+                return identity;
+            }
+
+            @Override
+            public T combine(T left, T right) {
+                return associativeOperation.apply(left, right);
+            }
+        };
+    }
+
+    /**
+     * Creates a monoid after checking the associativity and identity laws with every combination of the sample values.
+     *
+     * @throws IllegalArgumentException with the values breaking the law
+     */
+    static <T> Monoid<T> verified(T identity, BinaryOperator<T> associativeOperation, Seq<T> samples) {
+        for (T a : samples) {
+            if (!Objects.equals(associativeOperation.apply(identity, a), a) || !Objects.equals(associativeOperation.apply(a, identity), a)) {
+                throw new IllegalArgumentException(identity + " is not the identity element of the operation, it fails for " + a);
+            }
+            for (T b : samples) {
+                for (T c : samples) {
+                    T leftFirst = associativeOperation.apply(associativeOperation.apply(a, b), c);
+                    T rightFirst = associativeOperation.apply(a, associativeOperation.apply(b, c));
+                    if (!Objects.equals(leftFirst, rightFirst)) {
+                        throw new IllegalArgumentException("The operation is not associative, for (" + a + ", " + b + ", " + c + ") "
+                                + "combining left first gives " + leftFirst + " and right first gives " + rightFirst);
+                    }
+                }
+            }
+        }
+        return of(identity, associativeOperation);
+    }
+
+    static Monoid<Integer> intSum() {
+        return of(0, Integer::sum);
+    }
+
+    static Monoid<Long> longSum() {
+        return of(0L, Long::sum);
+    }
+
+    static Monoid<String> stringConcatenation() {
+        return of("", String::concat);
+    }
+}
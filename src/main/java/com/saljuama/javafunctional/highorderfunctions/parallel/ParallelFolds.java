@@ -0,0 +1,142 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Option;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel versions of fold, reduce and scan for vavr sequences, running on a {@link ForkJoinPool}.
+ * <p>
+ * The elements are copied to an array, which is split in chunks folded on the pool workers, and the partial results
+ * are combined in order. The operations only accept a {@link Semigroup} or a {@link Monoid}, the explicit promise that
+ * the operation is associative, which is what makes the result identical to the sequential one.
+ */
+public final class ParallelFolds {
+
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ParallelFolds(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public static ParallelFolds commonPool() {
+        return new ParallelFolds(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public <T> T fold(Seq<T> seq, Monoid<T> monoid) {
+        return foldMap(seq, Function.identity(), monoid);
+    }
+
+    /**
+     * Same as {@code seq.fold(zero, monoid::combine)}, where {@code zero} does not need to be the identity element
+     * because it is combined only once, on the left of the result.
+     */
+    public <T> T fold(Seq<T> seq, T zero, Monoid<T> monoid) {
+        return monoid.combine(zero, fold(seq, monoid));
+    }
+
+    /**
+     * Maps every element and folds the mapped values, without building the mapped sequence.
+     */
+    public <T, U> U foldMap(Seq<T> seq, Function<? super T, ? extends U> mapper, Monoid<U> monoid) {
+        Object[] elements = seq.toJavaArray();
+        Object[] totals = chunkTotals(elements, mapper, monoid, monoid.empty());
+        U result = monoid.empty();
+        for (Object total : totals) {
+            result = monoid.combine(result, cast(total));
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@code seq.reduceOption(semigroup::combine)}.
+     */
+    public <T> Option<T> reduce(Seq<T> seq, Semigroup<T> semigroup) {
+        if (seq.isEmpty()) return Option.none();
+        Object[] elements = seq.tail().toJavaArray();
+        Object[] totals = chunkTotals(elements, Function.<T>identity(), semigroup, null);
+        T result = seq.head();
+        for (Object total : totals) {
+            result = semigroup.combine(result, cast(total));
+        }
+        return Option.some(result);
+    }
+
+    /**
+     * Same as {@code seq.scan(monoid.empty(), monoid::combine)}: the {@code seq.size() + 1} running totals, starting
+     * with the identity element.
+     * <p>
+     * It is computed in two parallel passes, the first one folds each chunk, then the totals of the previous chunks
+     * are accumulated sequentially, and the second one scans each chunk starting from the total of the chunks before.
+     */
+    public <T> List<T> scan(Seq<T> seq, Monoid<T> monoid) {
+        Object[] elements = seq.toJavaArray();
+        Object[] totals = chunkTotals(elements, Function.<T>identity(), monoid, monoid.empty());
+
+        Object[] chunkStarts = new Object[totals.length];
+        T accumulator = monoid.empty();
+        for (int chunk = 0; chunk < totals.length; chunk++) {
+            chunkStarts[chunk] = accumulator;
+            accumulator = monoid.combine(accumulator, cast(totals[chunk]));
+        }
+
+        Object[] scanned = new Object[elements.length + 1];
+        scanned[0] = monoid.empty();
+        forEachChunk(totals.length, chunk -> {
+            T running = cast(chunkStarts[chunk]);
+            int start = chunk * chunkSize;
+            int end = start + Math.min(chunkSize, elements.length - start);
+            for (int i = start; i < end; i++) {
+                running = monoid.combine(running, cast(elements[i]));
+                scanned[i + 1] = running;
+            }
+        });
+
+        List<T> result = List.empty();
+        for (int i = scanned.length - 1; i >= 0; i--) {
+            result = result.prepend(cast(scanned[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Folds every chunk of the elements in parallel. Chunks are folded starting from their first element, so
+     * {@code empty} is only returned for empty chunks and can be {@code null} for semigroups.
+     */
+    private <T, U> Object[] chunkTotals(Object[] elements, Function<? super T, ? extends U> mapper, Semigroup<U> semigroup, U empty) {
+        int chunks = (int) (((long) elements.length + chunkSize - 1) / chunkSize);
+        Object[] totals = new Object[chunks];
+        forEachChunk(chunks, chunk -> {
+            int start = chunk * chunkSize;
+            int end = start + Math.min(chunkSize, elements.length - start);
+            U total = start < end ? mapper.apply(cast(elements[start])) : empty;
+            for (int i = start + 1; i < end; i++) {
+                total = semigroup.combine(total, mapper.apply(cast(elements[i])));
+            }
+            totals[chunk] = total;
+        });
+        return totals;
+    }
+
+    private void forEachChunk(int chunks, IntConsumer action) {
+        if (chunks == 1) {
+            action.accept(0);
+        } else if (chunks > 1) {
+            pool.invoke(new ChunkRange(0, chunks, action));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
@@ -0,0 +1,95 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.DoubleList;
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.IntList;
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.LongList;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoublePredicate;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Parallel {@code exists}, {@code forAll} and {@code indexWhere} for large primitive lists, giving the same results as
+ * the sequential versions.
+ * <p>
+ * The list is split in chunks searched on the workers of a {@link ForkJoinPool}, and once a match is found the search
+ * is cancelled: chunks after the match are not searched anymore. {@code indexWhere} still searches the chunks before
+ * the match, which may contain an earlier one, while {@code exists} and {@code forAll} stop at any match.
+ */
+public final class ParallelSearch {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ParallelSearch(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public static ParallelSearch commonPool() {
+        return new ParallelSearch(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public int indexWhere(IntList list, IntPredicate predicate) {
+        return search(list.size(), (from, to) -> list.slice(from, to).indexWhere(predicate), false);
+    }
+
+    public boolean exists(IntList list, IntPredicate predicate) {
+        return search(list.size(), (from, to) -> list.slice(from, to).indexWhere(predicate), true) >= 0;
+    }
+
+    public boolean forAll(IntList list, IntPredicate predicate) {
+        return !exists(list, predicate.negate());
+    }
+
+    public int indexWhere(LongList list, LongPredicate predicate) {
+        return search(list.size(), (from, to) -> list.slice(from, to).indexWhere(predicate), false);
+    }
+
+    public boolean exists(LongList list, LongPredicate predicate) {
+        return search(list.size(), (from, to) -> list.slice(from, to).indexWhere(predicate), true) >= 0;
+    }
+
+    public boolean forAll(LongList list, LongPredicate predicate) {
+        return !exists(list, predicate.negate());
+    }
+
+    public int indexWhere(DoubleList list, DoublePredicate predicate) {
+        return search(list.size(), (from, to) -> list.slice(from, to).indexWhere(predicate), false);
+    }
+
+    public boolean exists(DoubleList list, DoublePredicate predicate) {
+        return search(list.size(), (from, to) -> list.slice(from, to).indexWhere(predicate), true) >= 0;
+    }
+
+    public boolean forAll(DoubleList list, DoublePredicate predicate) {
+        return !exists(list, predicate.negate());
+    }
+
+    /**
+     * Searches every chunk with {@code searchChunk}, which returns the index of the match relative to the start of the
+     * chunk or -1, skipping the chunks after the first match found so far, or all of them once any match is found.
+     */
+    private int search(int size, IntBinaryOperator searchChunk, boolean anyMatch) {
+        int chunks = (int) (((long) size + chunkSize - 1) / chunkSize);
+        if (chunks <= 1) return size == 0 ? -1 : searchChunk.applyAsInt(0, size);
+
+        // index of the first match found so far, or the size when there is none
+        AtomicInteger firstMatch = new AtomicInteger(size);
+        pool.invoke(new ChunkRange(0, chunks, chunk -> {
+            int start = chunk * chunkSize;
+            int found = firstMatch.get();
+            if (found < size && (anyMatch || found < start)) return;
+            int match = searchChunk.applyAsInt(start, start + Math.min(chunkSize, size - start));
+            if (match >= 0) firstMatch.accumulateAndGet(start + match, Math::min);
+        }));
+        int found = firstMatch.get();
+        return found < size ? found : -1;
+    }
+}
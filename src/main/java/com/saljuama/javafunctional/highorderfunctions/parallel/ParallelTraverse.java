@@ -0,0 +1,139 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.CheckedFunction1;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel {@code traverse}: applies a function that can fail to every element of a sequence, which gives the same
+ * result as {@code Try.sequence(seq.map(f))} without evaluating the elements one after the other.
+ * <p>
+ * The elements are split in batches evaluated on the workers of a {@link ForkJoinPool}. Once an element fails, no
+ * element after it is evaluated anymore, but the ones before it still are, so the failure returned is always the one of
+ * the first failing element, like in the sequential version.
+ */
+public final class ParallelTraverse {
+
+    private static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    public ParallelTraverse(ForkJoinPool pool, int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    public static ParallelTraverse commonPool() {
+        return new ParallelTraverse(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Same as {@code Try.sequence(seq.map(f))}.
+     */
+    public <A, B> Try<Seq<B>> traverse(Seq<A> seq, Function<? super A, ? extends Try<? extends B>> f) {
+        return traverseChecked(seq, unwrap(f));
+    }
+
+    /**
+     * Same as {@link #traverse} for a function that throws instead of returning a {@link Try}, which saves allocating
+     * a {@code Try} per element.
+     */
+    public <A, B> Try<Seq<B>> traverseChecked(Seq<A> seq, CheckedFunction1<? super A, ? extends B> f) {
+        Batches batches = evaluate(seq, f, false);
+        if (batches.firstFailure.get() < batches.failures.length) {
+            return Try.failure(batches.failures[batches.firstFailure.get()]);
+        }
+        return Try.success(batches.values());
+    }
+
+    /**
+     * Evaluates every element, even after a failure, and returns all the failures in the order of their elements, or
+     * all the values when nothing failed.
+     */
+    public <A, B> Either<Seq<Throwable>, Seq<B>> traverseAccumulating(Seq<A> seq, Function<? super A, ? extends Try<? extends B>> f) {
+        Batches batches = evaluate(seq, unwrap(f), true);
+        if (batches.firstFailure.get() < batches.failures.length) {
+            return Either.left(batches.failures());
+        }
+        return Either.right(batches.values());
+    }
+
+    private static <A, B> CheckedFunction1<A, B> unwrap(Function<? super A, ? extends Try<? extends B>> f) {
+        return element -> {
+            Try<? extends B> result = f.apply(element);
+            if (result.isFailure()) throw result.getCause();
+            return result.get();
+        };
+    }
+
+    private <A> Batches evaluate(Seq<A> seq, CheckedFunction1<? super A, ?> f, boolean accumulate) {
+        Object[] elements = seq.toJavaArray();
+        Batches batches = new Batches(elements.length);
+        int count = (int) (((long) elements.length + batchSize - 1) / batchSize);
+        forEachBatch(count, batch -> {
+            int from = batch * batchSize;
+            int end = from + Math.min(batchSize, elements.length - from);
+            for (int i = from; i < end; i++) {
+                if (!accumulate && i > batches.firstFailure.get()) return;
+                try {
+                    batches.values[i] = f.apply(cast(elements[i]));
+                } catch (Throwable e) {
+                    batches.failures[i] = e;
+                    batches.firstFailure.accumulateAndGet(i, Math::min);
+                }
+            }
+        });
+        return batches;
+    }
+
+    private void forEachBatch(int batches, IntConsumer action) {
+        if (batches == 1) {
+            action.accept(0);
+        } else if (batches > 1) {
+            pool.invoke(new ChunkRange(0, batches, action));
+        }
+    }
+
+    private static final class Batches {
+        private final Object[] values;
+        private final Throwable[] failures;
+        // index of the first failing element, or the number of elements when none failed
+        private final AtomicInteger firstFailure;
+
+        Batches(int size) {
+            this.values = new Object[size];
+            this.failures = new Throwable[size];
+            this.firstFailure = new AtomicInteger(size);
+        }
+
+        <B> Seq<B> values() {
+            List<B> result = List.empty();
+            for (int i = values.length - 1; i >= 0; i--) {
+                result = result.prepend(cast(values[i]));
+            }
+            return result;
+        }
+
+        Seq<Throwable> failures() {
+            List<Throwable> result = List.empty();
+            for (int i = failures.length - 1; i >= 0; i--) {
+                if (failures[i] != null) result = result.prepend(failures[i]);
+            }
+            return result;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
@@ -0,0 +1,14 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+/**
+ * Associative binary operation: {@code combine(combine(a, b), c)} must be equal to {@code combine(a, combine(b, c))}.
+ * <p>
+ * Associativity is what allows {@link ParallelFolds} to split a collection in chunks, combine each chunk on a different
+ * thread and then combine the partial results, getting the same result as the sequential fold. The compiler can't check
+ * it, so use {@link Monoid#verified} to check it against sample values.
+ */
+@FunctionalInterface
+public interface Semigroup<T> {
+
+    T combine(T left, T right);
+}
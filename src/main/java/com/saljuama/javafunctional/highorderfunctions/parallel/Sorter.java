@@ -0,0 +1,366 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Stable sorting of large sequences with the same ordering as {@code sorted()} and {@code sortBy(...)} of vavr
+ * collections, that:
+ * <ul>
+ * <li>extracts the sorting key of each element once (Schwartzian transform), instead of once per comparison</li>
+ * <li>sorts on all the cores with {@link Arrays#parallelSort}</li>
+ * <li>when the input has more elements than the in-memory limit, sorts it in runs of that size which are spilled to
+ * temporary files and merged back with a k-way merge, in several passes when there are more runs than the merge fan-in.
+ * Elements and keys must be {@link java.io.Serializable} then</li>
+ * </ul>
+ */
+public final class Sorter {
+
+    private static final int RESET_STREAM_EVERY = 1024;
+
+    private final int maxElementsInMemory;
+    private final int mergeFanIn;
+    private final Path tempDirectory;
+
+    private Sorter(Builder builder) {
+        this.maxElementsInMemory = builder.maxElementsInMemory;
+        this.mergeFanIn = builder.mergeFanIn;
+        this.tempDirectory = builder.tempDirectory;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public <T extends Comparable<? super T>> List<T> sorted(Iterable<? extends T> elements) {
+        return sortBy(elements, Comparator.<T>naturalOrder(), Function.identity());
+    }
+
+    public <T> List<T> sorted(Iterable<? extends T> elements, Comparator<? super T> comparator) {
+        return sortBy(elements, comparator, Function.identity());
+    }
+
+    public <T, U extends Comparable<? super U>> List<T> sortBy(Iterable<? extends T> elements, Function<? super T, ? extends U> keyExtractor) {
+        return sortBy(elements, Comparator.<U>naturalOrder(), keyExtractor);
+    }
+
+    public <T, U> List<T> sortBy(Iterable<? extends T> elements, Comparator<? super U> comparator, Function<? super T, ? extends U> keyExtractor) {
+        try (SortedIterator<T> sorted = sortByIterator(elements, comparator, keyExtractor)) {
+            return List.ofAll(sorted);
+        }
+    }
+
+    /**
+     * Sorts the elements returning an iterator that merges the spilled runs lazily, so the sorted result does not have
+     * to fit in memory either. Temporary files are deleted when the iterator is exhausted or closed, so close the
+     * iterators not read until the end, with a try-with-resources for example.
+     */
+    public <T, U> SortedIterator<T> sortByIterator(Iterable<? extends T> elements, Comparator<? super U> comparator, Function<? super T, ? extends U> keyExtractor) {
+        Comparator<Keyed<U, T>> byKey = (a, b) -> comparator.compare(a.key, b.key);
+        java.util.Iterator<? extends T> source = elements.iterator();
+
+        Keyed<U, T>[] run = nextRun(source, keyExtractor, byKey);
+        if (!source.hasNext()) {
+            return new InMemoryIterator<>(run);
+        }
+
+        ArrayList<Path> runFiles = new ArrayList<>();
+        try {
+            runFiles.add(spill(Arrays.asList(run).iterator()));
+            run = null; // not needed anymore, let it be collected while the next run is sorted
+            while (source.hasNext()) {
+                runFiles.add(spill(Arrays.asList(nextRun(source, keyExtractor, byKey)).iterator()));
+            }
+            while (runFiles.size() > mergeFanIn) {
+                ArrayList<Path> merged = mergePass(runFiles, byKey);
+                runFiles.clear();
+                runFiles.addAll(merged);
+            }
+            return new MergeIterator<>(runFiles, byKey);
+        } catch (IOException | RuntimeException e) {
+            runFiles.forEach(Sorter::deleteQuietly);
+            throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+        }
+    }
+
+    private <T, U> Keyed<U, T>[] nextRun(java.util.Iterator<? extends T> source, Function<? super T, ? extends U> keyExtractor, Comparator<Keyed<U, T>> byKey) {
+        ArrayList<T> values = new ArrayList<>();
+        while (values.size() < maxElementsInMemory && source.hasNext()) {
+            values.add(source.next());
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Keyed<U, T>[] run = new Keyed[values.size()];
+        Arrays.parallelSetAll(run, index -> {
+            T value = values.get(index);
+            return new Keyed<>(keyExtractor.apply(value), value);
+        });
+        Arrays.parallelSort(run, byKey);
+        return run;
+    }
+
+    /**
+     * Merges every {@code mergeFanIn} consecutive runs into one, so the runs keep the order of the input and the merge
+     * stays stable. Runs are deleted as they are merged.
+     */
+    private <T, U> ArrayList<Path> mergePass(ArrayList<Path> runFiles, Comparator<Keyed<U, T>> byKey) throws IOException {
+        ArrayList<Path> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runFiles.size(); from += mergeFanIn) {
+                ArrayList<Path> group = new ArrayList<>(runFiles.subList(from, Math.min(runFiles.size(), from + mergeFanIn)));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                try (MergeIterator<U, T> merging = new MergeIterator<>(group, byKey)) {
+                    merged.add(spill(merging.keyed()));
+                }
+            }
+            return merged;
+        } catch (IOException | RuntimeException e) {
+            merged.forEach(Sorter::deleteQuietly);
+            throw e;
+        }
+    }
+
+    private <T, U> Path spill(java.util.Iterator<Keyed<U, T>> run) throws IOException {
+        Path file = Files.createTempFile(tempDirectory, "sorter-run-", ".bin");
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            for (int i = 0; run.hasNext(); i++) {
+                Keyed<U, T> keyed = run.next();
+                out.writeObject(keyed.key);
+                out.writeObject(keyed.value);
+                if (i % RESET_STREAM_EVERY == 0) out.reset(); // otherwise the stream keeps a reference to every object written
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // it is a temporary file anyway
+        }
+    }
+
+    /**
+     * Sorted elements, which may be read from temporary files: close it to delete them when it is not read until the
+     * end.
+     */
+    public interface SortedIterator<T> extends Iterator<T>, AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static final class Keyed<U, T> {
+        final U key;
+        final T value;
+
+        Keyed(U key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Reads one spilled run back, one element at a time.
+     */
+    private static final class Run<U, T> {
+        final int index;
+        final Path file;
+        final ObjectInputStream in;
+        Keyed<U, T> head;
+
+        Run(int index, Path file) throws IOException {
+            this.index = index;
+            this.file = file;
+            InputStream stream = new BufferedInputStream(Files.newInputStream(file));
+            try {
+                this.in = new ObjectInputStream(stream);
+            } catch (IOException | RuntimeException e) {
+                stream.close();
+                throw e;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        boolean advance() throws IOException {
+            try {
+                head = new Keyed<>((U) in.readObject(), (T) in.readObject());
+                return true;
+            } catch (EOFException endOfRun) {
+                close();
+                return false;
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // nothing left to read
+            }
+            deleteQuietly(file);
+        }
+    }
+
+    private static final class InMemoryIterator<U, T> implements SortedIterator<T> {
+        private final Keyed<U, T>[] run;
+        private int next;
+
+        InMemoryIterator(Keyed<U, T>[] run) {
+            this.run = run;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < run.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException("no more sorted elements");
+            return run[next++].value;
+        }
+
+        @Override
+        public void close() {
+            next = run.length;
+        }
+    }
+
+    /**
+     * Merges the runs taking the smallest head each time, on equal keys the run that came first in the input wins,
+     * which keeps the sort stable.
+     */
+    private static final class MergeIterator<U, T> implements SortedIterator<T> {
+        private final PriorityQueue<Run<U, T>> heads;
+
+        MergeIterator(ArrayList<Path> files, Comparator<Keyed<U, T>> byKey) throws IOException {
+            Comparator<Run<U, T>> byHead = (a, b) -> byKey.compare(a.head, b.head);
+            this.heads = new PriorityQueue<>(files.size(), byHead.thenComparingInt(run -> run.index));
+            Run<U, T> run = null;
+            try {
+                for (int i = 0; i < files.size(); i++) {
+                    run = new Run<>(i, files.get(i));
+                    if (run.advance()) heads.add(run);
+                    run = null;
+                }
+            } catch (IOException | RuntimeException e) {
+                if (run != null) run.close();
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            return nextKeyed().value;
+        }
+
+        /**
+         * The merged elements with their keys, to spill them to another run.
+         */
+        java.util.Iterator<Keyed<U, T>> keyed() {
+            return new java.util.Iterator<Keyed<U, T>>() {
+                @Override
+                public boolean hasNext() {
+                    return MergeIterator.this.hasNext();
+                }
+
+                @Override
+                public Keyed<U, T> next() {
+                    return nextKeyed();
+                }
+            };
+        }
+
+        private Keyed<U, T> nextKeyed() {
+            Run<U, T> run = heads.poll();
+            if (run == null) throw new NoSuchElementException("no more sorted elements");
+            Keyed<U, T> keyed = run.head;
+            try {
+                if (run.advance()) heads.add(run);
+            } catch (IOException e) {
+                run.close();
+                close();
+                throw new UncheckedIOException(e);
+            }
+            return keyed;
+        }
+
+        @Override
+        public void close() {
+            heads.forEach(Run::close);
+            heads.clear();
+        }
+    }
+
+    public static final class Builder {
+
+        private int maxElementsInMemory = 1_000_000;
+        private int mergeFanIn = 128;
+        private Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+
+        private Builder() {
+        }
+
+        /**
+         * Heap budget of the sort, as number of elements sorted at once in memory before spilling to disk.
+         */
+        public Builder maxElementsInMemory(int maxElementsInMemory) {
+            if (maxElementsInMemory <= 0) throw new IllegalArgumentException("maxElementsInMemory must be positive: " + maxElementsInMemory);
+            this.maxElementsInMemory = maxElementsInMemory;
+            return this;
+        }
+
+        /**
+         * Maximum number of runs merged at once, each of them with an open file and its read buffer. With more runs
+         * than this, groups of runs are merged into bigger ones first, reading and writing all the elements once more
+         * per pass.
+         */
+        public Builder mergeFanIn(int mergeFanIn) {
+            if (mergeFanIn < 2) throw new IllegalArgumentException("mergeFanIn must be at least 2: " + mergeFanIn);
+            this.mergeFanIn = mergeFanIn;
+            return this;
+        }
+
+        public Builder tempDirectory(Path tempDirectory) {
+            this.tempDirectory = tempDirectory;
+            return this;
+        }
+
+        public Sorter build() {
+            return new Sorter(this);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.saljuama.javafunctional.highorderfunctions.streaming;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Records of a file as a lazy vavr {@link Iterator} or {@link Stream}, so the same {@code map}, {@code filter} and
+ * {@code fold} of the in-memory collections run over files much larger than the heap.
+ * <p>
+ * The file is memory mapped in regions of at most {@code Integer.MAX_VALUE} bytes (the limit of a
+ * {@link MappedByteBuffer}), and every record is a read-only {@link ByteBuffer} slice of its region: bytes are not
+ * copied to the heap, the operating system pages them in as they are read. A region is unmapped when it, and all the
+ * records sliced from it, are garbage collected, so keep records only as long as needed, and convert them
+ * ({@code StandardCharsets.UTF_8.decode(record)}, {@code record.getLong(0)}, ...) before collecting them.
+ */
+public final class MappedFileSource {
+
+    private final Path file;
+    private final long fileSize;
+    private final int maxRegionSize;
+
+    private MappedFileSource(Path file, int maxRegionSize) {
+        if (maxRegionSize <= 0) throw new IllegalArgumentException("maxRegionSize must be positive: " + maxRegionSize);
+        this.file = file;
+        this.maxRegionSize = maxRegionSize;
+        try {
+            this.fileSize = Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static MappedFileSource of(Path file) {
+        return new MappedFileSource(file, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Maps the file in regions of at most {@code maxRegionSize} bytes, which bounds the address space in use when
+     * iterating. Records have to fit in one region.
+     */
+    public static MappedFileSource of(Path file, int maxRegionSize) {
+        return new MappedFileSource(file, maxRegionSize);
+    }
+
+    public long size() {
+        return fileSize;
+    }
+
+    /**
+     * Records separated by {@code '\n'}, without the separator.
+     */
+    public Iterator<ByteBuffer> lines() {
+        return records((byte) '\n');
+    }
+
+    /**
+     * Records separated by the delimiter, without it. A delimiter at the end of the file does not start an empty
+     * record.
+     */
+    public Iterator<ByteBuffer> records(byte delimiter) {
+        return Iterator.ofAll(new DelimitedRecords(delimiter));
+    }
+
+    /**
+     * Records of exactly {@code recordSize} bytes each, the file size must be a multiple of it.
+     */
+    public Iterator<ByteBuffer> fixedLengthRecords(int recordSize) {
+        if (recordSize <= 0 || recordSize > maxRegionSize) {
+            throw new IllegalArgumentException("recordSize must be between 1 and " + maxRegionSize + ": " + recordSize);
+        }
+        if (fileSize % recordSize != 0) {
+            throw new IllegalArgumentException("file size " + fileSize + " is not a multiple of the record size " + recordSize);
+        }
+        return Iterator.ofAll(new FixedLengthRecords(recordSize));
+    }
+
+    /**
+     * {@link #lines()} as a lazy {@link Stream}. A stream memoizes the records it has evaluated while its head is
+     * referenced, prefer the iterator to fold over big files.
+     */
+    public Stream<ByteBuffer> linesStream() {
+        return Stream.ofAll(lines());
+    }
+
+    private MappedByteBuffer map(long position, long size) {
+        // the mapping stays valid after the channel is closed, so no file handle is kept open by lazy iterators
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer region, int from, int to) {
+        ByteBuffer record = region.duplicate();
+        record.position(from);
+        record.limit(to);
+        return record.slice().asReadOnlyBuffer();
+    }
+
+    private final class DelimitedRecords implements java.util.Iterator<ByteBuffer> {
+        private final byte delimiter;
+        private MappedByteBuffer region;
+        private long regionStart;
+        private long nextRecordStart;
+        private ByteBuffer next;
+
+        DelimitedRecords(byte delimiter) {
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && nextRecordStart < fileSize) next = readRecord();
+            return next != null;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) throw new NoSuchElementException("no more records in " + file);
+            ByteBuffer record = next;
+            next = null;
+            return record;
+        }
+
+        private ByteBuffer readRecord() {
+            while (true) {
+                if (region == null) {
+                    regionStart = nextRecordStart;
+                    region = map(regionStart, Math.min(maxRegionSize, fileSize - regionStart));
+                }
+                int from = (int) (nextRecordStart - regionStart);
+                int limit = region.limit();
+                for (int i = from; i < limit; i++) {
+                    if (region.get(i) == delimiter) {
+                        nextRecordStart = regionStart + i + 1;
+                        return slice(region, from, i);
+                    }
+                }
+                if (regionStart + limit == fileSize) {
+                    nextRecordStart = fileSize;
+                    return slice(region, from, limit);
+                }
+                if (from == 0) {
+                    throw new IllegalStateException("record at offset " + nextRecordStart + " does not fit in a region of " + maxRegionSize + " bytes");
+                }
+                region = null; // the record crosses the end of the region, map the next one starting at the record
+            }
+        }
+    }
+
+    private final class FixedLengthRecords implements java.util.Iterator<ByteBuffer> {
+        private final int recordSize;
+        private final int regionSize;
+        private MappedByteBuffer region;
+        private long regionStart;
+        private int position;
+
+        FixedLengthRecords(int recordSize) {
+            this.recordSize = recordSize;
+            this.regionSize = maxRegionSize / recordSize * recordSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return regionStart + position < fileSize;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) throw new NoSuchElementException("no more records in " + file);
+            if (region == null || position == region.limit()) {
+                regionStart += position;
+                position = 0;
+                region = map(regionStart, Math.min(regionSize, fileSize - regionStart));
+            }
+            ByteBuffer record = slice(region, position, position + recordSize);
+            position += recordSize;
+            return record;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.saljuama.javafunctional.highorderfunctions.streaming;
+
+import java.util.Objects;
+
+/**
+ * Aggregated value of the elements in {@code [start, end)}, positions being the index of the elements for count
+ * windows and their timestamp in milliseconds for time windows. Partial windows are emitted while the window is still
+ * open, with the value of the elements seen so far.
+ */
+public final class Window<A> {
+
+    private final long start;
+    private final long end;
+    private final long count;
+    private final A value;
+    private final boolean complete;
+
+    Window(long start, long end, long count, A value, boolean complete) {
+        this.start = start;
+        this.end = end;
+        this.count = count;
+        this.value = value;
+        this.complete = complete;
+    }
+
+    public long start() {
+        return start;
+    }
+
+    public long end() {
+        return end;
+    }
+
+    /**
+     * Number of elements aggregated, windows without elements are never emitted.
+     */
+    public long count() {
+        return count;
+    }
+
+    public A value() {
+        return value;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Window)) return false;
+        Window<?> that = (Window<?>) other;
+        return start == that.start && end == that.end && count == that.count && complete == that.complete && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, count, value, complete);
+    }
+
+    @Override
+    public String toString() {
+        return (complete ? "Window" : "PartialWindow") + "([" + start + ", " + end + "), count=" + count + ", value=" + value + ")";
+    }
+}
@@ -0,0 +1,233 @@
+package com.saljuama.javafunctional.highorderfunctions.streaming;
+
+import com.saljuama.javafunctional.highorderfunctions.parallel.Monoid;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Stream;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Windowed aggregation over unbounded vavr {@link Iterator}s and {@link Stream}s, the bounded memory version of
+ * {@code scan}: instead of keeping every intermediate accumulator, the elements are folded with a {@link Monoid} into
+ * tumbling or sliding windows, by number of elements or by time, which are emitted lazily as they close.
+ * <p>
+ * Sliding windows are aggregated in panes of {@code gcd(size, slide)} positions, so every element is combined once
+ * into its pane and a window is the combination of its panes when it closes. The memory in use is one accumulator per
+ * pane of a window ({@code size / gcd(size, slide)}), whatever the number of elements per window or in the input.
+ * Count windows start at the first element, and the input ends with the first window reaching its last element, like
+ * vavr's {@code sliding(size, step)} and {@code grouped(size)}. Time windows are aligned to multiples of the slide
+ * since the epoch, every window with elements is emitted, and the timestamps must not decrease.
+ */
+public final class Windows<T> {
+
+    static final int MAX_PANES_PER_WINDOW = 1 << 16;
+
+    private final long size;
+    private final long slide;
+    private final long paneSize;
+    private final int panesPerWindow;
+    private final long panesPerSlide;
+    private final ToLongFunction<? super T> position;
+
+    private Windows(long size, long slide, ToLongFunction<? super T> position) {
+        if (size <= 0) throw new IllegalArgumentException("size must be positive: " + size);
+        if (slide <= 0) throw new IllegalArgumentException("slide must be positive: " + slide);
+        this.paneSize = gcd(size, slide);
+        if (size / paneSize > MAX_PANES_PER_WINDOW) {
+            throw new IllegalArgumentException("size / gcd(size, slide) must be at most " + MAX_PANES_PER_WINDOW + ": " + size / paneSize);
+        }
+        this.size = size;
+        this.slide = slide;
+        this.panesPerWindow = (int) (size / paneSize);
+        this.panesPerSlide = slide / paneSize;
+        this.position = position;
+    }
+
+    /**
+     * Consecutive windows of {@code size} elements.
+     */
+    public static <T> Windows<T> tumbling(int size) {
+        return new Windows<>(size, size, null);
+    }
+
+    /**
+     * Windows of {@code size} elements, starting every {@code slide} elements.
+     */
+    public static <T> Windows<T> sliding(int size, int slide) {
+        return new Windows<>(size, slide, null);
+    }
+
+    public static <T> Windows<T> tumbling(Duration size, ToLongFunction<? super T> timestampMillis) {
+        return new Windows<>(size.toMillis(), size.toMillis(), timestampMillis);
+    }
+
+    public static <T> Windows<T> sliding(Duration size, Duration slide, ToLongFunction<? super T> timestampMillis) {
+        return new Windows<>(size.toMillis(), slide.toMillis(), timestampMillis);
+    }
+
+    /**
+     * One complete window after another, as they close.
+     */
+    public <A> Iterator<Window<A>> aggregate(java.util.Iterator<? extends T> elements, Function<? super T, ? extends A> mapper, Monoid<A> monoid) {
+        return new WindowIterator<>(elements, mapper, monoid, false);
+    }
+
+    /**
+     * Same as {@link #aggregate(java.util.Iterator, Function, Monoid)}, reading the input stream lazily as the result is
+     * traversed.
+     */
+    public <A> Stream<Window<A>> aggregate(Stream<? extends T> elements, Function<? super T, ? extends A> mapper, Monoid<A> monoid) {
+        return Stream.ofAll(aggregate(elements.iterator(), mapper, monoid));
+    }
+
+    /**
+     * The running totals of the windows: after every element, the windows it closed, if any, followed by a partial
+     * window with the value so far of the oldest open window containing it.
+     */
+    public <A> Iterator<Window<A>> scan(java.util.Iterator<? extends T> elements, Function<? super T, ? extends A> mapper, Monoid<A> monoid) {
+        return new WindowIterator<>(elements, mapper, monoid, true);
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private final class WindowIterator<A> implements Iterator<Window<A>> {
+        private final java.util.Iterator<? extends T> elements;
+        private final Function<? super T, ? extends A> mapper;
+        private final Monoid<A> monoid;
+        private final boolean partials;
+
+        // ring of the panes of the open windows, pane p lives in slot floorMod(p, panesPerWindow)
+        private final Object[] paneValues = new Object[panesPerWindow];
+        private final long[] paneCounts = new long[panesPerWindow];
+        private final long[] panes = new long[panesPerWindow];
+
+        private final ArrayDeque<Window<A>> ready = new ArrayDeque<>();
+        private long index;
+        private long lastPosition = Long.MIN_VALUE;
+        private long lastPane;
+        private long nextWindow;
+        private boolean started;
+        private boolean flushed;
+
+        WindowIterator(java.util.Iterator<? extends T> elements, Function<? super T, ? extends A> mapper, Monoid<A> monoid, boolean partials) {
+            this.elements = elements;
+            this.mapper = mapper;
+            this.monoid = monoid;
+            this.partials = partials;
+            Arrays.fill(panes, Long.MIN_VALUE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (ready.isEmpty() && !flushed) {
+                if (elements.hasNext()) {
+                    add(elements.next());
+                } else {
+                    flush();
+                }
+            }
+            return !ready.isEmpty();
+        }
+
+        @Override
+        public Window<A> next() {
+            if (!hasNext()) throw new NoSuchElementException("no more windows");
+            return ready.poll();
+        }
+
+        private void add(T element) {
+            long elementPosition = position == null ? index++ : position.applyAsLong(element);
+            if (elementPosition < lastPosition) {
+                throw new IllegalStateException("timestamps must not decrease, " + elementPosition + " came after " + lastPosition);
+            }
+            lastPosition = elementPosition;
+            long pane = Math.floorDiv(elementPosition, paneSize);
+            if (!started) {
+                nextWindow = position == null ? 0 : ceilDiv(pane - panesPerWindow + 1, panesPerSlide);
+                started = true;
+            } else if (pane > lastPane) {
+                closeWindowsBefore(pane);
+            }
+            addToPane((int) Math.floorMod(pane, (long) panesPerWindow), pane, element);
+            if (partials) emitPartial(pane);
+            lastPane = pane;
+        }
+
+        private void addToPane(int slot, long pane, T element) {
+            if (panes[slot] != pane) {
+                panes[slot] = pane;
+                paneCounts[slot] = 0;
+                paneValues[slot] = monoid.empty();
+            }
+            paneValues[slot] = monoid.combine(cast(paneValues[slot]), mapper.apply(element));
+            paneCounts[slot]++;
+        }
+
+        /**
+         * Emits the windows ending before {@code pane}, before its slot is reused, skipping the windows in a gap of the
+         * input, which have no elements.
+         */
+        private void closeWindowsBefore(long pane) {
+            long lastClosed = Math.floorDiv(pane - panesPerWindow, panesPerSlide);
+            long lastWithElements = Math.min(lastClosed, Math.floorDiv(lastPane, panesPerSlide));
+            for (long window = nextWindow; window <= lastWithElements; window++) {
+                Window<A> result = window(window, true);
+                if (result != null) ready.add(result);
+            }
+            nextWindow = Math.max(nextWindow, lastClosed + 1);
+        }
+
+        private void emitPartial(long pane) {
+            long window = Math.max(nextWindow, ceilDiv(pane - panesPerWindow + 1, panesPerSlide));
+            if (window * panesPerSlide > pane) return; // the element is in a gap between windows
+            Window<A> result = window(window, false);
+            if (result != null) ready.add(result);
+        }
+
+        private void flush() {
+            flushed = true;
+            if (!started) return;
+            long last = Math.floorDiv(lastPane, panesPerSlide);
+            if (position == null) {
+                long firstReachingTheEnd = Math.max(nextWindow, ceilDiv(lastPane - panesPerWindow + 1, panesPerSlide));
+                last = Math.min(last, firstReachingTheEnd);
+            }
+            for (long window = nextWindow; window <= last; window++) {
+                Window<A> result = window(window, true);
+                if (result != null) ready.add(result);
+            }
+        }
+
+        private Window<A> window(long window, boolean complete) {
+            long firstPane = window * panesPerSlide;
+            A value = monoid.empty();
+            long count = 0;
+            for (long pane = firstPane; pane < firstPane + panesPerWindow; pane++) {
+                int slot = (int) Math.floorMod(pane, (long) panesPerWindow);
+                if (panes[slot] == pane) {
+                    value = monoid.combine(value, cast(paneValues[slot]));
+                    count += paneCounts[slot];
+                }
+            }
+            if (count == 0) return null;
+            long start = window * slide;
+            return new Window<>(start, start + size, count, value, complete);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A cast(Object value) {
+        return (A) value;
+    }
+}
@@ -0,0 +1,140 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Weight bounded cache backing {@link BoundedMemoizer}. All the operations are guarded by the cache monitor, the
+ * values are computed by the caller outside of it.
+ */
+final class BoundedCache<K, V> {
+
+    private static final class Entry<V> {
+        final V value;
+        final long weight;
+        final long writtenAt;
+        long frequency;
+
+        Entry(V value, long weight, long writtenAt) {
+            this.value = value;
+            this.weight = weight;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    private final EvictionPolicy policy;
+    private final long maximumWeight;
+    private final long expireAfterWriteNanos;
+    private final ToLongFunction<? super V> weigher;
+    private final LongSupplier ticker;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final TreeMap<Long, LinkedHashSet<K>> keysByFrequency = new TreeMap<>();
+
+    private long totalWeight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    BoundedCache(EvictionPolicy policy, long maximumWeight, long expireAfterWriteNanos,
+                 ToLongFunction<? super V> weigher, LongSupplier ticker) {
+        this.policy = policy;
+        this.maximumWeight = maximumWeight;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.weigher = weigher;
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, policy == EvictionPolicy.LRU);
+    }
+
+    /**
+     * Returns the cached value, or {@code null} when it is not present or it has expired.
+     */
+    synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && isExpired(entry)) {
+            remove(key, entry);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        if (policy == EvictionPolicy.LFU) {
+            touch(key, entry);
+        }
+        return entry.value;
+    }
+
+    synchronized void put(K key, V value) {
+        Entry<V> previous = entries.get(key);
+        if (previous != null) {
+            remove(key, previous);
+        }
+        Entry<V> entry = new Entry<>(value, weigher.applyAsLong(value), ticker.getAsLong());
+        entries.put(key, entry);
+        totalWeight += entry.weight;
+        if (policy == EvictionPolicy.LFU) {
+            touch(key, entry);
+        }
+        while (totalWeight > maximumWeight && !entries.isEmpty()) {
+            K victim = victim();
+            remove(victim, entries.get(victim));
+            evictions++;
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long weight() {
+        return totalWeight;
+    }
+
+    synchronized MemoizationStats stats() {
+        return new MemoizationStats(hits, misses, evictions);
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return expireAfterWriteNanos > 0 && ticker.getAsLong() - entry.writtenAt >= expireAfterWriteNanos;
+    }
+
+    private K victim() {
+        if (policy == EvictionPolicy.LFU) {
+            return keysByFrequency.firstEntry().getValue().iterator().next();
+        }
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        return eldest.next().getKey();
+    }
+
+    private void touch(K key, Entry<V> entry) {
+        if (entry.frequency > 0) {
+            unlinkFrequency(key, entry.frequency);
+        }
+        entry.frequency++;
+        keysByFrequency.computeIfAbsent(entry.frequency, frequency -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void remove(K key, Entry<V> entry) {
+        entries.remove(key);
+        totalWeight -= entry.weight;
+        if (policy == EvictionPolicy.LFU) {
+            unlinkFrequency(key, entry.frequency);
+        }
+    }
+
+    private void unlinkFrequency(K key, long frequency) {
+        LinkedHashSet<K> keys = keysByFrequency.get(frequency);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            keysByFrequency.remove(frequency);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Function3;
+import io.vavr.Function4;
+import io.vavr.Function5;
+import io.vavr.Function6;
+import io.vavr.Function7;
+import io.vavr.Function8;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Memoizes vavr functions of arity 1 to 8 in a cache bounded by weight, unlike {@code FunctionN.memoized()} which keeps
+ * every result forever.
+ * <p>
+ * All the functions memoized with the same instance share its cache, its maximum weight and its counters. Results are
+ * computed outside of the cache lock, so concurrent callers asking for the same missing key may compute it more than
+ * once, see {@link ConcurrentMemoizer} for single flight computation. {@code null} results are not cached.
+ */
+public final class BoundedMemoizer {
+
+    private final BoundedCache<MemoKey, Object> cache;
+
+    private BoundedMemoizer(Builder builder) {
+        this.cache = new BoundedCache<>(
+                builder.evictionPolicy,
+                builder.maximumWeight,
+                builder.expireAfterWrite.toNanos(),
+                builder.weigher,
+                builder.ticker
+        );
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public <T1, R> Function1<T1, R> memoize(Function1<T1, R> function) {
+        return (t1) -> lookup(new MemoKey(function, t1), () -> function.apply(t1));
+    }
+
+    public <T1, T2, R> Function2<T1, T2, R> memoize(Function2<T1, T2, R> function) {
+        return (t1, t2) -> lookup(new MemoKey(function, t1, t2), () -> function.apply(t1, t2));
+    }
+
+    public <T1, T2, T3, R> Function3<T1, T2, T3, R> memoize(Function3<T1, T2, T3, R> function) {
+        return (t1, t2, t3) -> lookup(new MemoKey(function, t1, t2, t3), () -> function.apply(t1, t2, t3));
+    }
+
+    public <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> memoize(Function4<T1, T2, T3, T4, R> function) {
+        return (t1, t2, t3, t4) -> lookup(new MemoKey(function, t1, t2, t3, t4), () -> function.apply(t1, t2, t3, t4));
+    }
+
+    public <T1, T2, T3, T4, T5, R> Function5<T1, T2, T3, T4, T5, R> memoize(Function5<T1, T2, T3, T4, T5, R> function) {
+        return (t1, t2, t3, t4, t5) -> lookup(new MemoKey(function, t1, t2, t3, t4, t5), () -> function.apply(t1, t2, t3, t4, t5));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> Function6<T1, T2, T3, T4, T5, T6, R> memoize(Function6<T1, T2, T3, T4, T5, T6, R> function) {
+        return (t1, t2, t3, t4, t5, t6) -> lookup(new MemoKey(function, t1, t2, t3, t4, t5, t6), () -> function.apply(t1, t2, t3, t4, t5, t6));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> memoize(Function7<T1, T2, T3, T4, T5, T6, T7, R> function) {
+        return (t1, t2, t3, t4, t5, t6, t7) -> lookup(new MemoKey(function, t1, t2, t3, t4, t5, t6, t7), () -> function.apply(t1, t2, t3, t4, t5, t6, t7));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> memoize(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function) {
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> lookup(new MemoKey(function, t1, t2, t3, t4, t5, t6, t7, t8), () -> function.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+
+    public MemoizationStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Number of results currently cached.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Sum of the weights of the results currently cached, never above the configured maximum weight.
+     */
+    public long weight() {
+        return cache.weight();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R lookup(MemoKey key, Supplier<R> computation) {
+        Object cached = cache.get(key);
+        if (cached != null) {
+            return (R) cached;
+        }
+        R result = computation.get();
+        if (result != null) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    public static final class Builder {
+
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+        private long maximumWeight = 10_000;
+        private Duration expireAfterWrite = Duration.ZERO;
+        private ToLongFunction<Object> weigher = result -> 1;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        public Builder evictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         * Maximum sum of the weights of the cached results, with the default weigher it is the maximum number of results.
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight <= 0) throw new IllegalArgumentException("maximumWeight must be positive: " + maximumWeight);
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Results older than the given duration are discarded and computed again, {@link Duration#ZERO} never expires.
+         */
+        public Builder expireAfterWrite(Duration expireAfterWrite) {
+            if (expireAfterWrite.isNegative()) throw new IllegalArgumentException("expireAfterWrite can't be negative: " + expireAfterWrite);
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Function giving the weight of each result, every result weights 1 by default.
+         */
+        public Builder weigher(ToLongFunction<Object> weigher) {
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Source of nanoseconds used for expiration, {@link System#nanoTime()} by default.
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public BoundedMemoizer build() {
+            return new BoundedMemoizer(this);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function0;
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Function3;
+import io.vavr.Function4;
+import io.vavr.Function5;
+import io.vavr.Function6;
+import io.vavr.Function7;
+import io.vavr.Function8;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes vavr functions of arity 0 to 8 guaranteeing that each result is computed exactly once, even when many
+ * threads ask for the same missing result at the same time.
+ * <p>
+ * The first caller of a key publishes a future in a {@link ConcurrentHashMap} and computes the result outside of any
+ * lock, the rest of the callers of that key wait for the future, while callers of other keys are not blocked at all.
+ * When the computation throws, the exception is propagated to every waiting caller and nothing is cached, so the next
+ * call computes it again. The cache is unbounded, like {@code FunctionN.memoized()}.
+ */
+public final class ConcurrentMemoizer {
+
+    private final ConcurrentMap<MemoKey, CompletableFuture<Object>> results = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public <R> Function0<R> memoize(Function0<R> function) {
+        return () -> lookup(new MemoKey(function), function);
+    }
+
+    public <T1, R> Function1<T1, R> memoize(Function1<T1, R> function) {
+        return (t1) -> lookup(new MemoKey(function, t1), () -> function.apply(t1));
+    }
+
+    public <T1, T2, R> Function2<T1, T2, R> memoize(Function2<T1, T2, R> function) {
+        return (t1, t2) -> lookup(new MemoKey(function, t1, t2), () -> function.apply(t1, t2));
+    }
+
+    public <T1, T2, T3, R> Function3<T1, T2, T3, R> memoize(Function3<T1, T2, T3, R> function) {
+        return (t1, t2, t3) -> lookup(new MemoKey(function, t1, t2, t3), () -> function.apply(t1, t2, t3));
+    }
+
+    public <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> memoize(Function4<T1, T2, T3, T4, R> function) {
+        return (t1, t2, t3, t4) -> lookup(new MemoKey(function, t1, t2, t3, t4), () -> function.apply(t1, t2, t3, t4));
+    }
+
+    public <T1, T2, T3, T4, T5, R> Function5<T1, T2, T3, T4, T5, R> memoize(Function5<T1, T2, T3, T4, T5, R> function) {
+        return (t1, t2, t3, t4, t5) -> lookup(new MemoKey(function, t1, t2, t3, t4, t5), () -> function.apply(t1, t2, t3, t4, t5));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> Function6<T1, T2, T3, T4, T5, T6, R> memoize(Function6<T1, T2, T3, T4, T5, T6, R> function) {
+        return (t1, t2, t3, t4, t5, t6) -> lookup(new MemoKey(function, t1, t2, t3, t4, t5, t6), () -> function.apply(t1, t2, t3, t4, t5, t6));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> memoize(Function7<T1, T2, T3, T4, T5, T6, T7, R> function) {
+        return (t1, t2, t3, t4, t5, t6, t7) -> lookup(new MemoKey(function, t1, t2, t3, t4, t5, t6, t7), () -> function.apply(t1, t2, t3, t4, t5, t6, t7));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> memoize(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function) {
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> lookup(new MemoKey(function, t1, t2, t3, t4, t5, t6, t7, t8), () -> function.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+
+    public MemoizationStats stats() {
+        return new MemoizationStats(hits.sum(), misses.sum(), 0);
+    }
+
+    /**
+     * Number of results currently cached, including the ones still being computed.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R lookup(MemoKey key, Supplier<R> computation) {
+        CompletableFuture<Object> result = results.get(key);
+        if (result == null) {
+            CompletableFuture<Object> computing = new CompletableFuture<>();
+            result = results.putIfAbsent(key, computing);
+            if (result == null) {
+                misses.increment();
+                return (R) compute(key, computing, computation);
+            }
+        }
+        hits.increment();
+        try {
+            return (R) result.join();
+        } catch (CompletionException e) {
+            throw ConcurrentMemoizer.<RuntimeException>sneakyThrow(e.getCause());
+        }
+    }
+
+    private Object compute(MemoKey key, CompletableFuture<Object> computing, Supplier<?> computation) {
+        try {
+            Object value = computation.get();
+            computing.complete(value);
+            return value;
+        } catch (Throwable e) {
+            results.remove(key, computing);
+            computing.completeExceptionally(e);
+            throw ConcurrentMemoizer.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    // rethrows the original exception of the computation, checked ones included, instead of wrapping it
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneakyThrow(Throwable throwable) throws T {
+        throw (T) throwable;
+    }
+}
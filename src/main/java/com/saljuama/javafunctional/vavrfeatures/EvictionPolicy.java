@@ -0,0 +1,17 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+/**
+ * Decides which cached result is discarded first when a {@link BoundedMemoizer} goes over its maximum weight.
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Least Recently Used: discards the result that has not been read for the longest time.
+     */
+    LRU,
+
+    /**
+     * Least Frequently Used: discards the result that has been read the fewest times, the oldest one on ties.
+     */
+    LFU
+}
@@ -0,0 +1,33 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import java.util.Arrays;
+
+/**
+ * Cache key made of the memoized function and the arguments it was applied to, so one cache can hold the results of
+ * several functions of any arity.
+ */
+final class MemoKey {
+
+    private final Object function;
+    private final Object[] arguments;
+    private final int hash;
+
+    MemoKey(Object function, Object... arguments) {
+        this.function = function;
+        this.arguments = arguments;
+        this.hash = 31 * System.identityHashCode(function) + Arrays.hashCode(arguments);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof MemoKey)) return false;
+        MemoKey that = (MemoKey) other;
+        return function == that.function && Arrays.equals(arguments, that.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,42 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+/**
+ * Snapshot of the counters of a memoizer at a given point in time.
+ */
+public final class MemoizationStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    MemoizationStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        return requests() == 0 ? 1.0 : (double) hits / requests();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizationStats(hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ")";
+    }
+}
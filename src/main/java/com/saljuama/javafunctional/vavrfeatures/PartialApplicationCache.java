@@ -0,0 +1,180 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Function3;
+import io.vavr.Function4;
+import io.vavr.Function5;
+import io.vavr.Function6;
+import io.vavr.Function7;
+import io.vavr.Function8;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+
+/**
+ * Cache of partially applied functions: {@code cache.partial(f, a)} returns the same function as {@code f.apply(a)},
+ * but the first time only, later calls with the same function and an equal argument return that same instance, so
+ * binding the same configuration arguments over and over does not allocate a new closure chain each time.
+ * <p>
+ * Binding several arguments binds them one at a time, caching every intermediate function. Lookups do not allocate
+ * either. Both functions and arguments are compared with {@code equals} and {@code hashCode}, which for lambdas and
+ * vavr functions means by identity.
+ * <p>
+ * The cache is never evicted and holds strong references to every function, argument and partially applied function
+ * until {@link #clear()}. It is meant for functions created once, like constants or fields, and the small and stable set
+ * of arguments of configuration-like values, not for arbitrary request data: use a {@link BoundedMemoizer} for that.
+ * Beware of capturing lambdas, which are a new instance every time the lambda expression is evaluated: caching their
+ * partial applications adds entries that are never hit again and keeps everything they capture reachable.
+ */
+@SuppressWarnings("unchecked")
+public final class PartialApplicationCache {
+
+    private static final BinaryOperator<Object> BIND_FIRST_OF_2 = (function, argument) -> ((Function2<Object, Object, Object>) function).apply(argument);
+    private static final BinaryOperator<Object> BIND_FIRST_OF_3 = (function, argument) -> ((Function3<Object, Object, Object, Object>) function).apply(argument);
+    private static final BinaryOperator<Object> BIND_FIRST_OF_4 = (function, argument) -> ((Function4<Object, Object, Object, Object, Object>) function).apply(argument);
+    private static final BinaryOperator<Object> BIND_FIRST_OF_5 = (function, argument) -> ((Function5<Object, Object, Object, Object, Object, Object>) function).apply(argument);
+    private static final BinaryOperator<Object> BIND_FIRST_OF_6 = (function, argument) -> ((Function6<Object, Object, Object, Object, Object, Object, Object>) function).apply(argument);
+    private static final BinaryOperator<Object> BIND_FIRST_OF_7 = (function, argument) -> ((Function7<Object, Object, Object, Object, Object, Object, Object, Object>) function).apply(argument);
+    private static final BinaryOperator<Object> BIND_FIRST_OF_8 = (function, argument) -> ((Function8<Object, Object, Object, Object, Object, Object, Object, Object, Object>) function).apply(argument);
+
+    private static final Object NULL = new Object();
+
+    private final ConcurrentHashMap<Object, ConcurrentHashMap<Object, Object>> partials = new ConcurrentHashMap<>();
+
+    public <T1, T2, R> Function1<T2, R> partial(Function2<T1, T2, R> function, T1 t1) {
+        return cast(bind(function, t1, BIND_FIRST_OF_2));
+    }
+
+    public <T1, T2, T3, R> Function2<T2, T3, R> partial(Function3<T1, T2, T3, R> function, T1 t1) {
+        return cast(bind(function, t1, BIND_FIRST_OF_3));
+    }
+
+    public <T1, T2, T3, R> Function1<T3, R> partial(Function3<T1, T2, T3, R> function, T1 t1, T2 t2) {
+        return partial(partial(function, t1), t2);
+    }
+
+    public <T1, T2, T3, T4, R> Function3<T2, T3, T4, R> partial(Function4<T1, T2, T3, T4, R> function, T1 t1) {
+        return cast(bind(function, t1, BIND_FIRST_OF_4));
+    }
+
+    public <T1, T2, T3, T4, R> Function2<T3, T4, R> partial(Function4<T1, T2, T3, T4, R> function, T1 t1, T2 t2) {
+        return partial(partial(function, t1), t2);
+    }
+
+    public <T1, T2, T3, T4, R> Function1<T4, R> partial(Function4<T1, T2, T3, T4, R> function, T1 t1, T2 t2, T3 t3) {
+        return partial(partial(function, t1), t2, t3);
+    }
+
+    public <T1, T2, T3, T4, T5, R> Function4<T2, T3, T4, T5, R> partial(Function5<T1, T2, T3, T4, T5, R> function, T1 t1) {
+        return cast(bind(function, t1, BIND_FIRST_OF_5));
+    }
+
+    public <T1, T2, T3, T4, T5, R> Function3<T3, T4, T5, R> partial(Function5<T1, T2, T3, T4, T5, R> function, T1 t1, T2 t2) {
+        return partial(partial(function, t1), t2);
+    }
+
+    public <T1, T2, T3, T4, T5, R> Function2<T4, T5, R> partial(Function5<T1, T2, T3, T4, T5, R> function, T1 t1, T2 t2, T3 t3) {
+        return partial(partial(function, t1), t2, t3);
+    }
+
+    public <T1, T2, T3, T4, T5, R> Function1<T5, R> partial(Function5<T1, T2, T3, T4, T5, R> function, T1 t1, T2 t2, T3 t3, T4 t4) {
+        return partial(partial(function, t1), t2, t3, t4);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> Function5<T2, T3, T4, T5, T6, R> partial(Function6<T1, T2, T3, T4, T5, T6, R> function, T1 t1) {
+        return cast(bind(function, t1, BIND_FIRST_OF_6));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> Function4<T3, T4, T5, T6, R> partial(Function6<T1, T2, T3, T4, T5, T6, R> function, T1 t1, T2 t2) {
+        return partial(partial(function, t1), t2);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> Function3<T4, T5, T6, R> partial(Function6<T1, T2, T3, T4, T5, T6, R> function, T1 t1, T2 t2, T3 t3) {
+        return partial(partial(function, t1), t2, t3);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> Function2<T5, T6, R> partial(Function6<T1, T2, T3, T4, T5, T6, R> function, T1 t1, T2 t2, T3 t3, T4 t4) {
+        return partial(partial(function, t1), t2, t3, t4);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, R> Function1<T6, R> partial(Function6<T1, T2, T3, T4, T5, T6, R> function, T1 t1, T2 t2, T3 t3, T4 t4, T5 t5) {
+        return partial(partial(function, t1), t2, t3, t4, t5);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function6<T2, T3, T4, T5, T6, T7, R> partial(Function7<T1, T2, T3, T4, T5, T6, T7, R> function, T1 t1) {
+        return cast(bind(function, t1, BIND_FIRST_OF_7));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function5<T3, T4, T5, T6, T7, R> partial(Function7<T1, T2, T3, T4, T5, T6, T7, R> function, T1 t1, T2 t2) {
+        return partial(partial(function, t1), t2);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function4<T4, T5, T6, T7, R> partial(Function7<T1, T2, T3, T4, T5, T6, T7, R> function, T1 t1, T2 t2, T3 t3) {
+        return partial(partial(function, t1), t2, t3);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function3<T5, T6, T7, R> partial(Function7<T1, T2, T3, T4, T5, T6, T7, R> function, T1 t1, T2 t2, T3 t3, T4 t4) {
+        return partial(partial(function, t1), t2, t3, t4);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function2<T6, T7, R> partial(Function7<T1, T2, T3, T4, T5, T6, T7, R> function, T1 t1, T2 t2, T3 t3, T4 t4, T5 t5) {
+        return partial(partial(function, t1), t2, t3, t4, t5);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, R> Function1<T7, R> partial(Function7<T1, T2, T3, T4, T5, T6, T7, R> function, T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6) {
+        return partial(partial(function, t1), t2, t3, t4, t5, t6);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function7<T2, T3, T4, T5, T6, T7, T8, R> partial(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function, T1 t1) {
+        return cast(bind(function, t1, BIND_FIRST_OF_8));
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function6<T3, T4, T5, T6, T7, T8, R> partial(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function, T1 t1, T2 t2) {
+        return partial(partial(function, t1), t2);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function5<T4, T5, T6, T7, T8, R> partial(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function, T1 t1, T2 t2, T3 t3) {
+        return partial(partial(function, t1), t2, t3);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function4<T5, T6, T7, T8, R> partial(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function, T1 t1, T2 t2, T3 t3, T4 t4) {
+        return partial(partial(function, t1), t2, t3, t4);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function3<T6, T7, T8, R> partial(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function, T1 t1, T2 t2, T3 t3, T4 t4, T5 t5) {
+        return partial(partial(function, t1), t2, t3, t4, t5);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function2<T7, T8, R> partial(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function, T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6) {
+        return partial(partial(function, t1), t2, t3, t4, t5, t6);
+    }
+
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> Function1<T8, R> partial(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function, T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7) {
+        return partial(partial(function, t1), t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * Number of cached partially applied functions.
+     */
+    public int size() {
+        return partials.values().stream().mapToInt(ConcurrentHashMap::size).sum();
+    }
+
+    public void clear() {
+        partials.clear();
+    }
+
+    private Object bind(Object function, Object argument, BinaryOperator<Object> binder) {
+        ConcurrentHashMap<Object, Object> byArgument = partials.get(function);
+        if (byArgument == null) byArgument = partials.computeIfAbsent(function, key -> new ConcurrentHashMap<>());
+        Object key = argument == null ? NULL : argument;
+        Object partial = byArgument.get(key);
+        if (partial == null) partial = byArgument.computeIfAbsent(key, newKey -> binder.apply(function, argument));
+        return partial;
+    }
+
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
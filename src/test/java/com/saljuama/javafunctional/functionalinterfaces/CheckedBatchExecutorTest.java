@@ -0,0 +1,174 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.CheckedFunction1;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CheckedBatchExecutorTest {
+
+    private final List<Integer> numbers = List.range(0, 100);
+
+    private final CheckedFunction1<Integer, String> failOnMultiplesOf10 = x -> {
+        if (x % 10 == 0) throw new IOException("can't read " + x);
+        return "#" + x;
+    };
+
+    private final CheckedBatchExecutor executor = CheckedBatchExecutor.builder().threads(4).batchSize(8).build();
+
+    @After
+    public void closeExecutor() {
+        executor.close();
+    }
+
+    @Test
+    public void every_element_has_its_own_outcome_in_the_order_of_the_inputs() {
+
+        Seq<Try<String>> outcomes = executor.map(numbers, failOnMultiplesOf10);
+
+        assertEquals(numbers.map(x -> x % 10 != 0), outcomes.map(Try::isSuccess));
+        assertEquals(numbers.filter(x -> x % 10 != 0).map(x -> "#" + x), outcomes.filter(Try::isSuccess).map(Try::get));
+        assertEquals("can't read 30", outcomes.get(30).getCause().getMessage());
+    }
+
+    @Test
+    public void outcomes_can_be_collected_as_either() {
+
+        Seq<Either<Throwable, String>> outcomes = executor.mapToEither(List.of(9, 10, 11), failOnMultiplesOf10);
+
+        assertEquals(Either.right("#9"), outcomes.get(0));
+        assertTrue(outcomes.get(1).getLeft() instanceof IOException);
+        assertEquals(Either.right("#11"), outcomes.get(2));
+    }
+
+    @Test
+    public void consumers_run_once_per_element() {
+
+        ConcurrentLinkedQueue<Integer> consumed = new ConcurrentLinkedQueue<>();
+
+        Seq<Try<Void>> outcomes = executor.forEach(numbers, consumed::add);
+
+        assertEquals(numbers, List.ofAll(consumed).sorted());
+        assertTrue(outcomes.forAll(Try::isSuccess));
+        assertEquals(List.empty(), executor.forEach(List.<Integer>empty(), consumed::add));
+    }
+
+    @Test
+    public void no_more_than_the_configured_threads_run_at_the_same_time() {
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        executor.forEach(numbers, x -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            running.decrementAndGet();
+        });
+
+        assertTrue(maxRunning.get() <= 4);
+    }
+
+    @Test
+    public void transient_failures_are_retried_until_the_attempts_run_out() {
+
+        ConcurrentHashMap<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        CheckedFunction1<Integer, Integer> succeedOnThirdAttempt = x -> {
+            if (attempts.computeIfAbsent(x, key -> new AtomicInteger()).incrementAndGet() < 3) throw new IOException("busy");
+            return x;
+        };
+        CheckedBatchExecutor retrying = CheckedBatchExecutor.builder()
+                .maxAttempts(3)
+                .backoff(Duration.ofMillis(1), 2, Duration.ofMillis(5))
+                .build();
+        CheckedBatchExecutor notRetryingEnough = CheckedBatchExecutor.builder()
+                .maxAttempts(2)
+                .backoff(Duration.ZERO, 1, Duration.ZERO)
+                .build();
+
+        assertEquals(List.of(1, 2, 3), retrying.map(List.of(1, 2, 3), succeedOnThirdAttempt).map(Try::get));
+        assertEquals(3, attempts.get(1).get());
+        assertTrue(notRetryingEnough.map(List.of(4), succeedOnThirdAttempt).head().isFailure());
+        assertEquals(2, attempts.get(4).get());
+
+        retrying.close();
+        notRetryingEnough.close();
+    }
+
+    @Test
+    public void only_the_selected_failures_are_retried() {
+
+        AtomicInteger attempts = new AtomicInteger();
+        CheckedBatchExecutor retryingIoErrors = CheckedBatchExecutor.builder()
+                .maxAttempts(5)
+                .backoff(Duration.ZERO, 1, Duration.ZERO)
+                .retryOn(exception -> exception instanceof IOException)
+                .build();
+
+        Try<Void> outcome = retryingIoErrors.forEach(List.of("x"), x -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException(x);
+        }).head();
+
+        assertTrue(outcome.getCause() instanceof IllegalArgumentException);
+        assertEquals(1, attempts.get());
+        retryingIoErrors.close();
+    }
+
+    @Test
+    public void an_interrupted_element_does_not_lose_the_outcomes_of_the_others() {
+
+        Seq<Try<String>> outcomes = executor.map(numbers, x -> {
+            if (x == 42) throw new InterruptedException();
+            return "#" + x;
+        });
+
+        assertEquals(numbers.filter(x -> x != 42).map(x -> "#" + x), outcomes.filter(Try::isSuccess).map(Try::get));
+        assertTrue(outcomes.get(42).getCause() instanceof CancellationException);
+        assertTrue(outcomes.get(42).getCause().getCause() instanceof InterruptedException);
+    }
+
+    @Test
+    public void interrupting_the_caller_cancels_the_elements_not_completed() throws InterruptedException {
+
+        AtomicReference<Seq<Try<Integer>>> outcomes = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            Thread.currentThread().interrupt();
+            outcomes.set(executor.map(numbers, x -> {
+                Thread.sleep(10);
+                return x;
+            }));
+        });
+        caller.start();
+        caller.join(5000);
+
+        assertEquals(100, outcomes.get().size());
+        assertTrue(outcomes.get().exists(Try::isFailure));
+        assertTrue(outcomes.get().filter(Try::isFailure).forAll(outcome -> outcome.getCause() instanceof CancellationException));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void backoff_must_not_be_negative() {
+
+        CheckedBatchExecutor.builder().backoff(Duration.ZERO, 2, Duration.ofMillis(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batches_must_not_be_empty() {
+
+        CheckedBatchExecutor.builder().batchSize(0);
+    }
+}
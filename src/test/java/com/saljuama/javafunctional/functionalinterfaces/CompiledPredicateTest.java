@@ -0,0 +1,125 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.collection.List;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import static com.saljuama.javafunctional.functionalinterfaces.Condition.allOf;
+import static com.saljuama.javafunctional.functionalinterfaces.Condition.anyOf;
+import static com.saljuama.javafunctional.functionalinterfaces.Condition.noneOf;
+import static com.saljuama.javafunctional.functionalinterfaces.Condition.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledPredicateTest {
+
+    @Test
+    public void compiled_predicates_give_the_same_results_as_vavr_composition_helpers() {
+
+        assertTrue(Condition.<String>noneOf(
+                Condition.of(input -> input.matches("[aeiouAEIOU]")),
+                Condition.of(input -> input.matches("[A-Z]")),
+                Condition.of(input -> input.matches("[a-z]"))
+        ).compile().test(""));
+
+        assertTrue(Condition.<String>allOf(
+                Condition.of(input -> input.contains(" ")),
+                Condition.of(input -> input.matches("[^uU]+")),
+                Condition.of(input -> input.length() > 10)
+        ).compile().test("Hello World"));
+
+        assertTrue(Condition.<Integer>anyOf(
+                Condition.of(input -> input % 2 == 0),
+                Condition.of(input -> input < 0),
+                Condition.of(input -> input == 50)
+        ).compile().test(10));
+
+        assertTrue(Condition.<Integer>allOf().compile().test(1));
+        assertFalse(Condition.<Integer>anyOf().compile().test(1));
+    }
+
+    @Test
+    public void compiled_predicates_give_the_same_results_as_the_composed_predicates_for_any_tree() {
+
+        Random random = new Random(42);
+        List<Condition<Integer>> leaves = List.of(
+                Condition.of(x -> x % 2 == 0), Condition.of(x -> x % 3 == 0), Condition.of(x -> x > 50),
+                Condition.of(x -> x < 10, 5), Condition.of(x -> x % 7 == 1, 2));
+
+        for (int tree = 0; tree < 200; tree++) {
+            Condition<Integer> condition = randomTree(random, leaves, 4);
+            Predicate<Integer> expected = condition.toPredicate();
+            CompiledPredicate<Integer> compiled = condition.compile(4, 16);
+            for (int value = 0; value < 100; value++) {
+                assertEquals(condition + " " + compiled.plan() + " for " + value, expected.test(value), compiled.test(value));
+            }
+        }
+    }
+
+    @Test
+    public void negations_are_pushed_down_and_nested_and_duplicated_clauses_are_flattened() {
+
+        Condition<Integer> a = Condition.of(x -> x > 0);
+        Condition<Integer> b = Condition.of(x -> x < 10);
+        Condition<Integer> c = Condition.of(x -> x == 5);
+
+        assertEquals("and(#0, #1, not #2)", allOf(a, allOf(b, a), not(anyOf(c, not(a)))).compile().plan());
+        assertEquals("or(not #0, not #1)", not(a.and(b)).compile().plan());
+        assertEquals("false", a.and(b).and(a.negate()).compile().plan());
+        assertEquals("true", noneOf(a, not(a)).negate().compile().plan());
+    }
+
+    @Test
+    public void clauses_are_reordered_to_evaluate_first_the_cheap_ones_that_short_circuit() {
+
+        AtomicLong clock = new AtomicLong();
+        Condition<Integer> expensiveAndUsuallyTrue = Condition.of(x -> clock.addAndGet(1000) > 0 && x % 100 != 0, 1);
+        Condition<Integer> cheapAndUsuallyFalse = Condition.of(x -> clock.incrementAndGet() > 0 && x % 10 == 0, 100);
+        CompiledPredicate<Integer> compiled = new CompiledPredicate<>(allOf(expensiveAndUsuallyTrue, cheapAndUsuallyFalse), 1, 1024, clock::get);
+
+        assertEquals("and(#0, #1)", compiled.plan());
+        for (int value = 0; value < 2048; value++) {
+            assertEquals(value % 100 != 0 && value % 10 == 0, compiled.test(value));
+        }
+        assertEquals("and(#1, #0)", compiled.plan());
+    }
+
+    @Test
+    public void and_and_or_keep_their_order_so_a_clause_can_guard_the_next_one() {
+
+        AtomicLong clock = new AtomicLong();
+        Condition<String> notNull = Condition.of(s -> clock.addAndGet(1000) > 0 && s != null, 100);
+        Condition<String> longerThan3 = Condition.of(s -> clock.incrementAndGet() > 0 && s.length() > 3);
+        CompiledPredicate<String> and = new CompiledPredicate<>(notNull.and(longerThan3), 1, 64, clock::get);
+        CompiledPredicate<String> orNot = new CompiledPredicate<>(notNull.negate().or(longerThan3.negate()), 1, 64, clock::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            String value = i % 100 == 0 ? null : "abc";
+            assertFalse(and.test(value));
+            assertTrue(orNot.test(value));
+        }
+        assertEquals("and(#0, #1)", and.plan());
+        assertEquals("or(not #0, not #1)", orNot.plan());
+        assertFalse(Condition.<String>of(s -> s != null).and(Condition.of(s -> s.length() > 3)).compile(1, 64).test(null));
+    }
+
+    private static Condition<Integer> randomTree(Random random, List<Condition<Integer>> leaves, int depth) {
+        int choice = depth == 0 ? 0 : random.nextInt(5);
+        switch (choice) {
+            case 0:
+                return leaves.get(random.nextInt(leaves.size()));
+            case 1:
+                return not(randomTree(random, leaves, depth - 1));
+            case 2:
+                return allOf(randomTree(random, leaves, depth - 1), randomTree(random, leaves, depth - 1), randomTree(random, leaves, depth - 1));
+            case 3:
+                return anyOf(randomTree(random, leaves, depth - 1), randomTree(random, leaves, depth - 1));
+            default:
+                return noneOf(randomTree(random, leaves, depth - 1), randomTree(random, leaves, depth - 1));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.CheckedFunction1;
+import io.vavr.Function2;
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InstrumentationTest {
+
+    private final Instrumentation instrumentation = new Instrumentation(1);
+
+    @Test
+    public void instrumented_stages_are_composed_like_the_plain_ones_and_counted_separately() {
+
+        Function<Integer, String> stringifier = instrumentation.function("stringifier", number -> number.toString());
+        Function<String, String> enthusiastic = instrumentation.function("enthusiastic", string -> string + "!!!");
+        Predicate<String> isShort = instrumentation.predicate("isShort", string -> string.length() < 5);
+        StringBuilder output = new StringBuilder();
+        Consumer<String> print = instrumentation.consumer("print", output::append);
+
+        List.of(1, 10, 100).map(stringifier.andThen(enthusiastic)).filter(isShort).forEach(print);
+
+        assertEquals("1!!!", output.toString());
+        assertEquals(List.of("enthusiastic", "isShort", "print", "stringifier"), instrumentation.snapshot().map(StageSnapshot::name));
+        assertEquals(List.of(3L, 3L, 1L, 3L), instrumentation.snapshot().map(StageSnapshot::invocations));
+        assertEquals(3L, instrumentation.snapshot().head().latencies().count());
+    }
+
+    @Test
+    public void vavr_and_checked_functions_count_the_invocations_that_throw_as_failures() {
+
+        Function2<Integer, Integer, Integer> divideBy = instrumentation.function2("divideBy", (a, b) -> a / b);
+        CheckedFunction1<String, Integer> parse = instrumentation.checkedFunction1("parse", Integer::parseInt);
+
+        assertEquals(Integer.valueOf(4), divideBy.apply(8, 2));
+        assertTrue(Try.of(() -> divideBy.apply(1, 0)).isFailure());
+        assertTrue(Try.of(() -> parse.apply("ten")).isFailure());
+
+        assertTrue(instrumentation.snapshot().get(0).toString().startsWith("divideBy invocations=2 failures=1 p50="));
+        assertEquals(1L, instrumentation.snapshot().get(1).failures());
+    }
+
+    @Test
+    public void only_one_of_every_sampling_interval_invocations_is_timed() {
+
+        Instrumentation sampled = new Instrumentation(8);
+        Function<Integer, Integer> increment = sampled.function("increment", x -> x + 1);
+
+        for (int i = 0; i < 80; i++) increment.apply(i);
+
+        assertEquals(80L, sampled.snapshot().head().invocations());
+        assertEquals(10L, sampled.snapshot().head().latencies().count());
+    }
+
+    @Test
+    public void histogram_percentiles_are_within_the_bucket_precision() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) histogram.record(value * 100);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100_000L, snapshot.count());
+        assertEquals(5_000_000, snapshot.percentile(50), 5_000_000 * 0.032);
+        assertEquals(9_900_000, snapshot.percentile(99), 9_900_000 * 0.032);
+        assertEquals(10_000_000, snapshot.max(), 10_000_000 * 0.032);
+        assertEquals(5_000_050, snapshot.mean(), 5_000_050 * 0.032);
+    }
+
+    @Test
+    public void histogram_buckets_cover_every_value_without_gaps() {
+
+        for (int bucket = 0; bucket < 1887; bucket++) {
+            assertEquals(bucket, LatencyHistogram.bucketOf(LatencyHistogram.lowestValueOf(bucket)));
+            assertEquals(bucket, LatencyHistogram.bucketOf(LatencyHistogram.highestValueOf(bucket)));
+        }
+        assertEquals(1887, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,58 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import io.vavr.Predicates;
+import io.vavr.collection.List;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MembershipTest {
+
+    @Test
+    public void membership_predicates_are_drop_in_replacements_of_vavr_is_in() {
+
+        Predicate<String> isVowel = Membership.stringIn("a", "e", "i", "o", "u", "A", "E", "I", "O", "U");
+        assertTrue(isVowel.test("e"));
+        assertFalse(isVowel.test("x"));
+
+        Predicate<Integer> isSmallPrime = Membership.isIn(2, 3, 5, 7);
+        assertTrue(isSmallPrime.test(5));
+        assertFalse(isSmallPrime.test(4));
+
+        assertTrue(Membership.isIn("a", null).test(null));
+        assertTrue(Membership.stringIn("a", null).test(null));
+        assertFalse(Membership.stringIn("a").test(null));
+    }
+
+    @Test
+    public void membership_predicates_agree_with_vavr_is_in_for_every_representation() {
+
+        Random random = new Random(42);
+        for (int size : new int[]{0, 5, 100, 10_000}) {
+            for (int spread : new int[]{1_000, Integer.MAX_VALUE}) {
+                Integer[] values = List.fill(size, () -> random.nextInt(spread) - spread / 2).toJavaArray(Integer.class);
+                Predicate<Integer> expected = Predicates.isIn(values);
+                IntPredicate ints = Membership.intIn(List.of(values).toJavaStream().mapToInt(x -> x).toArray());
+                LongPredicate longs = Membership.longIn(List.of(values).toJavaStream().mapToLong(x -> x * 1_000_000_007L).toArray());
+                Predicate<String> strings = Membership.stringIn(List.of(values).map(String::valueOf).toJavaArray(String.class));
+                Predicate<Integer> objects = Membership.isIn(values);
+
+                for (int i = 0; i < 2_000; i++) {
+                    int probe = i % 2 == 0 && size > 0 ? values[random.nextInt(size)] : random.nextInt(spread) - spread / 2;
+                    boolean member = expected.test(probe);
+                    assertEquals(member, ints.test(probe));
+                    assertEquals(member, longs.test(probe * 1_000_000_007L));
+                    assertEquals(member, strings.test(String.valueOf(probe)));
+                    assertEquals(member, objects.test(probe));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.saljuama.javafunctional.functionalinterfaces;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RefreshingSupplierTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger computations = new AtomicInteger();
+    private final ArrayList<Runnable> pendingRefreshes = new ArrayList<>();
+
+    private final Supplier<String> token = () -> "token-" + computations.incrementAndGet();
+
+    private RefreshingSupplier.Builder<String> refreshingToken() {
+        return RefreshingSupplier.<String>builder(token)
+                .refreshAfter(Duration.ofSeconds(10))
+                .executor(pendingRefreshes::add)
+                .ticker(now::get);
+    }
+
+    @Test
+    public void values_are_computed_lazily_once() {
+
+        RefreshingSupplier<String> supplier = refreshingToken().build();
+
+        assertFalse(supplier.isEvaluated());
+        assertEquals("token-1", supplier.get());
+        assertEquals("token-1", supplier.get());
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void concurrent_first_accesses_compute_the_value_once() throws Exception {
+
+        ExecutorService threads = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        RefreshingSupplier<String> supplier = RefreshingSupplier.<String>builder(() -> {
+            sleep(50);
+            return token.get();
+        }).build();
+
+        ArrayList<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(threads.submit(() -> {
+                start.await();
+                return supplier.get();
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("token-1", result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        threads.shutdown();
+    }
+
+    @Test
+    public void old_values_are_served_while_they_are_refreshed_in_the_background() {
+
+        RefreshingSupplier<String> supplier = refreshingToken().build();
+        supplier.get();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        assertEquals("token-1", supplier.get());
+        assertEquals("token-1", supplier.get());
+        assertEquals(1, pendingRefreshes.size());
+
+        pendingRefreshes.remove(0).run();
+        assertEquals("token-2", supplier.get());
+        assertEquals(0, pendingRefreshes.size());
+    }
+
+    @Test
+    public void failed_refreshes_keep_the_old_value_and_are_retried() {
+
+        AtomicInteger attempts = new AtomicInteger();
+        RefreshingSupplier<String> supplier = RefreshingSupplier.<String>builder(() -> {
+            if (attempts.incrementAndGet() == 2) throw new IllegalStateException("token service down");
+            return "token-" + attempts.get();
+        }).refreshAfter(Duration.ofSeconds(10)).executor(pendingRefreshes::add).ticker(now::get).build();
+        supplier.get();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        supplier.get();
+        pendingRefreshes.remove(0).run();
+        assertEquals("token-1", supplier.get());
+
+        pendingRefreshes.remove(0).run();
+        assertEquals("token-3", supplier.get());
+    }
+
+    @Test
+    public void expired_values_are_not_served() {
+
+        RefreshingSupplier<String> supplier = refreshingToken().expireAfter(Duration.ofSeconds(30)).build();
+        supplier.get();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        assertEquals("token-2", supplier.get());
+        assertTrue(pendingRefreshes.isEmpty());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GroupedViewTest {
+
+    private final List<String> letters = List.of("a", "b", "c", "d", "e");
+
+    private final Function<String, Boolean> isVowelFunction = x -> x.matches("[aeiouAEIOU]");
+    private final Predicate<String> isVowelPredicate = x -> x.matches("[aeiouAEIOU]");
+
+    @Test
+    public void views_have_the_same_groups_as_grouping_the_whole_list() {
+
+        GroupedView<Boolean, String> view = GroupedView.<Boolean, String>groupingBy(isVowelFunction).appendAll(letters);
+
+        assertEquals(
+                HashMap.of(
+                        true, Vector.of("a", "e"),
+                        false, Vector.of("b", "c", "d")
+                ),
+                view.groups()
+        );
+        assertEquals(letters.groupBy(isVowelFunction).mapValues(List::toVector), view.groups());
+    }
+
+    @Test
+    public void views_have_the_same_partitions_as_partitioning_the_whole_list() {
+
+        GroupedView<Boolean, String> view = GroupedView.partitioningBy(isVowelPredicate).appendAll(letters);
+
+        assertEquals(
+                Tuple.of(
+                        Vector.of("a", "e"),
+                        Vector.of("b", "c", "d")
+                ),
+                view.partition()
+        );
+        assertEquals(Tuple.of(Vector.empty(), Vector.of("b")), GroupedView.partitioningBy(isVowelPredicate).append("b").partition());
+    }
+
+    @Test
+    public void appending_classifies_only_the_new_elements() {
+
+        AtomicInteger classifications = new AtomicInteger();
+        GroupedView<Boolean, String> view = GroupedView.<Boolean, String>groupingBy(x -> {
+            classifications.incrementAndGet();
+            return isVowelFunction.apply(x);
+        }).appendAll(letters);
+
+        GroupedView<Boolean, String> grown = view.append("f").append("i");
+
+        assertEquals(7, classifications.get());
+        assertEquals(Vector.of("a", "e", "i"), grown.group(true));
+        assertEquals(Vector.of("a", "e"), view.group(true));
+        assertEquals(7, grown.size());
+    }
+
+    @Test
+    public void removing_elements_keeps_the_remaining_ones_in_order_and_drops_empty_groups() {
+
+        GroupedView<Boolean, String> view = GroupedView.<Boolean, String>groupingBy(isVowelFunction).appendAll(List.of("a", "b", "a", "e"));
+
+        assertEquals(HashMap.of(true, Vector.of("a", "e"), false, Vector.of("b")), view.remove("a").groups());
+        assertEquals(HashMap.of(true, Vector.of("a", "a", "e")), view.remove("b").groups());
+        assertSame(view, view.remove("z"));
+        assertEquals(3, view.remove("b").size());
+        assertTrue(view.removeAll(List.of("a", "b", "a", "e")).isEmpty());
+    }
+
+    @Test
+    public void random_appends_and_removals_match_grouping_from_scratch() {
+
+        Random random = new Random(42);
+        Function<Integer, Integer> lastDigit = x -> x % 10;
+        GroupedView<Integer, Integer> view = GroupedView.groupingBy(lastDigit);
+        List<Integer> events = List.empty();
+
+        for (int step = 0; step < 2_000; step++) {
+            if (events.isEmpty() || random.nextInt(3) > 0) {
+                int event = random.nextInt(100);
+                events = events.append(event);
+                view = view.append(event);
+            } else {
+                Integer event = events.get(random.nextInt(events.size()));
+                events = events.remove(event);
+                view = view.remove(event);
+            }
+        }
+
+        assertEquals(events.groupBy(lastDigit).mapValues(List::toVector), view.groups());
+        assertEquals(events.size(), view.size());
+    }
+}
@@ -0,0 +1,130 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.PartialFunction;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static io.vavr.API.$;
+import static io.vavr.API.Case;
+import static io.vavr.control.Option.none;
+import static io.vavr.control.Option.some;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PipelineTest {
+
+    private final List<Integer> numbers = List.of(1, 2, 3, 4, 5);
+
+    @Test
+    public void pipelines_give_the_same_results_as_chaining_the_list_functions() {
+
+        Predicate<Integer> isOdd = x -> x % 2 != 0;
+        Function<Integer, String> stringifyNumber = x -> x.toString();
+        Function<Integer, List<Integer>> numberAndNext = x -> List.of(x, x + 1);
+
+        assertEquals(
+                numbers.filter(isOdd).map(stringifyNumber),
+                Pipeline.from(numbers).filter(isOdd).map(stringifyNumber).toList()
+        );
+
+        assertEquals(
+                numbers.flatMap(numberAndNext).drop(3).take(4),
+                Pipeline.from(numbers).flatMap(numberAndNext).drop(3).take(4).toList()
+        );
+
+        assertEquals(
+                numbers.map(x -> x * 2).foldLeft("", (a, b) -> a + b),
+                Pipeline.from(numbers).map(x -> x * 2).foldLeft("", (a, b) -> a + b)
+        );
+
+        assertEquals(Vector.of(2, 4), Pipeline.from(numbers).filter(x -> x % 2 == 0).toVector());
+    }
+
+    class Person {
+        private final String firstName;
+        private final String lastName;
+
+        Person(String firstName, String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        String getFirstName() {
+            return firstName;
+        }
+
+        String getLastName() {
+            return lastName;
+        }
+    }
+
+    @Test
+    public void pipelines_can_filter_and_transform_using_partial_functions() {
+
+        List<Person> persons = List.of(
+                new Person("John", "Smith"),
+                new Person("Amanda", "Smith"),
+                new Person("Anna", "Tucker"),
+                new Person("Damian", "without last name")
+        );
+
+        PartialFunction<Person, String> firstNamesOfSmiths = Case($(person -> "Smith".equals(person.getLastName())), x -> x.getFirstName());
+
+        assertEquals(List.of("John", "Amanda"), Pipeline.from(persons).collect(firstNamesOfSmiths).toList());
+
+        assertEquals(List.of("John", "Amanda"), Pipeline.from(persons).filter(p -> "Smith".equals(p.getLastName())).map(p -> p.getFirstName()).toList());
+    }
+
+    class DummyHelper {
+        void doSomething(Integer x) { /* do something */ }
+    }
+
+    @Spy
+    private DummyHelper dummy = new DummyHelper();
+
+    @Test
+    public void peek_performs_the_side_effect_only_on_the_first_element_like_lists_do() {
+
+        Consumer<Integer> doSideEffect = number -> dummy.doSomething(number);
+
+        assertEquals(List.of(2, 3, 4, 5, 6), Pipeline.from(numbers).peek(doSideEffect).map(x -> x + 1).toList());
+
+        verify(dummy, times(1)).doSomething(1);
+        verify(dummy, never()).doSomething(2);
+        verify(dummy, never()).doSomething(3);
+        verify(dummy, never()).doSomething(4);
+        verify(dummy, never()).doSomething(5);
+    }
+
+    @Test
+    public void the_source_is_only_iterated_until_the_pipeline_has_all_the_elements_it_needs() {
+
+        Stream<Integer> naturalNumbers = Stream.from(1);
+
+        assertEquals(List.of(4, 16, 36), Pipeline.from(naturalNumbers).filter(x -> x % 2 == 0).map(x -> x * x).take(3).toList());
+        assertEquals(some(11), Pipeline.from(naturalNumbers).drop(10).headOption());
+        assertEquals(none(), Pipeline.from(numbers).filter(x -> x > 10).headOption());
+        assertEquals(List.empty(), Pipeline.from(naturalNumbers).take(0).toList());
+    }
+
+    @Test
+    public void pipelines_can_be_run_more_than_once() {
+
+        Pipeline<Integer> firstTwoEvens = Pipeline.from(numbers).filter(x -> x % 2 == 0).take(2);
+
+        assertEquals(List.of(2, 4), firstTwoEvens.toList());
+        assertEquals(List.of(2, 4), firstTwoEvens.toList());
+    }
+}
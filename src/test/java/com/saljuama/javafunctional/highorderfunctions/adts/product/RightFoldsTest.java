@@ -0,0 +1,64 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import org.junit.Test;
+
+import java.util.function.BiFunction;
+
+import static org.junit.Assert.assertEquals;
+
+public class RightFoldsTest {
+
+    private final List<Integer> numbers = List.of(1, 2, 3, 4, 5);
+    private final List<String> letters = List.of("a", "b", "c", "d", "e");
+
+    @Test
+    public void folding_right_gives_the_same_result_as_the_built_in_fold_right() {
+
+        BiFunction<String, String, String> concatenate = (a, b) -> a + b;
+
+        assertEquals("abcde_", RightFolds.foldRight(letters, "_", concatenate));
+        assertEquals("abcde_", RightFolds.foldRight(letters.toStream(), "_", concatenate));
+        assertEquals("_", RightFolds.foldRight(List.<String>empty(), "_", concatenate));
+    }
+
+    @Test
+    public void scanning_right_gives_the_same_result_as_the_built_in_scan_right() {
+
+        BiFunction<Integer, Integer, Integer> accumulateSum = (accumulator, number) -> accumulator + number;
+
+        assertEquals(List.of(15, 14, 12, 9, 5, 0), RightFolds.scanRight(numbers, 0, accumulateSum));
+        assertEquals(numbers.scanRight(0, accumulateSum), RightFolds.scanRight(numbers.toStream(), 0, accumulateSum));
+        assertEquals(List.of(0), RightFolds.scanRight(List.<Integer>empty(), 0, accumulateSum));
+    }
+
+    @Test
+    public void folding_right_ten_million_elements_does_not_blow_the_stack() {
+
+        List<Integer> tenMillionOnes = List.fill(10_000_000, () -> 1);
+
+        assertEquals(new Integer(10_000_000), RightFolds.foldRight(tenMillionOnes, 0, (number, accumulator) -> number + accumulator));
+
+        // (1 - (1 - (1 - ... ))) only gives the right answer when folded from the right
+        assertEquals(new Integer(0), RightFolds.foldRight(tenMillionOnes, 0, (number, accumulator) -> number - accumulator));
+    }
+
+    @Test
+    public void scanning_right_ten_million_elements_does_not_blow_the_stack() {
+
+        List<Integer> runningTotals = RightFolds.scanRight(List.fill(10_000_000, () -> 1), 0, (number, accumulator) -> number + accumulator);
+
+        assertEquals(10_000_001, runningTotals.size());
+        assertEquals(new Integer(10_000_000), runningTotals.head());
+        assertEquals(List.of(2, 1, 0), runningTotals.takeRight(3));
+    }
+
+    @Test
+    public void streams_are_folded_from_the_right_too() {
+
+        Stream<Integer> millionNumbers = Stream.range(0, 1_000_000);
+
+        assertEquals(new Long(499_999_500_000L), RightFolds.foldRight(millionNumbers, 0L, (number, accumulator) -> number + accumulator));
+    }
+}
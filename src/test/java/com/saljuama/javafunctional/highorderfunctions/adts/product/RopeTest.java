@@ -0,0 +1,142 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RopeTest {
+
+    private final Rope<Integer> numbers = Rope.of(1, 2, 3, 4, 5);
+
+    @Test
+    public void ropes_can_be_sliced_in_the_same_ways_as_lists() {
+
+        assertEquals(new Integer(1), numbers.head());
+        assertEquals(Rope.of(2, 3, 4, 5), numbers.tail());
+
+        Predicate<Integer> isFour = x -> x == 4;
+        Predicate<Integer> isNotFour = isFour.negate();
+
+        assertEquals(Rope.of(1, 2), numbers.take(2));
+        assertEquals(Rope.of(3, 4, 5), numbers.drop(2));
+
+        assertEquals(Rope.of(1, 2, 3), numbers.takeUntil(isFour));
+        assertEquals(Rope.of(4, 5), numbers.dropUntil(isFour));
+
+        assertEquals(Rope.of(1, 2, 3), numbers.takeWhile(isNotFour));
+        assertEquals(Rope.of(4, 5), numbers.dropWhile(isNotFour));
+
+        assertEquals(Rope.of(4, 5), numbers.takeRight(2));
+        assertEquals(Rope.of(1, 2, 3), numbers.dropRight(2));
+
+        assertEquals(Rope.of(1, 2, 3, 4), numbers.dropRightUntil(isFour));
+        assertEquals(Rope.of(1, 2, 3, 4), numbers.dropRightWhile(isNotFour));
+    }
+
+    @Test
+    public void slices_of_large_ropes_have_the_same_elements_as_slices_of_lists() {
+
+        List<Integer> manyNumbers = List.range(0, 10_000);
+        Rope<Integer> rope = Rope.ofAll(manyNumbers);
+        Predicate<Integer> isMultipleOf777 = x -> x > 0 && x % 777 == 0;
+
+        assertEquals(manyNumbers.tail(), rope.tail().toList());
+        assertEquals(manyNumbers.take(5_000), rope.take(5_000).toList());
+        assertEquals(manyNumbers.takeRight(1_234), rope.takeRight(1_234).toList());
+        assertEquals(manyNumbers.dropRight(1_234), rope.dropRight(1_234).toList());
+        assertEquals(manyNumbers.dropRightUntil(isMultipleOf777), rope.dropRightUntil(isMultipleOf777).toList());
+        assertEquals(manyNumbers.dropWhile(isMultipleOf777.negate()), rope.dropWhile(isMultipleOf777.negate()).toList());
+        assertEquals(List.empty(), rope.dropRightUntil(x -> x < 0).toList());
+        assertEquals(manyNumbers, rope.takeWhile(x -> x >= 0).toList());
+    }
+
+    @Test
+    public void random_slices_concatenations_and_updates_match_vectors() {
+
+        Random random = new Random(42);
+        Vector<Integer> expected = Vector.range(0, 3_000);
+        Rope<Integer> rope = Rope.tabulate(3_000, index -> index);
+
+        for (int step = 0; step < 500; step++) {
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+            switch (random.nextInt(4)) {
+                case 0:
+                    expected = expected.slice(from, to).appendAll(expected.slice(0, from));
+                    rope = rope.slice(from, to).appendAll(rope.slice(0, from));
+                    break;
+                case 1:
+                    expected = expected.appendAll(expected.take(from));
+                    rope = rope.appendAll(rope.take(from));
+                    break;
+                case 2:
+                    expected = expected.prepend(-step).append(step);
+                    rope = rope.prepend(-step).append(step);
+                    break;
+                default:
+                    if (from < expected.size()) {
+                        expected = expected.update(from, step);
+                        rope = rope.update(from, step);
+                    }
+            }
+            if (expected.size() > 20_000) {
+                expected = expected.takeRight(5_000);
+                rope = rope.takeRight(5_000);
+            }
+            assertEquals(expected, rope.toVector());
+            assertEquals(expected.size(), rope.size());
+            assertTrue("height " + rope.height() + " for size " + rope.size(), rope.height() <= 1.45 * Math.log(rope.size() + 2) / Math.log(2));
+            if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), rope.get(index));
+            }
+        }
+    }
+
+    @Test
+    public void the_tree_stays_balanced_when_built_one_element_at_a_time() {
+
+        Rope<Integer> appended = Rope.empty();
+        Rope<Integer> prepended = Rope.empty();
+        for (int i = 0; i < 100_000; i++) {
+            appended = appended.append(i);
+            prepended = prepended.prepend(i);
+        }
+
+        assertEquals(List.range(0, 100_000), appended.toList());
+        assertEquals(List.range(0, 100_000).reverse(), prepended.toList());
+        // log2(100_000 / 32) is about 11.6, an AVL tree is at most 1.44 times that tall
+        assertTrue(appended.height() <= 17);
+        assertTrue(prepended.height() <= 17);
+    }
+
+    @Test
+    public void ropes_with_the_same_elements_are_equal_however_they_were_built() {
+
+        Rope<Integer> concatenated = Rope.of(1, 2).appendAll(Rope.of(3)).appendAll(Rope.of(4, 5));
+
+        assertEquals(numbers, concatenated);
+        assertEquals(numbers.hashCode(), concatenated.hashCode());
+        assertEquals("Rope(1, 2, 3, 4, 5)", concatenated.toString());
+        assertEquals("Rope()", Rope.empty().toString());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void empty_ropes_have_no_head() {
+
+        Rope.empty().head();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexes_out_of_bounds_are_rejected() {
+
+        numbers.get(5);
+    }
+}
@@ -0,0 +1,109 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.DoubleList;
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.IntList;
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.LongList;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ZippedTest {
+
+    private final List<Integer> numbers = List.of(1, 2, 3, 4, 5);
+    private final List<String> letters = List.of("a", "b", "c", "d", "e");
+
+    private final Column<Integer> numberColumn = Column.ofAll(numbers);
+    private final Column<String> letterColumn = Column.ofAll(letters);
+
+    @Test
+    public void columns_are_zipped_in_the_same_way_as_lists() {
+
+        assertEquals(numbers.zip(letters), numberColumn.zip(letterColumn).toList());
+
+        Column<String> someLetters = Column.of("a", "b", "c");
+        assertEquals(List.of("a", "b", "c").zipAll(numbers, "x", 0), someLetters.zipAll(numberColumn, "x", 0).toList());
+        List<String> moreLetters = letters.appendAll(List.of("f", "g"));
+        assertEquals(moreLetters.zipAll(numbers, "x", 0), Column.ofAll(moreLetters).zipAll(numberColumn, "x", 0).toList());
+        assertEquals(List.of("a", "b", "c").zip(numbers), Zipped.zip(List.of("a", "b", "c"), numbers).toList());
+    }
+
+    @Test
+    public void columns_are_combined_without_pairs() {
+
+        assertEquals(letters.zipWith(numbers, (letter, number) -> letter + number), letterColumn.zipWith(numberColumn, (letter, number) -> letter + number).toList());
+        assertEquals(letters.zipWithIndex((letter, index) -> letter + index), letterColumn.zipWithIndex((letter, index) -> letter + index).toList());
+    }
+
+    @Test
+    public void unzipping_shares_the_columns() {
+
+        Zipped<Integer, String> zipped = numberColumn.zip(letterColumn);
+
+        assertSame(numberColumn, zipped.left());
+        assertSame(letterColumn, zipped.right());
+        assertEquals(Tuple.of(numberColumn, letterColumn), zipped.unzip());
+
+        Tuple2<List<Integer>, List<Integer>> unzippedList = numbers.unzip(x -> Tuple.of(x, x + 10));
+        Zipped<Integer, Integer> unzippedColumns = numberColumn.unzip(x -> x, x -> x + 10);
+        assertEquals(unzippedList._1, unzippedColumns.left().toList());
+        assertEquals(unzippedList._2, unzippedColumns.right().toList());
+    }
+
+    @Test
+    public void zipped_columns_convert_to_and_from_vavr_pairs() {
+
+        List<Tuple2<Integer, String>> pairs = numbers.zip(letters);
+
+        assertEquals(numberColumn.zip(letterColumn), Zipped.ofAll(pairs));
+        assertEquals(pairs, Zipped.ofAll(pairs).toList());
+        assertEquals(Tuple.of(3, "c"), Zipped.ofAll(pairs).get(2));
+        assertEquals(List.empty(), Zipped.ofAll(List.<Tuple2<Integer, String>>empty()).toList());
+    }
+
+    @Test
+    public void pairs_are_processed_as_two_arguments() {
+
+        Zipped<Integer, String> zipped = numberColumn.zip(letterColumn);
+
+        assertEquals(Column.of("1a", "2b", "3c", "4d", "5e"), zipped.map((number, letter) -> number + letter));
+        assertEquals(Column.of(2, 4).zip(Column.of("b", "d")), zipped.filter((number, letter) -> number % 2 == 0));
+        assertEquals("a1b2c3d4e5", zipped.swap().foldLeft("", (accumulator, letter, number) -> accumulator + letter + number));
+        assertEquals(Column.of(2, 3).zip(Column.of("b", "c")), zipped.slice(1, 3));
+        assertEquals("Zipped((1, a), (2, b))", zipped.take(2).toString());
+
+        ArrayList<String> visited = new ArrayList<>();
+        zipped.drop(3).forEach((number, letter) -> visited.add(letter + number));
+        assertEquals(Arrays.asList("d4", "e5"), visited);
+    }
+
+    @Test
+    public void columns_of_numbers_are_unboxed_to_primitive_lists() {
+
+        assertEquals(IntList.of(1, 1, 1, 1, 1), letterColumn.mapToInt(String::length));
+        assertEquals(15L, numberColumn.mapToLong(x -> x).sum());
+    }
+
+    @Test
+    public void primitive_lists_are_zipped_as_unboxed_columns() {
+
+        Column<Integer> ints = Column.ofInts(IntList.of(1, 2, 3, 4, 5));
+        Column<Double> doubles = Column.ofDoubles(DoubleList.of(0.5, 1.5, 2.5));
+
+        assertEquals(numberColumn, ints);
+        assertEquals(numberColumn.hashCode(), ints.hashCode());
+        assertEquals(numbers.zip(letters), ints.zip(letterColumn).toList());
+        assertEquals(List.of(1.5, 3.5, 5.5), ints.zipWith(doubles, (number, half) -> number + half).toList());
+        assertEquals(List.of(Tuple.of(3, 2.5)), ints.zip(doubles).drop(2).toList());
+        assertEquals(List.of(4, 5, 0), ints.drop(3).zipAll(doubles, 0, 0.0).left().toList());
+        assertEquals(LongList.of(10, 20, 30), Column.ofLongs(LongList.of(1, 2, 3)).mapToLong(x -> x * 10));
+        assertEquals("Column(2, 3)", ints.slice(1, 3).toString());
+        assertSame(Column.empty(), Column.ofLongs(LongList.empty()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveGroupingTest {
+
+    private final List<String> words = List.of("one", "two", "three", "four", "five", "six", "seven");
+
+    @Test
+    public void distinct_by_primitive_key_keeps_the_first_element_of_every_key_like_vavr() {
+
+        assertEquals(words.distinctBy(String::length), PrimitiveGrouping.distinctByInt(words, String::length));
+        assertEquals(List.of(0L, -1L, 5L), PrimitiveGrouping.distinctByLong(List.of(0L, -1L, 0L, 5L, -1L), x -> x));
+    }
+
+    @Test
+    public void group_by_primitive_key_has_the_same_groups_than_vavr_in_encounter_order() {
+
+        Map<Integer, List<String>> groups = PrimitiveGrouping.groupByInt(words, String::length);
+
+        assertEquals(words.groupBy(String::length).toJavaMap(), groups.toJavaMap());
+        assertEquals(List.of(3, 5, 4), List.ofAll(groups.keySet()));
+    }
+
+    @Test
+    public void open_addressing_tables_grow_and_keep_every_key() {
+
+        LongOpenHashSet set = new LongOpenHashSet(4);
+        LongObjectOpenHashMap<String> map = new LongObjectOpenHashMap<>(4);
+        for (long i = -50_000; i < 50_000; i++) {
+            assertTrue(set.add(i * 31));
+            map.computeIfAbsent(i * 31, Long::toString);
+        }
+
+        assertEquals(100_000, set.size());
+        assertEquals(100_000, map.size());
+        assertFalse(set.add(0));
+        assertTrue(set.contains(-31));
+        assertFalse(set.contains(1));
+        assertEquals("-1550000", map.get(-50_000 * 31L));
+        assertEquals(null, map.get(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void open_addressing_tables_do_not_grow_past_the_largest_array() {
+
+        assertEquals(1 << 30, Hashing.doubledTableSize(1 << 29));
+        Hashing.doubledTableSize(1 << 30);
+    }
+
+    @Test
+    public void approximate_distinct_never_repeats_a_key_and_loses_few_unique_ones() {
+
+        Random random = new Random(42);
+        List<Long> keys = List.fill(200_000, () -> (long) random.nextInt(100_000));
+        int exactCount = PrimitiveGrouping.distinctByLong(keys, x -> x).size();
+
+        List<Long> approximate = PrimitiveGrouping.distinctByLongApproximately(keys, x -> x, 100_000, 0.01);
+
+        assertEquals(approximate.size(), approximate.distinct().size());
+        assertTrue(approximate.size() > exactCount * 0.99);
+    }
+
+    @Test
+    public void approximate_count_distinct_is_within_the_relative_error() {
+
+        Random random = new Random(42);
+        List<Long> keys = List.fill(1_000_000, () -> (long) random.nextInt(300_000));
+        int exactCount = PrimitiveGrouping.distinctByLong(keys, x -> x).size();
+
+        long estimate = PrimitiveGrouping.countDistinctByLongApproximately(keys, x -> x, 0.01);
+
+        assertEquals(exactCount, estimate, exactCount * 0.03);
+        assertEquals(3, PrimitiveGrouping.countDistinctByLongApproximately(List.of(1L, 2L, 3L, 2L), x -> x, 0.01));
+    }
+}
@@ -0,0 +1,153 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.product.primitives;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives.IntOption;
+import com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives.LongOption;
+import io.vavr.collection.List;
+import org.junit.Test;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveListsTest {
+
+    private final IntList numbers = IntList.of(1, 2, 3, 4, 5);
+
+    @Test
+    public void primitive_lists_are_mapped_and_filtered_without_boxing() {
+
+        IntUnaryOperator timesTen = x -> x * 10;
+        IntPredicate isEven = x -> x % 2 == 0;
+
+        assertEquals(IntList.of(10, 20, 30, 40, 50), numbers.map(timesTen));
+        assertEquals(IntList.of(2, 4), numbers.filter(isEven));
+        assertEquals(List.of("1", "2", "3", "4", "5"), numbers.mapToObj(x -> Integer.toString(x)));
+    }
+
+    @Test
+    public void primitive_lists_are_folded_like_vavr_lists() {
+
+        IntBinaryOperator subtract = (a, b) -> a - b;
+
+        assertEquals(List.of(1, 2, 3, 4, 5).foldLeft(0, (a, b) -> a - b).intValue(), numbers.foldLeft(0, subtract));
+        assertEquals(List.of(1, 2, 3, 4, 5).foldRight(0, (a, b) -> a - b).intValue(), numbers.foldRight(0, subtract));
+        assertEquals(15, numbers.reduce(Integer::sum));
+        assertEquals(15L, numbers.sum());
+    }
+
+    @Test
+    public void primitive_lists_can_be_iterated_with_an_operation_that_accumulates_the_value() {
+
+        IntBinaryOperator accumulateSum = (accumulator, number) -> accumulator + number;
+
+        assertEquals(IntList.of(0, 1, 3, 6, 10, 15), numbers.scan(0, accumulateSum));
+        assertEquals(IntList.of(15, 14, 12, 9, 5, 0), numbers.scanRight(0, accumulateSum));
+    }
+
+    @Test
+    public void primitive_lists_can_be_sorted_and_combined() {
+
+        assertEquals(numbers, IntList.of(4, 2, 5, 1, 3).sorted());
+        assertEquals(IntList.of(5, 4, 3, 2, 1), numbers.reverse());
+
+        IntBinaryOperator multiply = (a, b) -> a * b;
+        assertEquals(IntList.of(10, 40, 90), numbers.zipWith(IntList.of(10, 20, 30), multiply));
+        assertEquals(IntList.of(0, 2, 6, 12, 20), numbers.zipWith(IntList.range(0, 5), multiply));
+    }
+
+    @Test
+    public void primitive_lists_are_sliced_sharing_the_same_values() {
+
+        assertEquals(1, numbers.head());
+        assertEquals(IntList.of(2, 3, 4, 5), numbers.tail());
+        assertEquals(IntList.of(1, 2), numbers.take(2));
+        assertEquals(IntList.of(3, 4, 5), numbers.drop(2));
+        assertEquals(IntList.of(4, 5), numbers.takeRight(2));
+        assertEquals(IntList.of(1, 2, 3), numbers.dropRight(2));
+        assertEquals(IntList.of(3), numbers.drop(1).dropRight(1).slice(1, 2));
+        assertSame(IntList.empty(), numbers.drop(10));
+
+        assertEquals(IntList.of(0, 1, 2, 3, 4, 5, 6), numbers.prepend(0).append(6));
+        assertEquals(IntList.of(4, 5, 1, 2), numbers.takeRight(2).appendAll(numbers.take(2)));
+    }
+
+    @Test
+    public void primitive_lists_can_be_queried_to_find_if_they_contain_an_element_satisfying_a_condition() {
+
+        IntPredicate isEven = x -> x % 2 == 0;
+        IntPredicate isTen = x -> x == 10;
+
+        assertEquals(IntOption.some(2), numbers.find(isEven));
+        assertEquals(IntOption.none(), numbers.find(isTen));
+
+        assertTrue(numbers.exists(isEven));
+        assertFalse(numbers.exists(isTen));
+        assertTrue(numbers.forAll(x -> x > 0));
+        assertFalse(numbers.forAll(isEven));
+        assertTrue(IntList.empty().forAll(isTen));
+
+        assertTrue(numbers.contains(3));
+        assertEquals(2, numbers.indexOf(3));
+        assertEquals(-1, numbers.indexOf(10));
+        assertEquals(1, numbers.indexWhere(isEven));
+        assertEquals(0, numbers.drop(1).indexOf(2));
+        assertEquals(-1, numbers.take(1).indexOf(2));
+    }
+
+    @Test
+    public void double_lists_contain_the_same_values_as_lists_of_doubles() {
+
+        DoubleList values = DoubleList.of(0.0, Double.NaN, 1.5);
+        List<Double> boxed = List.of(0.0, Double.NaN, 1.5);
+
+        assertEquals(boxed.contains(Double.NaN), values.contains(Double.NaN));
+        assertEquals(boxed.contains(-0.0), values.contains(-0.0));
+        assertEquals(boxed.indexOf(1.5), values.indexOf(1.5));
+        assertEquals(LongOption.some(20L), LongList.of(10L, 20L).find(x -> x > 10));
+    }
+
+    @Test
+    public void primitive_lists_convert_from_and_to_vavr_lists() {
+
+        assertEquals(numbers, IntList.ofAll(List.of(1, 2, 3, 4, 5)));
+        assertEquals(List.of(2, 3, 4), numbers.slice(1, 4).toList());
+        assertEquals(numbers.hashCode(), IntList.range(1, 6).hashCode());
+        assertEquals("IntList(2, 3)", numbers.slice(1, 3).toString());
+    }
+
+    @Test
+    public void there_are_long_and_double_specializations_too() {
+
+        LongBinaryOperator accumulateLongs = (accumulator, number) -> accumulator + number;
+        LongList bigNumbers = LongList.tabulate(3, index -> 10_000_000_000L * (index + 1));
+
+        assertEquals(LongList.of(0L, 10_000_000_000L, 30_000_000_000L, 60_000_000_000L), bigNumbers.scan(0L, accumulateLongs));
+        assertEquals(LongList.of(20_000_000_000L), bigNumbers.filter(x -> x == 20_000_000_000L));
+
+        DoubleBinaryOperator accumulateDoubles = (accumulator, number) -> accumulator + number;
+        DoubleList halves = DoubleList.of(0.5, 1.5, 2.5);
+
+        assertEquals(4.5, halves.fold(0.0, accumulateDoubles), 0.0);
+        assertEquals(DoubleList.of(1.0, 3.0, 5.0), halves.map(x -> x * 2));
+        assertEquals(DoubleList.of(0.5, 1.5, 2.5), DoubleList.of(2.5, 0.5, 1.5).sorted());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void int_ranges_with_more_values_than_an_array_can_hold_are_rejected() {
+
+        IntList.range(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void long_ranges_with_more_values_than_an_array_can_hold_are_rejected() {
+
+        LongList.range(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,174 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Try;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncTryTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    private final AsyncTry<String> successfulStringyNumber = AsyncTry.of(executor, () -> "10");
+    private final AsyncTry<String> failedStringyNumber = AsyncTry.of(executor, () -> {
+        throw new RuntimeException();
+    });
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void async_try_values_are_mapped_filtered_and_recovered_like_try() {
+
+        Function<String, AsyncTry<Integer>> maybeParseNumber = x -> AsyncTry.of(executor, () -> Integer.parseInt(x));
+
+        assertEquals(Try.success(10), successfulStringyNumber.map(Integer::valueOf).await());
+        assertEquals(Try.success(10), successfulStringyNumber.flatMap(maybeParseNumber).await());
+        assertTrue(failedStringyNumber.flatMap(maybeParseNumber).await().isFailure());
+        assertTrue(AsyncTry.success("ten").flatMap(maybeParseNumber).await().getCause() instanceof NumberFormatException);
+        assertEquals(Try.success("10"), successfulStringyNumber.filter(x -> x.matches("[0-9]+")).await());
+        assertTrue(successfulStringyNumber.filter(x -> x.matches("[a-z]+")).await().getCause() instanceof NoSuchElementException);
+        assertEquals(Try.success("0"), failedStringyNumber.recover(e -> "0").await());
+        assertEquals(Try.success(0), failedStringyNumber.flatMap(maybeParseNumber).recoverWith(e -> maybeParseNumber.apply("0")).await());
+    }
+
+    @Test
+    public void exceptions_thrown_by_peek_actions_become_failures() {
+
+        Try<String> result = successfulStringyNumber.peek(x -> {
+            throw new IllegalStateException();
+        }).await();
+
+        assertTrue(result.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void independent_computations_run_concurrently() {
+
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AsyncTry<Integer> first = AsyncTry.of(executor, () -> waitForEachOther(bothStarted, 1));
+        AsyncTry<Integer> second = AsyncTry.of(executor, () -> waitForEachOther(bothStarted, 2));
+
+        assertEquals(Try.success(3), first.zipWith(second, Integer::sum).await());
+    }
+
+    @Test
+    public void sequence_keeps_the_order_and_fails_with_the_first_failure() {
+
+        List<AsyncTry<Integer>> computations = List.range(0, 50).map(x -> AsyncTry.of(executor, () -> x));
+        AsyncTry<Integer> failure = AsyncTry.failure(new IllegalStateException());
+
+        assertEquals(Try.success(List.range(0, 50)), AsyncTry.sequence(computations).await().map(Seq::toList));
+        assertTrue(AsyncTry.sequence(computations.append(failure)).await().getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void computations_rejected_by_the_executor_are_failures() {
+
+        ExecutorService stopped = Executors.newSingleThreadExecutor();
+        stopped.shutdown();
+
+        Try<Integer> rejected = AsyncTry.of(stopped, () -> 10).await();
+
+        assertTrue(rejected.getCause() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void limiter_never_runs_more_computations_than_its_concurrency() {
+
+        AsyncLimiter limiter = AsyncLimiter.builder().executor(executor).maxConcurrency(3).maxQueued(5).build();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<AsyncTry<Integer>> computations = List.range(0, 100).map(x -> limiter.submit(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(1);
+            running.decrementAndGet();
+            return x;
+        }));
+
+        assertEquals(Try.success(List.range(0, 100)), AsyncTry.sequence(computations).await().map(Seq::toList));
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void limiter_blocks_submitters_while_the_queue_is_full() throws InterruptedException {
+
+        AsyncLimiter limiter = AsyncLimiter.builder().executor(executor).maxConcurrency(1).maxQueued(1).build();
+        CountDownLatch release = new CountDownLatch(1);
+        limiter.submit(() -> release.await(1, TimeUnit.SECONDS));
+        limiter.submit(() -> "queued");
+
+        Thread producer = new Thread(() -> limiter.submit(() -> "blocked"));
+        producer.start();
+        producer.join(100);
+
+        assertTrue(producer.isAlive());
+        release.countDown();
+        producer.join(1000);
+        assertFalse(producer.isAlive());
+    }
+
+    @Test
+    public void limiter_fails_computations_interrupted_while_running() throws InterruptedException {
+
+        AsyncLimiter limiter = AsyncLimiter.builder().executor(executor).maxConcurrency(1).build();
+        CountDownLatch started = new CountDownLatch(1);
+        AsyncTry<String> interrupted = limiter.submit(() -> {
+            started.countDown();
+            TimeUnit.SECONDS.sleep(10);
+            return "not interrupted";
+        });
+        started.await();
+        executor.shutdownNow();
+
+        Throwable cause = interrupted.await().getCause();
+        assertTrue(cause instanceof CancellationException);
+        assertTrue(cause.getCause() instanceof InterruptedException);
+    }
+
+    @Test
+    public void limiter_fails_submissions_interrupted_while_waiting_for_the_queue() throws InterruptedException {
+
+        AsyncLimiter limiter = AsyncLimiter.builder().executor(executor).maxConcurrency(1).maxQueued(1).build();
+        CountDownLatch release = new CountDownLatch(1);
+        limiter.submit(() -> release.await(1, TimeUnit.SECONDS));
+        limiter.submit(() -> "queued");
+
+        AtomicReference<Try<String>> result = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            Thread.currentThread().interrupt();
+            result.set(limiter.submit(() -> "blocked").await());
+        });
+        producer.start();
+        producer.join(1000);
+        release.countDown();
+
+        assertTrue(result.get().getCause() instanceof CancellationException);
+        assertTrue(result.get().getCause().getCause() instanceof InterruptedException);
+    }
+
+    private static int waitForEachOther(CountDownLatch latch, int value) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(1, TimeUnit.SECONDS)) throw new IllegalStateException("computations did not run concurrently");
+        return value;
+    }
+}
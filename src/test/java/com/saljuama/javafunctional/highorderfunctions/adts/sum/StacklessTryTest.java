@@ -0,0 +1,67 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum;
+
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static io.vavr.control.Option.none;
+import static io.vavr.control.Option.some;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StacklessTryTest {
+
+    private final List<String> inputs = List.of(
+            "0", "10", "-10", "+10", "007", "-0", "", "-", "+", " 10", "10 ", "1_000", "ten", "10.5", "1e3",
+            "2147483647", "2147483648", "-2147483648", "-2147483649", "\u0661\u0662",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+            "99999999999999999999", ".5", "5.", ".", "-.5e-3", "1e", "1e+", "1.5f", "2D", "NaN", "-Infinity", "0x1p3",
+            "  3.25  ", "1.2.3", "e5", "Infinityx", null, "123x", "N/A", "NULL", "Invalid", "x", "-0x1.8P-2d", "0x.8p1",
+            "0X1P+3f", "0x", "0x1", "0x1p", "0xp3", "0x1.p1", "0xg1p1", " NaN ", "+NaN", "Infinityf", "Inf", "nan");
+
+    @Test
+    public void parse_functions_accept_and_reject_the_same_input_as_the_jdk() {
+
+        inputs.forEach(input -> {
+            assertSameOutcome(input, Try.of(() -> Integer.parseInt(input)), StacklessTry.parseInt(input));
+            assertSameOutcome(input, Try.of(() -> Long.parseLong(input)), StacklessTry.parseLong(input));
+            assertSameOutcome(input, Try.of(() -> Double.parseDouble(input)), StacklessTry.parseDouble(input));
+        });
+    }
+
+    @Test
+    public void failures_have_no_stack_trace() {
+
+        Try<Integer> failedParse = StacklessTry.parseInt("ten");
+        Try<String> failure = StacklessTry.failure("not found");
+
+        assertTrue(failedParse.getCause() instanceof NumberFormatException);
+        assertEquals("For input string: \"ten\"", failedParse.getCause().getMessage());
+        assertEquals(0, failedParse.getCause().getStackTrace().length);
+        List.of("123x", "N/A", "NULL", "Invalid", "0x1").forEach(input ->
+                assertEquals(0, StacklessTry.parseDouble(input).getCause().getStackTrace().length));
+        assertEquals("not found", failure.getCause().getMessage());
+        assertEquals(0, failure.getCause().getStackTrace().length);
+    }
+
+    @Test
+    public void parse_functions_can_be_used_as_lifted_functions() {
+
+        Function<String, Try<Integer>> maybeParseNumber = StacklessTry::parseInt;
+
+        assertEquals(Try.success(10), Try.success("10").flatMap(maybeParseNumber));
+        assertEquals(some(10L), StacklessTry.parseLongOption("10"));
+        assertEquals(none(), StacklessTry.parseDoubleOption("ten"));
+    }
+
+    private static void assertSameOutcome(String input, Try<?> expected, Try<?> actual) {
+        assertEquals("success of " + input, expected.isSuccess(), actual.isSuccess());
+        if (expected.isSuccess()) {
+            assertEquals("value of " + input, expected.get(), actual.get());
+        } else {
+            assertTrue("failure of " + input, expected.getCause().getClass().isInstance(actual.getCause()));
+        }
+    }
+}
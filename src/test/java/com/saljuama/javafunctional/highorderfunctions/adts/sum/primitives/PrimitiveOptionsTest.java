@@ -0,0 +1,71 @@
+package com.saljuama.javafunctional.highorderfunctions.adts.sum.primitives;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveOptionsTest {
+
+    private final IntOption maybeNumber = IntOption.some(10);
+    private final IntOption noNumber = IntOption.none();
+
+    @Test
+    public void primitive_options_are_mapped_and_filtered_like_vavr_options() {
+
+        IntUnaryOperator timesTwo = x -> x * 2;
+        IntPredicate greaterThanFive = x -> x > 5;
+        IntFunction<IntOption> halfOfEvenNumbers = x -> IntOption.when(x % 2 == 0, x / 2);
+
+        assertEquals(IntOption.some(20), maybeNumber.map(timesTwo));
+        assertEquals(noNumber, noNumber.map(timesTwo));
+        assertEquals(maybeNumber, maybeNumber.filter(greaterThanFive));
+        assertEquals(noNumber, IntOption.some(3).filter(greaterThanFive));
+        assertEquals(IntOption.some(5), maybeNumber.flatMap(halfOfEvenNumbers));
+        assertEquals(noNumber, IntOption.some(3).flatMap(halfOfEvenNumbers));
+        assertEquals(Option.some("10"), maybeNumber.mapToObj(Integer::toString));
+        assertEquals(LongOption.some(30L), LongOption.some(10L).map(x -> x * 3));
+        assertEquals(DoubleOption.none(), DoubleOption.some(0.5).filter(x -> x > 1));
+    }
+
+    @Test
+    public void primitive_options_have_default_values_and_convert_to_vavr_types() {
+
+        assertEquals(10, maybeNumber.getOrElse(0));
+        assertEquals(0, noNumber.getOrElse(0));
+        assertEquals(-1, noNumber.getOrElse(() -> -1));
+        assertEquals(Try.success(10), maybeNumber.toTry());
+        assertTrue(noNumber.toTry().getCause() instanceof NoSuchElementException);
+        assertEquals(Option.some(10), maybeNumber.toOption());
+        assertEquals(maybeNumber, IntOption.ofOption(Option.some(10)));
+        assertEquals(noNumber, IntOption.ofNullable(null));
+        assertEquals("IntOption(10)", maybeNumber.toString());
+        assertEquals("IntOption()", noNumber.toString());
+    }
+
+    @Test
+    public void side_effects_are_performed_only_when_the_value_is_defined() {
+
+        AtomicInteger seen = new AtomicInteger();
+
+        noNumber.peek(seen::addAndGet);
+        assertEquals(0, seen.get());
+
+        assertEquals(maybeNumber, maybeNumber.peek(seen::addAndGet));
+        assertEquals(10, seen.get());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void getting_the_value_of_an_empty_option_fails() {
+
+        noNumber.filter(x -> true).get();
+    }
+}
@@ -0,0 +1,93 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+import static io.vavr.control.Option.none;
+import static io.vavr.control.Option.some;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelFoldsTest {
+
+    private final List<Integer> numbers = List.of(1, 2, 3, 4, 5);
+    private final List<String> letters = List.of("a", "b", "c", "d", "e");
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    // chunks of 2 elements, so even the 5 elements examples are folded in parallel
+    private final ParallelFolds parallelFolds = new ParallelFolds(pool, 2);
+
+    @After
+    public void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void parallel_folds_give_the_same_results_as_sequential_folds_when_the_operation_is_associative() {
+
+        BiFunction<String, String, String> concatenate = (a, b) -> a + b;
+        Monoid<String> concatenation = Monoid.of("", concatenate::apply);
+
+        assertEquals(letters.fold("_", concatenate), parallelFolds.fold(letters, "_", concatenation));
+
+        assertEquals(letters.reduce(concatenate), parallelFolds.fold(letters, concatenation));
+
+        assertEquals(some(letters.reduce(concatenate)), parallelFolds.reduce(letters, concatenate::apply));
+
+        assertEquals(none(), parallelFolds.reduce(List.<String>empty(), concatenate::apply));
+
+        assertEquals("", parallelFolds.fold(List.<String>empty(), concatenation));
+    }
+
+    @Test
+    public void mapped_values_are_folded_without_building_the_mapped_sequence() {
+
+        assertEquals("12345", parallelFolds.foldMap(numbers, x -> x.toString(), Monoid.stringConcatenation()));
+    }
+
+    @Test
+    public void parallel_scans_give_the_same_running_totals_as_sequential_scans() {
+
+        BiFunction<Integer, Integer, Integer> accumulateSum = (accumulator, number) -> accumulator + number;
+
+        assertEquals(numbers.scan(0, accumulateSum), parallelFolds.scan(numbers, Monoid.intSum()));
+
+        assertEquals(List.of(""), parallelFolds.scan(List.<String>empty(), Monoid.stringConcatenation()));
+    }
+
+    @Test
+    public void large_sequences_are_split_in_chunks_folded_by_different_workers() {
+
+        Vector<Long> manyNumbers = Vector.tabulate(1_000_000, index -> (long) index);
+        ParallelFolds defaultFolds = ParallelFolds.commonPool();
+
+        assertEquals(manyNumbers.foldLeft(0L, Long::sum), defaultFolds.fold(manyNumbers, Monoid.longSum()));
+        assertEquals(manyNumbers.scan(0L, Long::sum), defaultFolds.scan(manyNumbers, Monoid.longSum()).toVector());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void non_associative_operations_are_rejected_when_verifying_the_monoid_laws() {
+
+        // (1 - 2) - 3 != 1 - (2 - 3), folding this in parallel would give a different result than sequentially
+        Monoid.verified(0, (a, b) -> a - b, List.of(1, 2, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrong_identity_elements_are_rejected_when_verifying_the_monoid_laws() {
+
+        // "_" is combined once per chunk when used as identity, see fold(seq, zero, monoid) instead
+        Monoid.verified("_", String::concat, letters);
+    }
+
+    @Test
+    public void lawful_operations_pass_the_verification() {
+
+        Monoid<Integer> max = Monoid.verified(Integer.MIN_VALUE, Math::max, numbers);
+
+        assertEquals(new Integer(5), parallelFolds.fold(numbers, max));
+    }
+}
@@ -0,0 +1,81 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.DoubleList;
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.IntList;
+import com.saljuama.javafunctional.highorderfunctions.adts.product.primitives.LongList;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelSearchTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ForkJoinPool singleWorkerPool = new ForkJoinPool(1);
+    // chunks of 100 elements, so even small lists are searched in parallel
+    private final ParallelSearch parallelSearch = new ParallelSearch(pool, 100);
+
+    private final IntList numbers = IntList.range(0, 10_000);
+
+    @After
+    public void shutdownPools() {
+        pool.shutdownNow();
+        singleWorkerPool.shutdownNow();
+    }
+
+    @Test
+    public void parallel_searches_give_the_same_results_as_sequential_searches() {
+
+        for (int target : new int[]{0, 99, 100, 5_555, 9_999, -1}) {
+            assertEquals(numbers.indexWhere(x -> x == target), parallelSearch.indexWhere(numbers, x -> x == target));
+            assertEquals(numbers.exists(x -> x == target), parallelSearch.exists(numbers, x -> x == target));
+            assertEquals(numbers.forAll(x -> x != target), parallelSearch.forAll(numbers, x -> x != target));
+        }
+        assertEquals(-1, parallelSearch.indexWhere(IntList.empty(), x -> true));
+        assertTrue(parallelSearch.forAll(IntList.empty(), x -> false));
+    }
+
+    @Test
+    public void the_first_match_is_found_even_when_later_chunks_match_first() {
+
+        IntList manyMatches = IntList.tabulate(10_000, index -> index % 1_000 == 999 ? 1 : 0);
+
+        assertEquals(999, parallelSearch.indexWhere(manyMatches, x -> x == 1));
+        assertEquals(manyMatches.indexOf(1), parallelSearch.indexWhere(manyMatches, x -> x == 1));
+    }
+
+    @Test
+    public void chunks_after_a_match_are_not_searched() {
+
+        AtomicInteger tested = new AtomicInteger();
+        ParallelSearch sequentialPool = new ParallelSearch(singleWorkerPool, 100);
+
+        assertTrue(sequentialPool.exists(numbers, x -> tested.incrementAndGet() > 0 && x == 150));
+
+        // with one worker the chunks run in order, so only the first two chunks are searched
+        assertEquals(151, tested.get());
+    }
+
+    @Test
+    public void there_are_long_and_double_specializations_too() {
+
+        LongList bigNumbers = LongList.tabulate(1_000, index -> 10_000_000_000L * index);
+        DoubleList halves = DoubleList.tabulate(1_000, index -> index + 0.5);
+
+        assertEquals(500, parallelSearch.indexWhere(bigNumbers, x -> x >= 5_000_000_000_000L));
+        assertTrue(parallelSearch.forAll(bigNumbers, x -> x % 10_000_000_000L == 0));
+        assertEquals(10, parallelSearch.indexWhere(halves, x -> x > 10));
+        assertFalse(parallelSearch.exists(halves, x -> x == Math.floor(x)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void chunks_must_not_be_empty() {
+
+        new ParallelSearch(ForkJoinPool.commonPool(), 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelTraverseTest {
+
+    private final Function<String, Try<Integer>> maybeParseNumber = x -> Try.of(() -> Integer.parseInt(x));
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    // batches of 2 elements, so even the small examples are evaluated in parallel
+    private final ParallelTraverse parallelTraverse = new ParallelTraverse(pool, 2);
+
+    @After
+    public void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void traverse_gives_the_same_result_as_mapping_and_sequencing() {
+
+        List<String> numbers = List.of("1", "2", "3", "4", "5");
+        List<String> someNotNumbers = List.of("1", "two", "3", "four", "5");
+
+        assertEquals(Try.sequence(numbers.map(maybeParseNumber)), parallelTraverse.traverse(numbers, maybeParseNumber));
+        assertEquals(Try.success(List.of(1, 2, 3, 4, 5)), parallelTraverse.traverseChecked(numbers, Integer::parseInt));
+        assertEquals(Try.success(List.empty()), parallelTraverse.traverse(List.<String>empty(), maybeParseNumber));
+
+        Try<Seq<Integer>> failure = parallelTraverse.traverse(someNotNumbers, maybeParseNumber);
+        assertEquals("For input string: \"two\"", failure.getCause().getMessage());
+    }
+
+    @Test
+    public void traverse_stops_evaluating_elements_after_the_first_failure() {
+
+        AtomicInteger evaluated = new AtomicInteger();
+        List<Integer> numbers = List.range(0, 100_000);
+
+        Try<Seq<Integer>> result = new ParallelTraverse(pool, 100).traverseChecked(numbers, x -> {
+            evaluated.incrementAndGet();
+            if (x == 1000) throw new IllegalArgumentException("failed at " + x);
+            return x;
+        });
+
+        assertEquals("failed at 1000", result.getCause().getMessage());
+        assertTrue(evaluated.get() < numbers.size());
+    }
+
+    @Test
+    public void traverse_can_accumulate_every_failure_in_order() {
+
+        List<String> someNotNumbers = List.of("1", "two", "3", "four", "5");
+
+        Either<Seq<Throwable>, Seq<Integer>> failures = parallelTraverse.traverseAccumulating(someNotNumbers, maybeParseNumber);
+        Either<Seq<Throwable>, Seq<Integer>> values = parallelTraverse.traverseAccumulating(List.of("1", "2"), maybeParseNumber);
+
+        assertEquals(List.of("For input string: \"two\"", "For input string: \"four\""), failures.getLeft().map(Throwable::getMessage));
+        assertEquals(List.of(1, 2), values.get());
+    }
+
+    @Test
+    public void batches_larger_than_the_input_evaluate_every_element() {
+
+        ParallelTraverse oneBatch = new ParallelTraverse(pool, Integer.MAX_VALUE);
+
+        assertEquals(Try.success(List.of(1, 2, 3)), oneBatch.traverseChecked(List.of("1", "2", "3"), Integer::parseInt));
+        assertEquals("For input string: \"x\"", oneBatch.traverseChecked(List.of("1", "x", "3"), Integer::parseInt).getCause().getMessage());
+    }
+}
@@ -0,0 +1,137 @@
+package com.saljuama.javafunctional.highorderfunctions.parallel;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+public class SorterTest {
+
+    private final List<Integer> numbers = List.of(1, 2, 3, 4, 5);
+
+    private final Function<Integer, Integer> changeSignOnOddNumbers = x -> {
+        if (x % 2 != 0) return x * -1;
+        else return x;
+    };
+
+    private final Comparator<Integer> descendingOrder = (x, y) -> y - x;
+
+    private Path tempDirectory;
+
+    @Before
+    public void createTempDirectory() throws IOException {
+        tempDirectory = Files.createTempDirectory("sorter-test");
+    }
+
+    @After
+    public void deleteTempDirectory() throws IOException {
+        Files.delete(tempDirectory);
+    }
+
+    @Test
+    public void sorting_in_memory_gives_the_same_ordering_as_lists() {
+
+        Sorter sorter = Sorter.builder().tempDirectory(tempDirectory).build();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), sorter.sorted(List.of(3, 5, 1, 4, 2)));
+        assertEquals(List.of(5, 3, 1, 2, 4), sorter.sortBy(numbers, changeSignOnOddNumbers));
+        assertEquals(List.of(5, 4, 3, 2, 1), sorter.sorted(numbers, descendingOrder));
+        assertEquals(List.of(4, 2, 1, 3, 5), sorter.sortBy(numbers, descendingOrder, changeSignOnOddNumbers));
+        assertEquals(List.empty(), sorter.sorted(List.<Integer>empty()));
+    }
+
+    @Test
+    public void sorting_spilling_to_disk_gives_the_same_ordering_as_lists() {
+
+        Sorter sorter = Sorter.builder().maxElementsInMemory(2).tempDirectory(tempDirectory).build();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), sorter.sorted(List.of(3, 5, 1, 4, 2)));
+        assertEquals(List.of(5, 3, 1, 2, 4), sorter.sortBy(numbers, changeSignOnOddNumbers));
+        assertEquals(List.of(5, 4, 3, 2, 1), sorter.sorted(numbers, descendingOrder));
+        assertEquals(List.of(4, 2, 1, 3, 5), sorter.sortBy(numbers, descendingOrder, changeSignOnOddNumbers));
+
+        assertEquals("all the runs are deleted once merged", 0, tempFiles());
+    }
+
+    @Test
+    public void keys_are_extracted_once_per_element_instead_of_once_per_comparison() {
+
+        AtomicInteger extractions = new AtomicInteger();
+        Function<Integer, Integer> countedKey = x -> {
+            extractions.incrementAndGet();
+            return changeSignOnOddNumbers.apply(x);
+        };
+        List<Integer> manyNumbers = List.range(0, 10_000);
+
+        Sorter.builder().build().sortBy(manyNumbers, countedKey);
+
+        assertEquals(10_000, extractions.get());
+    }
+
+    @Test
+    public void sorting_is_stable_across_spilled_runs() {
+
+        List<Tuple2<String, Integer>> pairs = List.range(0, 1000).map(i -> Tuple.of("key" + (i % 7), i));
+        Sorter sorter = Sorter.builder().maxElementsInMemory(64).tempDirectory(tempDirectory).build();
+
+        assertEquals(pairs.sortBy(Tuple2::_1), sorter.sortBy(pairs, Tuple2::_1));
+    }
+
+    @Test
+    public void large_inputs_are_sorted_in_many_runs_and_merged() {
+
+        Random random = new Random(42);
+        List<Long> randomNumbers = List.fill(100_000, () -> random.nextLong());
+        Sorter sorter = Sorter.builder().maxElementsInMemory(10_000).tempDirectory(tempDirectory).build();
+
+        assertEquals(randomNumbers.sorted(), sorter.sorted(randomNumbers));
+        assertEquals(randomNumbers.sorted(Comparator.reverseOrder()), List.ofAll(sorter.sortByIterator(randomNumbers, Comparator.<Long>reverseOrder(), Function.identity())));
+        assertEquals(0, tempFiles());
+    }
+
+    @Test
+    public void runs_beyond_the_fan_in_are_merged_in_several_passes() {
+
+        List<Tuple2<String, Integer>> pairs = List.range(0, 1000).map(i -> Tuple.of("key" + (i % 7), i));
+        Sorter sorter = Sorter.builder().maxElementsInMemory(10).mergeFanIn(3).tempDirectory(tempDirectory).build();
+
+        assertEquals(pairs.sortBy(Tuple2::_1), sorter.sortBy(pairs, Tuple2::_1));
+        assertEquals(0, tempFiles());
+    }
+
+    @Test
+    public void closing_an_iterator_not_read_until_the_end_deletes_its_runs() {
+
+        Sorter sorter = Sorter.builder().maxElementsInMemory(10).tempDirectory(tempDirectory).build();
+
+        try (Sorter.SortedIterator<Integer> sorted = sorter.sortByIterator(List.range(0, 100).reverse(), Comparator.<Integer>naturalOrder(), Function.identity())) {
+            assertEquals(List.of(0, 1, 2), List.ofAll(sorted.take(3)));
+            assertEquals(10, tempFiles());
+        }
+        assertEquals(0, tempFiles());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void runs_are_merged_at_least_two_at_a_time() {
+
+        Sorter.builder().mergeFanIn(1);
+    }
+
+    private int tempFiles() {
+        File[] files = tempDirectory.toFile().listFiles();
+        return files == null ? 0 : files.length;
+    }
+}
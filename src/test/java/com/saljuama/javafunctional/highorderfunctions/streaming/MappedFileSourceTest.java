@@ -0,0 +1,83 @@
+package com.saljuama.javafunctional.highorderfunctions.streaming;
+
+import io.vavr.collection.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+public class MappedFileSourceTest {
+
+    private final Function<ByteBuffer, String> decode = record -> StandardCharsets.UTF_8.decode(record).toString();
+
+    private Path file;
+
+    @Before
+    public void createFile() throws IOException {
+        file = Files.createTempFile("mapped-file-source-test", ".txt");
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.delete(file);
+    }
+
+    @Test
+    public void lines_of_a_file_are_mapped_filtered_and_folded_like_a_list() throws IOException {
+
+        List<Integer> numbers = List.rangeClosed(1, 1000);
+        Files.write(file, numbers.map(String::valueOf).mkString("\n").getBytes(StandardCharsets.UTF_8));
+
+        MappedFileSource source = MappedFileSource.of(file);
+
+        assertEquals(numbers.map(x -> x * 2).toList(), source.lines().map(decode).map(Integer::parseInt).map(x -> x * 2).toList());
+        assertEquals(numbers.filter(x -> x % 7 == 0).toList(), source.lines().map(decode).map(Integer::parseInt).filter(x -> x % 7 == 0).toList());
+        assertEquals(numbers.foldLeft(0L, (acc, x) -> acc + x), source.lines().foldLeft(0L, (acc, line) -> acc + Integer.parseInt(decode.apply(line))));
+        assertEquals(numbers.map(String::valueOf).toList(), source.linesStream().map(decode).toList());
+    }
+
+    @Test
+    public void records_crossing_the_end_of_a_region_are_read_from_the_next_one() throws IOException {
+
+        List<String> words = List.of("alpha", "beta", "", "gamma", "delta", "epsilon", "z");
+        Files.write(file, (words.mkString(";") + ";").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(words, MappedFileSource.of(file, 8).records((byte) ';').map(decode).toList());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void records_larger_than_a_region_are_rejected() throws IOException {
+
+        Files.write(file, "short;much longer record".getBytes(StandardCharsets.UTF_8));
+
+        MappedFileSource.of(file, 8).records((byte) ';').toList();
+    }
+
+    @Test
+    public void fixed_length_records_are_zero_copy_slices_of_the_file() throws IOException {
+
+        ByteBuffer content = ByteBuffer.allocate(100 * Long.BYTES);
+        for (long i = 0; i < 100; i++) content.putLong(i * i);
+        Files.write(file, content.array());
+
+        List<ByteBuffer> records = MappedFileSource.of(file, 20).fixedLengthRecords(Long.BYTES).toList();
+
+        assertEquals(100, records.size());
+        assertEquals(List.range(0L, 100L).map(i -> i * i), records.map(record -> record.getLong(0)));
+        assertEquals(true, records.forAll(record -> record.isDirect() && record.isReadOnly()));
+    }
+
+    @Test
+    public void empty_files_have_no_records() {
+
+        assertEquals(List.empty(), MappedFileSource.of(file).lines().toList());
+    }
+}
@@ -0,0 +1,140 @@
+package com.saljuama.javafunctional.highorderfunctions.streaming;
+
+import com.saljuama.javafunctional.highorderfunctions.parallel.Monoid;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+public class WindowsTest {
+
+    private final List<Integer> numbers = List.of(1, 2, 3, 4, 5);
+
+    private <T> List<Integer> sums(Windows<T> windows, List<T> elements, Function<T, Integer> value) {
+        return List.ofAll(windows.aggregate(elements.iterator(), value, Monoid.intSum())).map(Window::value);
+    }
+
+    @Test
+    public void tumbling_count_windows_aggregate_the_same_groups_as_grouped() {
+
+        assertEquals(List.of(3, 7, 5), sums(Windows.tumbling(2), numbers, x -> x));
+        assertEquals(List.of(15), sums(Windows.tumbling(5), numbers, x -> x));
+        assertEquals(List.of(15), sums(Windows.tumbling(10), numbers, x -> x));
+        assertEquals(List.empty(), sums(Windows.tumbling(2), List.<Integer>empty(), x -> x));
+    }
+
+    @Test
+    public void sliding_count_windows_aggregate_the_same_windows_as_sliding() {
+
+        assertEquals(List.of(6, 9, 12), sums(Windows.sliding(3, 1), numbers, x -> x));
+
+        List<Integer> manyNumbers = List.range(0, 50);
+        for (int size = 1; size <= 7; size++) {
+            for (int slide = 1; slide <= 7; slide++) {
+                for (int length = 0; length <= 20; length++) {
+                    List<Integer> elements = manyNumbers.take(length);
+                    List<Integer> expected = List.ofAll(elements.sliding(size, slide)).map(window -> window.sum().intValue());
+                    assertEquals("size " + size + ", slide " + slide + ", length " + length, expected, sums(Windows.sliding(size, slide), elements, x -> x));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void windows_know_their_boundaries_and_number_of_elements() {
+
+        assertEquals(
+                List.of(
+                        new Window<>(0, 4, 4, 10, true),
+                        new Window<>(2, 6, 3, 12, true)
+                ),
+                List.ofAll(Windows.<Integer>sliding(4, 2).aggregate(numbers.iterator(), x -> x, Monoid.intSum()))
+        );
+    }
+
+    @Test
+    public void time_windows_group_the_elements_by_timestamp_skipping_the_gaps() {
+
+        List<Long> timestamps = List.of(0L, 999L, 1000L, 1500L, 4200L, 4999L, 5000L);
+        Windows<Long> perSecond = Windows.tumbling(Duration.ofSeconds(1), timestamp -> timestamp);
+
+        assertEquals(
+                List.of(
+                        new Window<>(0, 1000, 2, 2, true),
+                        new Window<>(1000, 2000, 2, 2, true),
+                        new Window<>(4000, 5000, 2, 2, true),
+                        new Window<>(5000, 6000, 1, 1, true)
+                ),
+                List.ofAll(perSecond.aggregate(timestamps.iterator(), timestamp -> 1, Monoid.intSum()))
+        );
+    }
+
+    @Test
+    public void sliding_time_windows_include_every_window_with_elements() {
+
+        List<Long> timestamps = List.of(1000L, 1500L, 2200L);
+        Windows<Long> twoSecondsEverySecond = Windows.sliding(Duration.ofSeconds(2), Duration.ofSeconds(1), timestamp -> timestamp);
+
+        assertEquals(
+                List.of(
+                        new Window<>(0, 2000, 2, 2, true),
+                        new Window<>(1000, 3000, 3, 3, true),
+                        new Window<>(2000, 4000, 1, 1, true)
+                ),
+                List.ofAll(twoSecondsEverySecond.aggregate(timestamps.iterator(), timestamp -> 1, Monoid.intSum()))
+        );
+    }
+
+    @Test
+    public void scans_emit_the_running_total_of_the_open_window_after_every_element() {
+
+        assertEquals(
+                List.of(
+                        new Window<>(0, 2, 1, 1, false),
+                        new Window<>(0, 2, 2, 3, false),
+                        new Window<>(0, 2, 2, 3, true),
+                        new Window<>(2, 4, 1, 3, false),
+                        new Window<>(2, 4, 2, 7, false),
+                        new Window<>(2, 4, 2, 7, true),
+                        new Window<>(4, 6, 1, 5, false),
+                        new Window<>(4, 6, 1, 5, true)
+                ),
+                List.ofAll(Windows.<Integer>tumbling(2).scan(numbers.iterator(), x -> x, Monoid.intSum()))
+        );
+    }
+
+    @Test
+    public void unbounded_inputs_are_aggregated_lazily() {
+
+        AtomicLong counter = new AtomicLong();
+        Iterator<Long> endless = Iterator.continually(counter::incrementAndGet);
+
+        Iterator<Window<Long>> windows = Windows.<Long>tumbling(1000).aggregate(endless, x -> x, Monoid.longSum());
+
+        assertEquals(new Long(500_500), windows.next().value());
+        assertEquals(1001, counter.get());
+
+        Stream<Window<Long>> fromStream = Windows.<Long>sliding(3, 3).aggregate(Stream.iterate(1L, x -> x + 1), x -> x, Monoid.longSum());
+        assertEquals(List.of(6L, 15L, 24L), fromStream.take(3).map(Window::value).toList());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void timestamps_going_back_are_rejected() {
+
+        Windows.<Long>tumbling(Duration.ofSeconds(1), timestamp -> timestamp)
+                .aggregate(List.of(2000L, 1000L).iterator(), timestamp -> 1, Monoid.intSum())
+                .toList();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void windows_must_not_be_empty() {
+
+        Windows.tumbling(0);
+    }
+}
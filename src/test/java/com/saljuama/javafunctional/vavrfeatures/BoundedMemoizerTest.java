@@ -0,0 +1,172 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Function8;
+import io.vavr.collection.Stream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BoundedMemoizerTest {
+
+    class DummyHelper {
+        Integer square(Integer x) {
+            return x * x;
+        }
+
+        Integer add(Integer a, Integer b) {
+            return a + b;
+        }
+    }
+
+    @Spy
+    private final DummyHelper dummyHelper = new DummyHelper();
+
+    @Test
+    public void memoized_functions_are_executed_once_per_arguments_while_the_result_is_cached() {
+
+        BoundedMemoizer memoizer = BoundedMemoizer.builder().build();
+        Function2<Integer, Integer, Integer> memoizedAdd = memoizer.memoize((a, b) -> dummyHelper.add(a, b));
+
+        Stream.range(0, 10).forEach(x -> assertEquals(new Integer(3), memoizedAdd.apply(1, 2)));
+        assertEquals(new Integer(5), memoizedAdd.apply(2, 3));
+
+        verify(dummyHelper, times(1)).add(1, 2);
+        verify(dummyHelper, times(1)).add(2, 3);
+        assertEquals(9, memoizer.stats().hits());
+        assertEquals(2, memoizer.stats().misses());
+    }
+
+    @Test
+    public void least_recently_used_results_are_evicted_when_going_over_the_maximum_weight() {
+
+        BoundedMemoizer memoizer = BoundedMemoizer.builder()
+                .evictionPolicy(EvictionPolicy.LRU)
+                .maximumWeight(2)
+                .build();
+        Function1<Integer, Integer> memoizedSquare = memoizer.memoize(x -> dummyHelper.square(x));
+
+        memoizedSquare.apply(1);
+        memoizedSquare.apply(2);
+        memoizedSquare.apply(1);
+        memoizedSquare.apply(3); // evicts 2, the least recently used
+
+        memoizedSquare.apply(1);
+        memoizedSquare.apply(2);
+
+        verify(dummyHelper, times(1)).square(1);
+        verify(dummyHelper, times(2)).square(2);
+        assertEquals(2, memoizer.size());
+        assertEquals(2, memoizer.stats().evictions());
+    }
+
+    @Test
+    public void least_frequently_used_results_are_evicted_when_going_over_the_maximum_weight() {
+
+        BoundedMemoizer memoizer = BoundedMemoizer.builder()
+                .evictionPolicy(EvictionPolicy.LFU)
+                .maximumWeight(2)
+                .build();
+        Function1<Integer, Integer> memoizedSquare = memoizer.memoize(x -> dummyHelper.square(x));
+
+        memoizedSquare.apply(1);
+        memoizedSquare.apply(1);
+        memoizedSquare.apply(1);
+        memoizedSquare.apply(2);
+        memoizedSquare.apply(3); // evicts 2, read fewer times than 1
+
+        memoizedSquare.apply(1);
+        memoizedSquare.apply(2);
+
+        verify(dummyHelper, times(1)).square(1);
+        verify(dummyHelper, times(2)).square(2);
+        assertEquals(2, memoizer.stats().evictions());
+    }
+
+    @Test
+    public void results_expire_after_the_configured_time_since_they_were_computed() {
+
+        AtomicLong nanos = new AtomicLong();
+        BoundedMemoizer memoizer = BoundedMemoizer.builder()
+                .expireAfterWrite(Duration.ofSeconds(10))
+                .ticker(nanos::get)
+                .build();
+        Function1<Integer, Integer> memoizedSquare = memoizer.memoize(x -> dummyHelper.square(x));
+
+        memoizedSquare.apply(4);
+        nanos.addAndGet(Duration.ofSeconds(9).toNanos());
+        memoizedSquare.apply(4);
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        memoizedSquare.apply(4);
+
+        verify(dummyHelper, times(2)).square(4);
+        assertEquals(1, memoizer.stats().evictions());
+    }
+
+    @Test
+    public void the_weigher_bounds_the_cache_by_the_size_of_the_results() {
+
+        BoundedMemoizer memoizer = BoundedMemoizer.builder()
+                .maximumWeight(10)
+                .weigher(result -> ((String) result).length())
+                .build();
+        Function1<Integer, String> repeatX = memoizer.memoize(times -> Stream.fill(times, () -> "x").mkString());
+
+        repeatX.apply(4);
+        repeatX.apply(5);
+        assertEquals(9, memoizer.weight());
+
+        repeatX.apply(3); // 12 > 10, evicts the 4 x's
+        assertEquals(8, memoizer.weight());
+        assertEquals(2, memoizer.size());
+    }
+
+    @Test
+    public void functions_of_any_arity_share_the_same_bounded_cache() {
+
+        BoundedMemoizer memoizer = BoundedMemoizer.builder().maximumWeight(3).build();
+        Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> sum8 =
+                memoizer.memoize((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        Function2<Integer, Integer, Integer> sum2 = memoizer.memoize((a, b) -> a + b);
+
+        assertEquals(new Integer(36), sum8.apply(1, 2, 3, 4, 5, 6, 7, 8));
+        assertEquals(new Integer(36), sum8.apply(1, 2, 3, 4, 5, 6, 7, 8));
+        assertEquals(new Integer(3), sum2.apply(1, 2));
+        assertEquals(new Integer(7), sum2.apply(3, 4));
+        assertEquals(new Integer(11), sum2.apply(5, 6));
+
+        assertEquals(3, memoizer.size());
+        assertEquals(1, memoizer.stats().hits());
+    }
+
+    @Test
+    public void the_cache_stays_bounded_with_a_skewed_key_distribution() {
+
+        BoundedMemoizer memoizer = BoundedMemoizer.builder()
+                .evictionPolicy(EvictionPolicy.LFU)
+                .maximumWeight(100)
+                .build();
+        Function1<Integer, Integer> memoizedSquare = memoizer.memoize(x -> x * x);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = (int) (-Math.log(1 - random.nextDouble()) * 20); // exponential distribution, most keys are below 100
+            assertEquals(new Integer(key * key), memoizedSquare.apply(key));
+        }
+
+        assertEquals(100, memoizer.size());
+        assertTrue(memoizer.stats().hitRate() > 0.9);
+    }
+}
@@ -0,0 +1,120 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function0;
+import io.vavr.Function1;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConcurrentMemoizerTest {
+
+    private static final int THREADS = 16;
+
+    class DummyHelper {
+        Integer dummyInt() {
+            sleepQuietly(); // makes the callers overlap while the value is being computed
+            return 1337;
+        }
+    }
+
+    @Spy
+    private final DummyHelper dummyHelper = new DummyHelper();
+
+    @Test
+    public void memoized_functions_are_executed_once_and_results_are_cached_even_when_called_from_many_threads() throws Exception {
+
+        Function0<Integer> dummyFunction = () -> dummyHelper.dummyInt();
+        Function0<Integer> memoizedDummyFunction = new ConcurrentMemoizer().memoize(dummyFunction);
+
+        List<Integer> results = inParallel(() -> Stream.range(0, 10).map(x -> memoizedDummyFunction.apply()).last());
+
+        assertEquals(List.fill(THREADS, () -> 1337), results);
+        verify(dummyHelper, times(1)).dummyInt();
+    }
+
+    @Test
+    public void each_key_is_computed_exactly_once_across_threads() throws Exception {
+
+        AtomicInteger computations = new AtomicInteger();
+        ConcurrentMemoizer memoizer = new ConcurrentMemoizer();
+        Function1<Integer, Integer> memoizedSquare = memoizer.memoize(x -> {
+            computations.incrementAndGet();
+            return x * x;
+        });
+
+        List<Integer> sums = inParallel(() -> Stream.range(0, 1000).map(memoizedSquare).sum().intValue());
+
+        assertEquals(List.fill(THREADS, () -> 332833500), sums);
+        assertEquals(1000, computations.get());
+        assertEquals(1000, memoizer.size());
+        assertEquals(1000, memoizer.stats().misses());
+        assertEquals(THREADS * 1000 - 1000, memoizer.stats().hits());
+    }
+
+    @Test
+    public void failed_computations_are_not_cached() {
+
+        AtomicInteger attempts = new AtomicInteger();
+        Function1<String, Integer> memoizedParse = new ConcurrentMemoizer().memoize(x -> {
+            attempts.incrementAndGet();
+            return Integer.parseInt(x);
+        });
+
+        Stream.range(0, 3).forEach(x -> {
+            try {
+                memoizedParse.apply("not a number");
+                fail("should propagate the exception of the computation");
+            } catch (NumberFormatException ignored) {
+                // expected
+            }
+        });
+
+        assertEquals(3, attempts.get());
+    }
+
+    private static <T> List<T> inParallel(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            java.util.List<Future<T>> futures = new java.util.ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            java.util.List<T> results = new java.util.ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return List.ofAll(results);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(50L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
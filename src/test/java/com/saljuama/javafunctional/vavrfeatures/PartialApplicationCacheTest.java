@@ -0,0 +1,60 @@
+package com.saljuama.javafunctional.vavrfeatures;
+
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Function3;
+import io.vavr.Function4;
+import io.vavr.Function8;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PartialApplicationCacheTest {
+
+    private final PartialApplicationCache cache = new PartialApplicationCache();
+
+    @Test
+    public void partially_applied_functions_behave_like_vavr_partial_application() {
+
+        Function2<Integer, Integer, Integer> sum = (a, b) -> a + b;
+        Function3<String, String, String, String> greet = (greeting, separator, name) -> greeting + separator + name;
+
+        assertEquals(sum.apply(2).apply(3), cache.partial(sum, 2).apply(3));
+        assertEquals(greet.apply("Hello", ", ").apply("World"), cache.partial(greet, "Hello", ", ").apply("World"));
+        assertEquals("null, World", cache.partial(greet, null).apply(", ", "World"));
+    }
+
+    @Test
+    public void binding_equal_arguments_again_returns_the_same_function_instance() {
+
+        Function3<String, String, String, String> greet = (greeting, separator, name) -> greeting + separator + name;
+
+        Function1<String, String> hello = cache.partial(greet, "Hello", ", ");
+
+        assertSame(hello, cache.partial(greet, "Hello", ", "));
+        assertSame(hello, cache.partial(greet, new String("Hello"), new String(", ")));
+        assertNotSame(hello, cache.partial(greet, "Hi", ", "));
+        assertSame(cache.partial(greet, "Hello"), cache.partial(greet, "Hello"));
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void every_arity_up_to_eight_can_be_partially_applied() {
+
+        Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> sumOfEight =
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h;
+
+        Function4<Integer, Integer, Integer, Integer, Integer> sumOfFourPlusTen = cache.partial(sumOfEight, 1, 2, 3, 4);
+
+        assertEquals(Integer.valueOf(36), sumOfFourPlusTen.apply(5, 6, 7, 8));
+        assertSame(sumOfFourPlusTen, cache.partial(sumOfEight, 1, 2, 3, 4));
+        assertEquals(Integer.valueOf(36), cache.partial(sumOfEight, 1, 2, 3, 4, 5, 6, 7).apply(8));
+        assertTrue(cache.size() > 0);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}